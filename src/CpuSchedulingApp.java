@@ -1,13 +1,21 @@
+import cli.BatchCommand;
+import generator.GenerateCommand;
 import implementation.FcfsScheduler;
+import implementation.PriorityScheduler;
 import implementation.RoundRobinScheduler;
+import implementation.Schedulers;
 import implementation.SjfNonPreemptiveScheduler;
+import implementation.SrtfScheduler;
 import model.CpuAlgo;
 import model.ProcessInput;
 import model.ProcessStats;
+import server.ServeCommand;
+import sweep.SweepCommand;
 import task.Scheduler;
 import util.TablePrinter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Scanner;
@@ -17,10 +25,20 @@ import java.util.Scanner;
  * 1. First-Come First-Served (FCFS)
  * 2. Shortest Job First Non-Preemptive (SJF Non-Preemptive)
  * 3. Round Robin
+ * 4. Shortest Remaining Time First (SRTF, Preemptive)
+ * 5. Multilevel Feedback Queue (MLFQ)
+ * 6. Priority (Non-Preemptive, with aging)
+ * 7. Priority (Preemptive, with aging)
  * <p>
  * This application allows the user to simulate CPU scheduling algorithms by
  * entering process details and selecting an algorithm. The results include
  * process statistics such as completion time, turnaround time, and waiting time.
+ * <p>
+ * Passing `sweep` as the first argument runs a parallel parameter sweep instead
+ * of the interactive prompt (see `sweep.SweepCommand`), and `generate` writes or
+ * schedules a synthetic workload (see `generator.GenerateCommand`), and `serve`
+ * runs a local HTTP scheduling service (see `server.ServeCommand`); any other
+ * arguments run a single non-interactive batch schedule (see `cli.BatchCommand`).
  */
 public class CpuSchedulingApp {
 
@@ -29,16 +47,35 @@ public class CpuSchedulingApp {
      * It prompts the user to select a scheduling algorithm, input process details,
      * and displays the scheduling results in a tabular format.
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments; `sweep ...` selects the sweep mode,
+     *             `generate ...` the generate mode, `serve ...` the server
+     *             mode, and any other arguments select the batch mode.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("sweep")) {
+            System.exit(SweepCommand.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && args[0].equals("generate")) {
+            System.exit(GenerateCommand.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && args[0].equals("serve")) {
+            System.exit(ServeCommand.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0) {
+            System.exit(BatchCommand.run(args));
+        }
+
         Scanner sc = new Scanner(System.in);
 
         System.out.println("CPU Scheduling Algorithms:");
         System.out.println("1. FCFS");
         System.out.println("2. SJF (Non-Preemptive)");
         System.out.println("3. Round Robin");
-        System.out.print("Enter your choice (1/2/3): ");
+        System.out.println("4. SRTF (Preemptive)");
+        System.out.println("5. MLFQ");
+        System.out.println("6. Priority (Non-Preemptive)");
+        System.out.println("7. Priority (Preemptive)");
+        System.out.print("Enter your choice (1/2/3/4/5/6/7): ");
 
         int choice = readInt(sc);
         CpuAlgo algorithm;
@@ -56,15 +93,20 @@ public class CpuSchedulingApp {
             return;
         }
 
+        boolean prioritized = algorithm == CpuAlgo.PRIORITY_NON_PREEMPTIVE
+                || algorithm == CpuAlgo.PRIORITY_PREEMPTIVE;
         List<ProcessInput> inputs = new ArrayList<>();
-        System.out.println("Enter process details (PID ArrivalTime BurstTime)");
+        System.out.println(prioritized
+                ? "Enter process details (PID ArrivalTime BurstTime Priority), lower priority values run first"
+                : "Enter process details (PID ArrivalTime BurstTime)");
         for (int i = 0; i < n; i++) {
             System.out.printf("Process %d: ", (i + 1));
             int pid = sc.nextInt();
             int arrival = sc.nextInt();
             int burst = sc.nextInt();
+            int priority = prioritized ? sc.nextInt() : ProcessInput.DEFAULT_PRIORITY;
             try {
-                inputs.add(new ProcessInput(pid, arrival, burst));
+                inputs.add(new ProcessInput(pid, arrival, burst, priority));
             } catch (IllegalArgumentException ex) {
                 System.out.println("Invalid values: " + ex.getMessage());
                 i--;
@@ -85,13 +127,32 @@ public class CpuSchedulingApp {
                     return;
                 }
             }
+            case SRTF -> scheduler = new SrtfScheduler();
+            case MLFQ -> {
+                System.out.print("Enter Time Quantum of the top level: ");
+                int tq = readInt(sc);
+                try {
+                    scheduler = Schedulers.create(CpuAlgo.MLFQ, tq);
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Invalid time quantum. Exiting.");
+                    return;
+                }
+            }
+            case PRIORITY_NON_PREEMPTIVE, PRIORITY_PREEMPTIVE -> scheduler = Schedulers.create(algorithm, 0);
             default -> throw new IllegalStateException("Unexpected algorithm: " + algorithm);
         }
 
         List<ProcessStats> results = scheduler.schedule(inputs);
         System.out.println();
-        System.out.println("Scheduling Algorithm: " + algorithmReadableName(algorithm));
+        System.out.println("Scheduling Algorithm: " + algorithm.readableName());
         TablePrinter.print(results);
+        if (scheduler instanceof SrtfScheduler srtf) {
+            System.out.println("Context Switches: " + srtf.getContextSwitches());
+            System.out.println("Preemptions: " + srtf.getPreemptions());
+        }
+        if (scheduler instanceof PriorityScheduler priority) {
+            System.out.println("Preemptions: " + priority.getPreemptions());
+        }
     }
 
     /**
@@ -110,20 +171,6 @@ public class CpuSchedulingApp {
             }
         }
     }
-
-    /**
-     * Converts a `CpuAlgo` enumeration value to a human-readable name.
-     *
-     * @param alg The `CpuAlgo` enumeration value representing the selected algorithm.
-     * @return A string representing the human-readable name of the algorithm.
-     */
-    private static String algorithmReadableName(CpuAlgo alg) {
-        return switch (alg) {
-            case FCFS -> "First-Come First-Served (FCFS)";
-            case SJF_NON_PREEMPTIVE -> "Shortest Job First (Non-Preemptive)";
-            case ROUND_ROBIN -> "Round Robin";
-        };
-    }
 }
 
 /*
@@ -0,0 +1,118 @@
+package bench;
+
+import implementation.IncrementalSchedule;
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.Workload;
+import util.Histogram;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * The `IncrementalBenchmark` class measures the latency of single-process edits
+ * on an `IncrementalSchedule` and checks the results against full rescheduling.
+ * <p>
+ * For each workload shape and algorithm it applies random edits, alternating
+ * between a new burst time and an arrival time moved by up to 50 time units, and
+ * records how long each edit takes and how many completion times it recomputed.
+ * The shapes keep the CPU close to fully loaded, where busy periods are long and
+ * an edit can ripple far; `--spread` multiplies every arrival time to lower the
+ * load (the default 1.5 gives about 70% utilization).
+ * Every `--verify` edits, and after the last one, the edited workload is
+ * scheduled from scratch and the completion times are compared. Algorithms
+ * without incremental support reschedule in full on each edit, so they run at
+ * most 20 edits.
+ * <p>
+ * Usage: {@code java bench.IncrementalBenchmark [--shapes S1,S2] [--size N]
+ * [--edits E] [--verify V] [--spread F] [--quantum Q]}
+ */
+public class IncrementalBenchmark {
+
+    private static final long SEED = 42;
+    private static final int FALLBACK_EDITS = 20;
+
+    public static void main(String[] args) {
+        List<WorkloadShape> shapes = List.of(WorkloadShape.values());
+        List<CpuAlgo> algorithms = List.of(CpuAlgo.FCFS, CpuAlgo.SJF_NON_PREEMPTIVE, CpuAlgo.ROUND_ROBIN);
+        int size = 1_000_000;
+        int edits = 10_000;
+        int verifyEvery = 1_000;
+        double spread = 1.5;
+        int quantum = 4;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shapes" -> shapes = Arrays.stream(value.split(",")).map(WorkloadShape::valueOf).toList();
+                case "--size" -> size = Integer.parseInt(value);
+                case "--edits" -> edits = Integer.parseInt(value);
+                case "--verify" -> verifyEvery = Integer.parseInt(value);
+                case "--spread" -> spread = Double.parseDouble(value);
+                case "--quantum" -> quantum = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        System.out.printf("%-20s %-12s %10s %8s %12s %12s %12s %14s %12s %9s%n",
+                "algorithm", "shape", "size", "edits", "mean us", "p50 us", "p99 us",
+                "mean replayed", "full ms", "verified");
+        for (WorkloadShape shape : shapes) {
+            Workload source = WorkloadShape.spread(shape.generate(size, SEED, false), spread);
+            for (CpuAlgo algorithm : algorithms) {
+                long start = System.nanoTime();
+                IncrementalSchedule schedule = new IncrementalSchedule(algorithm, quantum, source);
+                double fullMillis = (System.nanoTime() - start) / 1e6;
+
+                int count = schedule.isIncremental() ? edits : Math.min(edits, FALLBACK_EDITS);
+                SplittableRandom random = new SplittableRandom(SEED);
+                Histogram latencies = new Histogram();
+                long replayed = 0;
+                boolean verified = true;
+                for (int e = 0; e < count; e++) {
+                    int p = random.nextInt(size);
+                    int arrival = schedule.getWorkload().arrivalTime(p);
+                    int burst = 1 + random.nextInt(20);
+                    int moved = Math.max(0, arrival + random.nextInt(101) - 50);
+
+                    long editStart = System.nanoTime();
+                    if ((e & 1) == 0) {
+                        schedule.setBurstTime(p, burst);
+                    } else {
+                        schedule.setArrivalTime(p, moved);
+                    }
+                    latencies.record((System.nanoTime() - editStart) / 1000);
+                    replayed += schedule.getLastReplayed();
+
+                    if ((e + 1) % verifyEvery == 0 || e == count - 1) {
+                        verified &= matchesFullRun(schedule, algorithm, quantum);
+                    }
+                }
+
+                System.out.printf(Locale.ROOT, "%-20s %-12s %10d %8d %12.2f %12d %12d %14.1f %12.3f %9s%n",
+                        algorithm, shape, size, count,
+                        latencies.getMean(),
+                        latencies.percentile(50),
+                        latencies.percentile(99),
+                        (double) replayed / count,
+                        fullMillis,
+                        verified ? "yes" : "NO");
+            }
+        }
+    }
+
+    private static boolean matchesFullRun(IncrementalSchedule schedule, CpuAlgo algorithm, int quantum) {
+        Workload edited = schedule.getWorkload();
+        Workload expected = edited.copy();
+        Schedulers.create(algorithm, quantum).schedule(expected);
+        for (int i = 0; i < edited.size(); i++) {
+            if (edited.completionTime(i) != expected.completionTime(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,133 @@
+package bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * The `Measurement` class times an operation over warm-up and measured
+ * iterations and records its wall-clock time, the bytes it allocates on the
+ * calling thread, and the garbage collections it triggers.
+ */
+public class Measurement {
+
+    private final int iterations;
+    private final double meanNanos;
+    private final long minNanos;
+    private final double allocatedBytesPerOp;
+    private final long gcCount;
+    private final long gcMillis;
+
+    private Measurement(int iterations, double meanNanos, long minNanos,
+                        double allocatedBytesPerOp, long gcCount, long gcMillis) {
+        this.iterations = iterations;
+        this.meanNanos = meanNanos;
+        this.minNanos = minNanos;
+        this.allocatedBytesPerOp = allocatedBytesPerOp;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * Runs the operation `warmup` times unmeasured, then `iterations` times measured.
+     *
+     * @param operation  The operation to measure.
+     * @param warmup     The number of unmeasured warm-up runs.
+     * @param iterations The number of measured runs.
+     * @return The measurement.
+     */
+    public static Measurement of(Runnable operation, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long allocatedBefore = allocatedBytes();
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            long elapsed = System.nanoTime() - start;
+            total += elapsed;
+            min = Math.min(min, elapsed);
+        }
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        return new Measurement(
+                iterations,
+                (double) total / iterations,
+                min,
+                (double) allocated / iterations,
+                gcCount() - gcCountBefore,
+                gcMillis() - gcMillisBefore
+        );
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(gc.getCollectionTime(), 0);
+        }
+        return millis;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getMinNanos() {
+        return minNanos;
+    }
+
+    public double getAllocatedBytesPerOp() {
+        return allocatedBytesPerOp;
+    }
+
+    /**
+     * Returns the allocation rate in megabytes per second of measured run time.
+     */
+    public double getAllocationRateMbPerSecond() {
+        return meanNanos == 0 ? 0 : allocatedBytesPerOp / meanNanos * 1e9 / (1 << 20);
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    /**
+     * Appends this measurement as JSON fields (without braces) to the builder.
+     *
+     * @param json The builder to append to.
+     */
+    public void appendJsonFields(StringBuilder json) {
+        json.append(String.format(Locale.ROOT,
+                "\"iterations\":%d,\"mean_ns\":%.1f,\"min_ns\":%d,\"alloc_bytes_per_op\":%.1f,"
+                        + "\"alloc_rate_mb_s\":%.2f,\"gc_count\":%d,\"gc_ms\":%d",
+                iterations, meanNanos, minNanos, allocatedBytesPerOp,
+                getAllocationRateMbPerSecond(), gcCount, gcMillis));
+    }
+
+}
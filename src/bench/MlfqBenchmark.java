@@ -0,0 +1,88 @@
+package bench;
+
+import implementation.MlfqScheduler;
+import implementation.RoundRobinScheduler;
+import implementation.Schedulers;
+import model.Workload;
+import task.Scheduler;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The `MlfqBenchmark` class compares `MlfqScheduler` with `RoundRobinScheduler`
+ * on the same workloads.
+ * <p>
+ * For each workload shape and size it runs Round Robin with quantum Q, and MLFQ
+ * with 1, 3 and 8 levels whose top-level quantum is Q, with and without
+ * priority boosts. A one-level MLFQ without boosts produces the same schedule as
+ * Round Robin, so that row isolates the cost of the level bookkeeping. Each row
+ * reports the mean time per schedule, the throughput, the bytes allocated per
+ * schedule, and the average turnaround and waiting times of the schedule itself.
+ * <p>
+ * Usage: {@code java bench.MlfqBenchmark [--shapes S1,S2] [--sizes N1,N2]
+ * [--quantum Q] [--warmup W] [--iterations I]}
+ */
+public class MlfqBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        List<WorkloadShape> shapes = List.of(WorkloadShape.values());
+        int[] sizes = {10_000, 100_000, 1_000_000};
+        int quantum = 4;
+        int warmup = 3;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shapes" -> shapes = Arrays.stream(value.split(",")).map(WorkloadShape::valueOf).toList();
+                case "--sizes" -> sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--quantum" -> quantum = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        int boost = Schedulers.boostInterval(quantum);
+        Map<String, Scheduler> schedulers = new LinkedHashMap<>();
+        schedulers.put("RR", new RoundRobinScheduler(quantum));
+        schedulers.put("MLFQ-1", new MlfqScheduler(1, quantum, 0));
+        schedulers.put("MLFQ-3", new MlfqScheduler(3, quantum, 0));
+        schedulers.put("MLFQ-3+boost", new MlfqScheduler(3, quantum, boost));
+        schedulers.put("MLFQ-8+boost", new MlfqScheduler(8, quantum, boost));
+
+        System.out.printf("%-14s %-12s %10s %14s %14s %12s %14s %14s%n",
+                "scheduler", "shape", "size", "ms/op", "procs/s", "B/op", "avg TAT", "avg WT");
+        for (WorkloadShape shape : shapes) {
+            for (int size : sizes) {
+                Workload workload = shape.generate(size, SEED, false);
+                for (Map.Entry<String, Scheduler> entry : schedulers.entrySet()) {
+                    Scheduler scheduler = entry.getValue();
+                    Measurement m = Measurement.of(() -> scheduler.schedule(workload), warmup, iterations);
+
+                    long totalTurnaround = 0;
+                    long totalWaiting = 0;
+                    for (int p = 0; p < size; p++) {
+                        totalTurnaround += workload.turnaroundTime(p);
+                        totalWaiting += workload.waitingTime(p);
+                    }
+
+                    System.out.printf(Locale.ROOT, "%-14s %-12s %10d %14.3f %14.0f %12.0f %14.2f %14.2f%n",
+                            entry.getKey(), shape, size,
+                            m.getMeanNanos() / 1e6,
+                            size / m.getMeanNanos() * 1e9,
+                            m.getAllocatedBytesPerOp(),
+                            (double) totalTurnaround / size,
+                            (double) totalWaiting / size);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package bench;
+
+import implementation.ParallelScheduler;
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The `ParallelSchedulerBenchmark` class measures the speedup of
+ * `ParallelScheduler` over the sequential schedulers across thread counts.
+ * <p>
+ * For each workload shape and algorithm the sequential scheduler runs first as
+ * the baseline; then `ParallelScheduler` runs with every requested thread count.
+ * Each row reports the mean time per schedule, the speedup over the baseline,
+ * the number of busy periods and parallel segments, and whether the completion
+ * times match the baseline's exactly. Splitting needs idle gaps, so `--spread`
+ * multiplies every arrival time to lower the load (the default 1.5 gives about
+ * 70% utilization); `ALL_AT_ZERO` is a single busy period and shows the cost of
+ * the scan when nothing can be split.
+ * <p>
+ * Usage: {@code java bench.ParallelSchedulerBenchmark [--shapes S1,S2]
+ * [--algorithms A1,A2] [--size N] [--threads T1,T2] [--spread F] [--quantum Q]
+ * [--warmup W] [--iterations I]}
+ */
+public class ParallelSchedulerBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        List<WorkloadShape> shapes = List.of(WorkloadShape.values());
+        List<CpuAlgo> algorithms = List.of(CpuAlgo.FCFS, CpuAlgo.SJF_NON_PREEMPTIVE, CpuAlgo.ROUND_ROBIN);
+        int size = 10_000_000;
+        int[] threadCounts = {1, 2, 4, 8};
+        double spread = 1.5;
+        int quantum = 4;
+        int warmup = 1;
+        int iterations = 3;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shapes" -> shapes = Arrays.stream(value.split(",")).map(WorkloadShape::valueOf).toList();
+                case "--algorithms" -> algorithms = Arrays.stream(value.split(","))
+                        .map(name -> CpuAlgo.valueOf(name.toUpperCase(Locale.ROOT)))
+                        .toList();
+                case "--size" -> size = Integer.parseInt(value);
+                case "--threads" -> threadCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--spread" -> spread = Double.parseDouble(value);
+                case "--quantum" -> quantum = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        int timeQuantum = quantum;
+        System.out.printf("Available processors: %d%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-20s %-12s %10s %8s %12s %9s %12s %9s %6s%n",
+                "algorithm", "shape", "size", "threads", "ms/op", "speedup", "busy", "segments", "same");
+        for (WorkloadShape shape : shapes) {
+            Workload workload = WorkloadShape.spread(shape.generate(size, SEED, true), spread);
+            for (CpuAlgo algorithm : algorithms) {
+                Workload expected = workload.copy();
+                Measurement baseline = Measurement.of(
+                        () -> Schedulers.create(algorithm, timeQuantum).schedule(expected), warmup, iterations);
+                System.out.printf(Locale.ROOT, "%-20s %-12s %10d %8s %12.3f %9s %12s %9s %6s%n",
+                        algorithm, shape, size, "seq", baseline.getMeanNanos() / 1e6, "1.00", "-", "-", "-");
+
+                for (int threads : threadCounts) {
+                    Workload actual = workload.copy();
+                    ParallelScheduler scheduler = new ParallelScheduler(algorithm, timeQuantum, threads);
+                    Measurement m = Measurement.of(() -> scheduler.schedule(actual), warmup, iterations);
+
+                    boolean same = true;
+                    for (int p = 0; p < size && same; p++) {
+                        same = actual.completionTime(p) == expected.completionTime(p);
+                    }
+                    System.out.printf(Locale.ROOT, "%-20s %-12s %10d %8d %12.3f %9.2f %12d %9d %6s%n",
+                            algorithm, shape, size, threads,
+                            m.getMeanNanos() / 1e6,
+                            baseline.getMeanNanos() / m.getMeanNanos(),
+                            scheduler.getBusyPeriods(),
+                            scheduler.getSegments(),
+                            same ? "yes" : "NO");
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package bench;
+
+import implementation.PriorityScheduler;
+import model.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * The `PriorityQueueBenchmark` class compares the bucket and heap ready queues of
+ * `PriorityScheduler` on the same workloads.
+ * <p>
+ * Each workload shape gets uniformly random priorities over a given number of
+ * levels. For every combination of mode (non-preemptive or preemptive), level
+ * count and aging interval, both ready queues schedule the same workload; each row
+ * reports the mean time per schedule, the throughput, the bytes allocated per
+ * schedule, and whether the completion times match the heap's exactly.
+ * `ALL_AT_ZERO` keeps every process in the ready queue at once, which is where
+ * the heap's logarithmic cost shows most.
+ * <p>
+ * Usage: {@code java bench.PriorityQueueBenchmark [--shapes S1,S2] [--size N]
+ * [--levels L1,L2] [--aging A1,A2] [--warmup W] [--iterations I]}
+ */
+public class PriorityQueueBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        List<WorkloadShape> shapes = List.of(WorkloadShape.values());
+        int size = 1_000_000;
+        int[] levelCounts = {8, 140, 4096};
+        int[] agingIntervals = {0, 100};
+        int warmup = 3;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shapes" -> shapes = Arrays.stream(value.split(",")).map(WorkloadShape::valueOf).toList();
+                case "--size" -> size = Integer.parseInt(value);
+                case "--levels" -> levelCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--aging" -> agingIntervals = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        System.out.printf("%-15s %-12s %7s %7s %-7s %12s %14s %12s %6s%n",
+                "mode", "shape", "levels", "aging", "queue", "ms/op", "procs/s", "B/op", "same");
+        for (WorkloadShape shape : shapes) {
+            for (int levels : levelCounts) {
+                Workload workload = withRandomPriorities(shape.generate(size, SEED, false), levels);
+                for (boolean preemptive : new boolean[]{false, true}) {
+                    for (int aging : agingIntervals) {
+                        int[] heapCompletions = null;
+                        for (PriorityScheduler.ReadyQueue queue : List.of(
+                                PriorityScheduler.ReadyQueue.HEAP, PriorityScheduler.ReadyQueue.BUCKET)) {
+                            PriorityScheduler scheduler = new PriorityScheduler(preemptive, aging, queue);
+                            Measurement m = Measurement.of(() -> scheduler.schedule(workload), warmup, iterations);
+
+                            int[] completions = new int[size];
+                            for (int p = 0; p < size; p++) {
+                                completions[p] = workload.completionTime(p);
+                            }
+                            if (heapCompletions == null) {
+                                heapCompletions = completions;
+                            }
+
+                            System.out.printf(Locale.ROOT, "%-15s %-12s %7d %7d %-7s %12.3f %14.0f %12.0f %6s%n",
+                                    preemptive ? "preemptive" : "non-preemptive", shape, levels, aging, queue,
+                                    m.getMeanNanos() / 1e6,
+                                    size / m.getMeanNanos() * 1e9,
+                                    m.getAllocatedBytesPerOp(),
+                                    Arrays.equals(completions, heapCompletions) ? "yes" : "NO");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static Workload withRandomPriorities(Workload workload, int levels) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] priorities = new int[workload.size()];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = random.nextInt(levels);
+        }
+        return workload.withPriorities(priorities);
+    }
+
+}
@@ -0,0 +1,77 @@
+package bench;
+
+import util.IntRingQueue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The `ReadyQueueBenchmark` class compares a boxed `ArrayDeque<Integer>` with
+ * `IntRingQueue` as a Round Robin ready queue.
+ * <p>
+ * Each operation cycles a queue that already holds `size` process indices
+ * through a number of poll/offer pairs, unboxing and re-boxing each index the
+ * way a Round Robin run re-enqueues unfinished processes. Indices above 127 fall outside the `Integer` cache, so
+ * the boxed queue allocates on every re-enqueue, while the primitive queue
+ * should report zero bytes per operation once warmed up.
+ * <p>
+ * Usage: {@code java bench.ReadyQueueBenchmark [--sizes N1,N2] [--cycles C]
+ * [--warmup W] [--iterations I]}
+ */
+public class ReadyQueueBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = {100, 10_000, 1_000_000};
+        int cycles = 10_000_000;
+        int warmup = 3;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--sizes" -> sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--cycles" -> cycles = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        System.out.printf("%-14s %10s %14s %14s %12s %12s %6s%n",
+                "queue", "size", "ms/op", "ns/cycle", "B/op", "B/cycle", "gc");
+        for (int size : sizes) {
+            ArrayDeque<Integer> boxed = new ArrayDeque<>(size);
+            IntRingQueue primitive = new IntRingQueue(size);
+            for (int p = 0; p < size; p++) {
+                boxed.offer(p);
+                primitive.offer(p);
+            }
+
+            int n = cycles;
+            report("ArrayDeque", size, n, Measurement.of(() -> {
+                for (int c = 0; c < n; c++) {
+                    int p = boxed.poll();
+                    boxed.offer(p);
+                }
+            }, warmup, iterations));
+            report("IntRingQueue", size, n, Measurement.of(() -> {
+                for (int c = 0; c < n; c++) {
+                    int p = primitive.poll();
+                    primitive.offer(p);
+                }
+            }, warmup, iterations));
+        }
+    }
+
+    private static void report(String queue, int size, int cycles, Measurement m) {
+        System.out.printf(Locale.ROOT, "%-14s %10d %14.3f %14.2f %12.0f %12.2f %6d%n",
+                queue, size,
+                m.getMeanNanos() / 1e6,
+                m.getMeanNanos() / cycles,
+                m.getAllocatedBytesPerOp(),
+                m.getAllocatedBytesPerOp() / cycles,
+                m.getGcCount());
+    }
+
+}
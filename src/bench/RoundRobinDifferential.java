@@ -0,0 +1,148 @@
+package bench;
+
+import implementation.LongTimeScheduler;
+import implementation.RoundRobinScheduler;
+import model.CpuAlgo;
+import model.LongWorkload;
+import model.Workload;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * The `RoundRobinDifferential` class checks `RoundRobinScheduler`'s
+ * fast-forward mode against its quantum-by-quantum loop on randomized
+ * workloads.
+ * <p>
+ * Each case draws a time quantum from 1 to 64, inter-arrival gaps that range
+ * from simultaneous arrivals to idle gaps longer than the work queued before
+ * them, and burst times from zero up to thousands of quanta, so that skipped
+ * rounds end on arrivals, on completions and on both at once. A final case
+ * queues `--zero-size` processes at time 0, the shape in which every skip has
+ * the whole queue to retire. `LongTimeScheduler`'s Round Robin runs on each
+ * case widened to `long` times as well. Every mismatch is printed with its case
+ * number and seed, and the process exits with status 1 if any case differs.
+ * <p>
+ * Usage: {@code java bench.RoundRobinDifferential [--cases N] [--max-size N] [--zero-size N] [--seed S]}
+ */
+public class RoundRobinDifferential {
+
+    public static void main(String[] args) {
+        int cases = 3_000;
+        int maxSize = 300;
+        int zeroSize = 100_000;
+        long seed = 42;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--cases" -> cases = Integer.parseInt(value);
+                case "--max-size" -> maxSize = Integer.parseInt(value);
+                case "--zero-size" -> zeroSize = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        int mismatches = 0;
+        long steppedNanos = 0;
+        long skippedNanos = 0;
+        long wideNanos = 0;
+        for (int c = 0; c <= cases; c++) {
+            long caseSeed = random.nextLong();
+            SplittableRandom caseRandom = new SplittableRandom(caseSeed);
+            int timeQuantum = 1 + caseRandom.nextInt(caseRandom.nextBoolean() ? 4 : 64);
+            Workload stepped = c < cases
+                    ? randomWorkload(caseRandom, maxSize, timeQuantum)
+                    : zeroArrivalWorkload(caseRandom, zeroSize, timeQuantum);
+            Workload skipped = stepped.copy();
+            LongWorkload wide = LongWorkload.of(stepped);
+            long start = System.nanoTime();
+            new RoundRobinScheduler(timeQuantum, false).schedule(stepped);
+            steppedNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            new RoundRobinScheduler(timeQuantum, true).schedule(skipped);
+            skippedNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            new LongTimeScheduler(CpuAlgo.ROUND_ROBIN, timeQuantum).schedule(wide);
+            wideNanos = System.nanoTime() - start;
+
+            for (int i = 0; i < stepped.size(); i++) {
+                boolean skippedDiffers = skipped.completionTime(i) != stepped.completionTime(i);
+                if (skippedDiffers || wide.completionTime(i) != stepped.completionTime(i)) {
+                    System.out.printf("Case %d (seed %d, quantum %d): %s position %d completes at %d, expected %d%n",
+                            c, caseSeed, timeQuantum, skippedDiffers ? "fast-forward" : "long time",
+                            i, skippedDiffers ? skipped.completionTime(i) : wide.completionTime(i),
+                            stepped.completionTime(i));
+                    mismatches++;
+                    break;
+                }
+            }
+        }
+        // The last case's times; skipping should take a small fraction of stepping
+        System.out.printf(Locale.ROOT, "%d processes at time 0: quantum by quantum %.1f ms, fast-forward %.1f ms, "
+                        + "long time %.1f ms%n",
+                zeroSize, steppedNanos / 1e6, skippedNanos / 1e6, wideNanos / 1e6);
+        System.out.printf("%d cases, %d mismatches%n", cases + 1, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates a workload of up to `maxSize` processes whose bursts span zero
+     * to thousands of quanta and whose arrivals mix ties, short gaps and long
+     * idle gaps.
+     */
+    private static Workload randomWorkload(SplittableRandom random, int maxSize, int timeQuantum) {
+        int n = random.nextInt(maxSize + 1);
+        int maxBurst = timeQuantum * (1 + random.nextInt(random.nextBoolean() ? 8 : 4_000));
+        int[] pids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int time = 0;
+        for (int i = 0; i < n; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    // Arrive together with the previous process
+                }
+                case 1 -> time += random.nextInt(timeQuantum + 1);
+                case 2 -> time += random.nextInt(maxBurst + 1);
+                default -> time += random.nextInt(maxBurst * 4 + 1);
+            }
+            pids[i] = i + 1;
+            arrivalTimes[i] = time;
+            burstTimes[i] = random.nextInt(6) == 0 ? 0 : 1 + random.nextInt(maxBurst);
+        }
+        // Shuffle the positions so input order says nothing about arrival order
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int pid = pids[i];
+            int arrival = arrivalTimes[i];
+            int burst = burstTimes[i];
+            pids[i] = pids[j];
+            arrivalTimes[i] = arrivalTimes[j];
+            burstTimes[i] = burstTimes[j];
+            pids[j] = pid;
+            arrivalTimes[j] = arrival;
+            burstTimes[j] = burst;
+        }
+        return new Workload(pids, arrivalTimes, burstTimes);
+    }
+
+    /**
+     * Generates `size` processes that all arrive at time 0, with bursts from
+     * zero to a thousand quanta.
+     */
+    private static Workload zeroArrivalWorkload(SplittableRandom random, int size, int timeQuantum) {
+        int[] pids = new int[size];
+        int[] burstTimes = new int[size];
+        for (int i = 0; i < size; i++) {
+            pids[i] = i + 1;
+            burstTimes[i] = random.nextInt(1_000 * timeQuantum + 1);
+        }
+        return new Workload(pids, new int[size], burstTimes);
+    }
+
+}
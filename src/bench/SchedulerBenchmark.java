@@ -0,0 +1,111 @@
+package bench;
+
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.Workload;
+import task.Scheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The `SchedulerBenchmark` class benchmarks `Scheduler.schedule` for every
+ * algorithm across workload shapes, input orders and sizes.
+ * <p>
+ * Each case reports the mean time per schedule, the throughput in processes per
+ * second, the bytes allocated per schedule and per process, the allocation rate
+ * and the garbage collections during the measured runs. With `--json` the same
+ * results are written as a JSON array so runs can be compared across releases.
+ * <p>
+ * Usage: {@code java bench.SchedulerBenchmark [--algorithms A,B] [--shapes S1,S2]
+ * [--sizes N1,N2] [--orders sorted,shuffled] [--quantum Q] [--warmup W]
+ * [--iterations I] [--json file]}
+ */
+public class SchedulerBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) throws IOException {
+        List<CpuAlgo> algorithms = List.of(CpuAlgo.values());
+        List<WorkloadShape> shapes = List.of(WorkloadShape.values());
+        int[] sizes = {100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+        List<Boolean> orders = List.of(false, true);
+        int quantum = 4;
+        int warmup = 3;
+        int iterations = 5;
+        Path json = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--algorithms" -> algorithms = Arrays.stream(value(args, ++i).split(","))
+                        .map(CpuAlgo::valueOf)
+                        .toList();
+                case "--shapes" -> shapes = Arrays.stream(value(args, ++i).split(","))
+                        .map(WorkloadShape::valueOf)
+                        .toList();
+                case "--sizes" -> sizes = Arrays.stream(value(args, ++i).split(","))
+                        .mapToInt(Integer::parseInt)
+                        .toArray();
+                case "--orders" -> orders = Arrays.stream(value(args, ++i).split(","))
+                        .map("shuffled"::equals)
+                        .toList();
+                case "--quantum" -> quantum = Integer.parseInt(value(args, ++i));
+                case "--warmup" -> warmup = Integer.parseInt(value(args, ++i));
+                case "--iterations" -> iterations = Integer.parseInt(value(args, ++i));
+                case "--json" -> json = Path.of(value(args, ++i));
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+        }
+
+        System.out.printf("%-20s %-12s %-9s %10s %14s %14s %12s %12s %6s%n",
+                "algorithm", "shape", "order", "size", "ms/op", "procs/s", "B/op", "B/proc", "gc");
+        List<String> records = new ArrayList<>();
+        for (CpuAlgo algorithm : algorithms) {
+            Scheduler scheduler = Schedulers.create(algorithm, quantum);
+            for (WorkloadShape shape : shapes) {
+                for (boolean shuffled : orders) {
+                    for (int size : sizes) {
+                        Workload workload = shape.generate(size, SEED, shuffled);
+                        Measurement m = Measurement.of(() -> scheduler.schedule(workload), warmup, iterations);
+                        String order = shuffled ? "shuffled" : "sorted";
+
+                        System.out.printf(Locale.ROOT, "%-20s %-12s %-9s %10d %14.3f %14.0f %12.0f %12.2f %6d%n",
+                                algorithm, shape, order, size,
+                                m.getMeanNanos() / 1e6,
+                                size / m.getMeanNanos() * 1e9,
+                                m.getAllocatedBytesPerOp(),
+                                m.getAllocatedBytesPerOp() / size,
+                                m.getGcCount());
+
+                        StringBuilder record = new StringBuilder();
+                        record.append(String.format(Locale.ROOT,
+                                "{\"benchmark\":\"schedule\",\"algorithm\":\"%s\",\"quantum\":%d,"
+                                        + "\"shape\":\"%s\",\"order\":\"%s\",\"size\":%d,",
+                                algorithm, quantum, shape, order, size));
+                        m.appendJsonFields(record);
+                        record.append('}');
+                        records.add(record.toString());
+                    }
+                }
+            }
+        }
+
+        if (json != null) {
+            Files.writeString(json, "[\n" + String.join(",\n", records) + "\n]\n", StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+}
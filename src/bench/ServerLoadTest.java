@@ -0,0 +1,188 @@
+package bench;
+
+import model.Workload;
+import server.ScheduleServer;
+import server.ServerMetrics;
+import util.Histogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The `ServerLoadTest` class drives a `ScheduleServer` with concurrent clients
+ * and reports its throughput and latency.
+ * <p>
+ * Without `--url` it starts a server in the same JVM on a free loopback port,
+ * so the test runs fully locally. For each client count, that many virtual
+ * threads send `--requests` requests in total, each scheduling a small
+ * `UNIFORM` workload of `--size` processes, as fast as the server answers; a
+ * client that is rejected with `503` waits `--backoff` milliseconds before its
+ * next request. Each row reports the requests answered per second, the
+ * client-side latency percentiles and the rejections; against the embedded
+ * server it also reports the mean number of requests a worker drained from the
+ * queue per wake-up. The embedded server runs with Nagle's algorithm off, as
+ * under `serve`.
+ * <p>
+ * Usage: {@code java bench.ServerLoadTest [--url http://host:port] [--clients C1,C2]
+ * [--requests N] [--size N] [--algorithm A] [--quantum Q] [--workers N]
+ * [--queue N] [--batch N] [--backoff MS]}
+ */
+public class ServerLoadTest {
+
+    private static final long SEED = 42;
+    private static final int BODIES = 64;
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int[] clientCounts = {1, 16, 256};
+        int requests = 20_000;
+        int size = 50;
+        String algorithm = "round_robin";
+        int quantum = 4;
+        int workers = Runtime.getRuntime().availableProcessors();
+        int queueCapacity = ScheduleServer.DEFAULT_QUEUE_CAPACITY;
+        int maxBatchSize = ScheduleServer.DEFAULT_MAX_BATCH_SIZE;
+        int backoffMillis = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = value(args, ++i);
+                case "--clients" -> clientCounts = Arrays.stream(value(args, ++i).split(","))
+                        .mapToInt(Integer::parseInt)
+                        .toArray();
+                case "--requests" -> requests = Integer.parseInt(value(args, ++i));
+                case "--size" -> size = Integer.parseInt(value(args, ++i));
+                case "--algorithm" -> algorithm = value(args, ++i);
+                case "--quantum" -> quantum = Integer.parseInt(value(args, ++i));
+                case "--workers" -> workers = Integer.parseInt(value(args, ++i));
+                case "--queue" -> queueCapacity = Integer.parseInt(value(args, ++i));
+                case "--batch" -> maxBatchSize = Integer.parseInt(value(args, ++i));
+                case "--backoff" -> backoffMillis = Integer.parseInt(value(args, ++i));
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+        }
+
+        ScheduleServer server = null;
+        if (url == null) {
+            if (System.getProperty(ScheduleServer.NO_DELAY_PROPERTY) == null) {
+                System.setProperty(ScheduleServer.NO_DELAY_PROPERTY, "true");
+            }
+            server = new ScheduleServer(new InetSocketAddress("127.0.0.1", 0),
+                    workers, queueCapacity, maxBatchSize, ScheduleServer.DEFAULT_MAX_BODY_BYTES);
+            server.start();
+            url = "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+        URI uri = URI.create(url + "/schedule?algorithm=" + algorithm + "&quantum=" + quantum);
+
+        // Prepare the bodies up front so the clients only measure the server
+        byte[][] bodies = new byte[BODIES][];
+        for (int b = 0; b < BODIES; b++) {
+            bodies[b] = text(WorkloadShape.UNIFORM.generate(size, SEED + b, true));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+
+            System.out.printf("%8s %10s %10s %9s %12s %10s %10s %10s %10s %10s%n",
+                    "clients", "requests", "ok", "rejected", "req/s", "mean us", "p50 us", "p99 us", "max us",
+                    "batch");
+            for (int clients : clientCounts) {
+                ServerMetrics metrics = server == null ? null : server.getMetrics();
+                long batchesBefore = metrics == null ? 0 : metrics.getBatches();
+                long batchedBefore = metrics == null ? 0 : metrics.getBatchedRequests();
+
+                AtomicInteger remaining = new AtomicInteger(requests);
+                AtomicInteger rejected = new AtomicInteger();
+                int backoff = backoffMillis;
+                List<Future<Histogram>> results = new ArrayList<>(clients);
+                long start = System.nanoTime();
+                for (int c = 0; c < clients; c++) {
+                    int first = c;
+                    results.add(executor.submit(() -> {
+                        Histogram latencies = new Histogram();
+                        int next = first;
+                        while (remaining.getAndDecrement() > 0) {
+                            HttpRequest request = HttpRequest.newBuilder(uri)
+                                    .POST(HttpRequest.BodyPublishers.ofByteArray(bodies[next++ % BODIES]))
+                                    .build();
+                            // Retry the same request until it is accepted
+                            while (true) {
+                                long sent = System.nanoTime();
+                                HttpResponse<Void> response =
+                                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() == 200) {
+                                    latencies.record((System.nanoTime() - sent) / 1000);
+                                    break;
+                                }
+                                if (response.statusCode() != 503) {
+                                    throw new IOException("Unexpected status " + response.statusCode());
+                                }
+                                rejected.incrementAndGet();
+                                Thread.sleep(backoff);
+                            }
+                        }
+                        return latencies;
+                    }));
+                }
+                Histogram latencies = new Histogram();
+                for (Future<Histogram> result : results) {
+                    latencies.add(result.get());
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                String batch = "-";
+                if (metrics != null) {
+                    long batches = metrics.getBatches() - batchesBefore;
+                    long batched = metrics.getBatchedRequests() - batchedBefore;
+                    batch = String.format(Locale.ROOT, "%.2f", batches == 0 ? 0 : (double) batched / batches);
+                }
+                System.out.printf(Locale.ROOT, "%8d %10d %10d %9d %12.0f %10.1f %10d %10d %10d %10s%n",
+                        clients, requests, latencies.getCount(), rejected.get(),
+                        latencies.getCount() / seconds,
+                        latencies.getMean(),
+                        latencies.percentile(50),
+                        latencies.percentile(99),
+                        latencies.getMax(),
+                        batch);
+            }
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static byte[] text(Workload workload) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < workload.size(); i++) {
+            text.append(workload.pid(i)).append(' ')
+                    .append(workload.arrivalTime(i)).append(' ')
+                    .append(workload.burstTime(i)).append('\n');
+        }
+        return text.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,138 @@
+package bench;
+
+import implementation.SjfNonPreemptiveScheduler;
+import model.Workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `SjfOracle` class checks `SjfNonPreemptiveScheduler` against a
+ * brute-force reference on randomized workloads.
+ * <p>
+ * The reference rescans every unfinished process at each dispatch and picks the
+ * arrived one with the smallest burst time, then arrival time, then PID, then
+ * position, in O(n^2) time. The workloads are small and dense in ties: arrival
+ * times and burst times come from narrow ranges, about one burst in five is
+ * zero, and some workloads repeat PIDs. Every mismatch is printed with its case
+ * number and seed, and the process exits with status 1 if any case differs.
+ * <p>
+ * Usage: {@code java bench.SjfOracle [--cases N] [--max-size N] [--seed S]}
+ */
+public class SjfOracle {
+
+    public static void main(String[] args) {
+        int cases = 10_000;
+        int maxSize = 200;
+        long seed = 42;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--cases" -> cases = Integer.parseInt(value);
+                case "--max-size" -> maxSize = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        SjfNonPreemptiveScheduler scheduler = new SjfNonPreemptiveScheduler();
+        int mismatches = 0;
+        for (int c = 0; c < cases; c++) {
+            long caseSeed = random.nextLong();
+            Workload actual = randomWorkload(new SplittableRandom(caseSeed), maxSize);
+            Workload expected = actual.copy();
+            scheduler.schedule(actual);
+            reference(expected);
+
+            for (int i = 0; i < actual.size(); i++) {
+                if (actual.completionTime(i) != expected.completionTime(i)) {
+                    System.out.printf("Case %d (seed %d): position %d completes at %d, expected %d%n",
+                            c, caseSeed, i, actual.completionTime(i), expected.completionTime(i));
+                    mismatches++;
+                    break;
+                }
+            }
+        }
+        System.out.printf("%d cases, %d mismatches%n", cases, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates a workload of up to `maxSize` processes with many equal arrival
+     * and burst times and some zero bursts.
+     */
+    static Workload randomWorkload(SplittableRandom random, int maxSize) {
+        int n = random.nextInt(maxSize + 1);
+        int arrivalRange = 1 + random.nextInt(Math.max(n, 1) * 4);
+        int burstRange = 1 + random.nextInt(10);
+        boolean repeatedPids = random.nextInt(4) == 0;
+        int[] pids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            pids[i] = repeatedPids ? 1 + random.nextInt(Math.max(n / 2, 1)) : i + 1;
+            arrivalTimes[i] = random.nextInt(arrivalRange);
+            burstTimes[i] = random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(burstRange);
+        }
+        // Shuffle the PIDs so input order says nothing about PID order
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int pid = pids[i];
+            pids[i] = pids[j];
+            pids[j] = pid;
+        }
+        return new Workload(pids, arrivalTimes, burstTimes);
+    }
+
+    /**
+     * Schedules the workload with non-preemptive SJF by rescanning every
+     * unfinished process at each dispatch.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     */
+    static void reference(Workload workload) {
+        int n = workload.size();
+        boolean[] done = new boolean[n];
+        long currentTime = 0;
+        for (int dispatched = 0; dispatched < n; dispatched++) {
+            // Jump to the earliest arrival if nothing has arrived yet
+            long earliest = Long.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                if (!done[i]) {
+                    earliest = Math.min(earliest, workload.arrivalTime(i));
+                }
+            }
+            currentTime = Math.max(currentTime, earliest);
+
+            // Pick the arrived process with the smallest (burst, arrival, PID, position)
+            int chosen = -1;
+            for (int i = 0; i < n; i++) {
+                if (!done[i] && workload.arrivalTime(i) <= currentTime
+                        && (chosen < 0 || precedes(workload, i, chosen))) {
+                    chosen = i;
+                }
+            }
+            currentTime += workload.burstTime(chosen);
+            workload.setCompletionTime(chosen, Math.toIntExact(currentTime));
+            done[chosen] = true;
+        }
+    }
+
+    private static boolean precedes(Workload workload, int a, int b) {
+        if (workload.burstTime(a) != workload.burstTime(b)) {
+            return workload.burstTime(a) < workload.burstTime(b);
+        }
+        if (workload.arrivalTime(a) != workload.arrivalTime(b)) {
+            return workload.arrivalTime(a) < workload.arrivalTime(b);
+        }
+        if (workload.pid(a) != workload.pid(b)) {
+            return workload.pid(a) < workload.pid(b);
+        }
+        return a < b;
+    }
+
+}
@@ -0,0 +1,80 @@
+package bench;
+
+import implementation.SjfNonPreemptiveScheduler;
+import model.Workload;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The `SjfScalingBenchmark` class measures how `SjfNonPreemptiveScheduler`
+ * scales from 10^3 to 10^7 processes.
+ * <p>
+ * Each row reports the mean time per schedule, the time per process, and the
+ * growth of the total time over the previous size; an O(n log n) engine grows
+ * a little more than tenfold per decade. Up to `--reference-max` processes the
+ * O(n^2) reference of `SjfOracle` runs on the same workload as well, for
+ * comparison, and the row reports whether both give the same completion times.
+ * <p>
+ * Usage: {@code java bench.SjfScalingBenchmark [--shape S] [--sizes N1,N2]
+ * [--reference-max N] [--warmup W] [--iterations I]}
+ */
+public class SjfScalingBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        WorkloadShape shape = WorkloadShape.UNIFORM;
+        int[] sizes = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+        int referenceMax = 10_000;
+        int warmup = 2;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shape" -> shape = WorkloadShape.valueOf(value);
+                case "--sizes" -> sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--reference-max" -> referenceMax = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        SjfNonPreemptiveScheduler scheduler = new SjfNonPreemptiveScheduler();
+        System.out.printf("%10s %12s %10s %8s %14s %6s%n", "size", "ms/op", "ns/proc", "growth", "reference ms", "same");
+        double previousNanos = 0;
+        for (int size : sizes) {
+            Workload workload = shape.generate(size, SEED, true);
+            Measurement m = Measurement.of(() -> scheduler.schedule(workload), warmup, iterations);
+
+            String referenceMillis = "-";
+            String same = "-";
+            if (size <= referenceMax) {
+                Workload expected = workload.copy();
+                long start = System.nanoTime();
+                SjfOracle.reference(expected);
+                referenceMillis = String.format(Locale.ROOT, "%.3f", (System.nanoTime() - start) / 1e6);
+                boolean equal = true;
+                for (int p = 0; p < size && equal; p++) {
+                    equal = workload.completionTime(p) == expected.completionTime(p);
+                }
+                same = equal ? "yes" : "NO";
+            }
+
+            String growth = previousNanos == 0
+                    ? "-"
+                    : String.format(Locale.ROOT, "%.2f", m.getMeanNanos() / previousNanos);
+            System.out.printf(Locale.ROOT, "%10d %12.3f %10.1f %8s %14s %6s%n",
+                    size,
+                    m.getMeanNanos() / 1e6,
+                    m.getMeanNanos() / size,
+                    growth,
+                    referenceMillis,
+                    same);
+            previousNanos = m.getMeanNanos();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package bench;
+
+import model.CpuAlgo;
+import model.Workload;
+import sweep.SweepCell;
+import sweep.SweepRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The `SweepBenchmark` class measures how `SweepRunner` scales with its thread
+ * count.
+ * <p>
+ * It runs one fixed grid on one shared workload: FCFS, SJF and Round Robin,
+ * the Round Robin quanta 1, 2, 4, 8 and 16, and the arrival scales 0.8, 1.0,
+ * 1.25 and 1.5, or 28 cells in all. The grid runs with every thread count from
+ * 1 up to the number of available processors, or with `--threads`. Each row
+ * reports the mean time per sweep, the cells finished per second and the speedup
+ * over the first thread count, one thread by default. Results go to a sink that
+ * discards them, so the rows measure scheduling and aggregation only.
+ * <p>
+ * Usage: {@code java bench.SweepBenchmark [--shape S] [--size N] [--threads T1,T2]
+ * [--warmup W] [--iterations I]}
+ */
+public class SweepBenchmark {
+
+    private static final long SEED = 42;
+    private static final List<CpuAlgo> ALGORITHMS =
+            List.of(CpuAlgo.FCFS, CpuAlgo.SJF_NON_PREEMPTIVE, CpuAlgo.ROUND_ROBIN);
+    private static final int[] QUANTA = {1, 2, 4, 8, 16};
+    private static final double[] SCALES = {0.8, 1.0, 1.25, 1.5};
+
+    public static void main(String[] args) {
+        WorkloadShape shape = WorkloadShape.UNIFORM;
+        int size = 1_000_000;
+        int[] threadCounts = null;
+        int warmup = 1;
+        int iterations = 3;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shape" -> shape = WorkloadShape.valueOf(value);
+                case "--size" -> size = Integer.parseInt(value);
+                case "--threads" -> threadCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+        if (threadCounts == null) {
+            int processors = Runtime.getRuntime().availableProcessors();
+            threadCounts = new int[processors];
+            for (int t = 0; t < processors; t++) {
+                threadCounts[t] = t + 1;
+            }
+        }
+
+        Workload workload = shape.generate(size, SEED, true);
+        List<SweepCell> cells = SweepCell.grid(ALGORITHMS, QUANTA, SCALES);
+        System.out.printf("Available processors: %d, %d cells of %d processes%n",
+                Runtime.getRuntime().availableProcessors(), cells.size(), size);
+        System.out.printf("%8s %12s %12s %9s%n", "threads", "ms/sweep", "cells/s", "speedup");
+        double baselineNanos = 0;
+        for (int threads : threadCounts) {
+            SweepRunner runner = new SweepRunner(threads);
+            Measurement m = Measurement.of(() -> runner.run(workload, cells, result -> {
+            }), warmup, iterations);
+            if (baselineNanos == 0) {
+                baselineNanos = m.getMeanNanos();
+            }
+            System.out.printf(Locale.ROOT, "%8d %12.1f %12.2f %9.2f%n",
+                    threads,
+                    m.getMeanNanos() / 1e6,
+                    cells.size() / (m.getMeanNanos() / 1e9),
+                    baselineNanos / m.getMeanNanos());
+        }
+    }
+
+}
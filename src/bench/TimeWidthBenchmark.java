@@ -0,0 +1,117 @@
+package bench;
+
+import implementation.LongTimeScheduler;
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.LongWorkload;
+import model.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The `TimeWidthBenchmark` class measures what the `long` time domain costs
+ * over the compact `int` one.
+ * <p>
+ * For each workload shape and algorithm the `int` scheduler runs on a `Workload`
+ * and `LongTimeScheduler` runs on the same processes widened into a
+ * `LongWorkload`. Each row reports the mean time per schedule, the processes
+ * scheduled per second, the bytes allocated per schedule and the bytes the
+ * workload's columns take per process, and whether the `long` completion times
+ * match the `int` ones exactly. A last row per shape and algorithm schedules the
+ * workload with every time multiplied by `--scale` (by default milliseconds to
+ * nanoseconds), which only the `long` path can hold.
+ * <p>
+ * Usage: {@code java bench.TimeWidthBenchmark [--shapes S1,S2] [--algorithms A1,A2]
+ * [--size N] [--scale F] [--quantum Q] [--warmup W] [--iterations I]}
+ */
+public class TimeWidthBenchmark {
+
+    private static final long SEED = 42;
+    // PID, arrival, burst and completion columns
+    private static final int INT_BYTES_PER_PROCESS = 4 * Integer.BYTES;
+    private static final int LONG_BYTES_PER_PROCESS = Integer.BYTES + 3 * Long.BYTES;
+
+    public static void main(String[] args) {
+        List<WorkloadShape> shapes = List.of(WorkloadShape.values());
+        List<CpuAlgo> algorithms = List.of(CpuAlgo.FCFS, CpuAlgo.SJF_NON_PREEMPTIVE, CpuAlgo.ROUND_ROBIN);
+        int size = 1_000_000;
+        long scale = 1_000_000;
+        int quantum = 4;
+        int warmup = 2;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--shapes" -> shapes = Arrays.stream(value.split(",")).map(WorkloadShape::valueOf).toList();
+                case "--algorithms" -> algorithms = Arrays.stream(value.split(","))
+                        .map(name -> CpuAlgo.valueOf(name.toUpperCase(Locale.ROOT)))
+                        .toList();
+                case "--size" -> size = Integer.parseInt(value);
+                case "--scale" -> scale = Long.parseLong(value);
+                case "--quantum" -> quantum = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        int timeQuantum = quantum;
+        System.out.printf("%-20s %-12s %10s %14s %12s %14s %14s %8s %6s%n",
+                "algorithm", "shape", "size", "width", "ms/op", "procs/s", "B/op", "B/proc", "same");
+        for (WorkloadShape shape : shapes) {
+            Workload workload = shape.generate(size, SEED, true);
+            LongWorkload scaled = scale(workload, scale);
+            for (CpuAlgo algorithm : algorithms) {
+                Workload narrow = workload.copy();
+                Measurement intPath = Measurement.of(
+                        () -> Schedulers.create(algorithm, timeQuantum).schedule(narrow), warmup, iterations);
+                print(algorithm, shape, size, "int", intPath, INT_BYTES_PER_PROCESS, "-");
+
+                LongWorkload wide = LongWorkload.of(workload);
+                Measurement longPath = Measurement.of(
+                        () -> new LongTimeScheduler(algorithm, timeQuantum).schedule(wide), warmup, iterations);
+                boolean same = true;
+                for (int p = 0; p < size && same; p++) {
+                    same = wide.completionTime(p) == narrow.completionTime(p);
+                }
+                print(algorithm, shape, size, "long", longPath, LONG_BYTES_PER_PROCESS, same ? "yes" : "NO");
+
+                long scaledQuantum = timeQuantum * scale;
+                Measurement scaledPath = Measurement.of(
+                        () -> new LongTimeScheduler(algorithm, scaledQuantum).schedule(scaled), warmup, iterations);
+                print(algorithm, shape, size, "long*" + scale, scaledPath, LONG_BYTES_PER_PROCESS, "-");
+            }
+        }
+    }
+
+    private static void print(CpuAlgo algorithm, WorkloadShape shape, int size, String width, Measurement m,
+                              int bytesPerProcess, String same) {
+        System.out.printf(Locale.ROOT, "%-20s %-12s %10d %14s %12.3f %14.0f %14.0f %8d %6s%n",
+                algorithm, shape, size, width,
+                m.getMeanNanos() / 1e6,
+                size / (m.getMeanNanos() / 1e9),
+                m.getAllocatedBytesPerOp(),
+                bytesPerProcess,
+                same);
+    }
+
+    /**
+     * Widens a workload with every arrival and burst time multiplied by the factor.
+     */
+    private static LongWorkload scale(Workload workload, long factor) {
+        int n = workload.size();
+        int[] pids = new int[n];
+        long[] arrivalTimes = new long[n];
+        long[] burstTimes = new long[n];
+        for (int i = 0; i < n; i++) {
+            pids[i] = workload.pid(i);
+            arrivalTimes[i] = Math.multiplyExact(workload.arrivalTime(i), factor);
+            burstTimes[i] = Math.multiplyExact(workload.burstTime(i), factor);
+        }
+        return new LongWorkload(pids, arrivalTimes, burstTimes);
+    }
+
+}
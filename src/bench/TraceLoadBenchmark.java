@@ -0,0 +1,122 @@
+package bench;
+
+import model.Workload;
+import trace.BinaryTrace;
+import util.WorkloadReader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Scanner;
+
+/**
+ * The `TraceLoadBenchmark` class compares the time and heap allocation of
+ * loading a workload with `Scanner`, with `WorkloadReader.readText` and with a
+ * memory-mapped `BinaryTrace`.
+ * <p>
+ * Every loader is followed by a full scan of the loaded columns, so the mapped
+ * trace pays for touching its pages just like the parsers pay for parsing.
+ * <p>
+ * Usage: {@code java bench.TraceLoadBenchmark [records] [--skip-scanner]}.
+ * The default is 100,000,000 records.
+ */
+public class TraceLoadBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        boolean skipScanner = args.length > 1 && args[1].equals("--skip-scanner");
+
+        Path dir = Files.createTempDirectory("trace-bench");
+        Path text = dir.resolve("workload.txt");
+        Path trace = dir.resolve("workload.trace");
+        try {
+            Workload generated = WorkloadShape.UNIFORM.generate(n, 42, false);
+            try (BufferedWriter out = Files.newBufferedWriter(text)) {
+                for (int i = 0; i < n; i++) {
+                    out.write(generated.pid(i) + " " + generated.arrivalTime(i) + " " + generated.burstTime(i));
+                    out.newLine();
+                }
+            }
+            generated = null; // Let the generated columns be collected before measuring
+
+            Measurement convert = Measurement.of(() -> run(() -> BinaryTrace.convertText(text, trace)), 0, 1);
+            report("convert text to trace", n, convert);
+
+            if (!skipScanner) {
+                report("Scanner", n, Measurement.of(() -> run(() -> scan(scannerLoad(text))), 0, 1));
+            }
+            report("WorkloadReader.readText", n, Measurement.of(() -> run(() -> {
+                try (InputStream in = Files.newInputStream(text)) {
+                    return scan(WorkloadReader.readText(in));
+                }
+            }), 1, 3));
+            report("BinaryTrace.map", n, Measurement.of(() -> run(() -> scan(BinaryTrace.map(trace))), 1, 3));
+            System.out.printf(Locale.ROOT, "text: %d bytes, trace: %d bytes%n", Files.size(text), Files.size(trace));
+        } finally {
+            Files.deleteIfExists(text);
+            Files.deleteIfExists(trace);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static int[][] scannerLoad(Path text) throws IOException {
+        try (Scanner sc = new Scanner(text)) {
+            int[][] columns = new int[3][1024];
+            int n = 0;
+            while (sc.hasNextInt()) {
+                if (n == columns[0].length) {
+                    for (int c = 0; c < 3; c++) {
+                        columns[c] = Arrays.copyOf(columns[c], n << 1);
+                    }
+                }
+                columns[0][n] = sc.nextInt();
+                columns[1][n] = sc.nextInt();
+                columns[2][n] = sc.nextInt();
+                n++;
+            }
+            return columns;
+        }
+    }
+
+    private static long scan(int[][] columns) {
+        long sum = 0;
+        for (int[] column : columns) {
+            for (int v : column) {
+                sum += v;
+            }
+        }
+        return sum;
+    }
+
+    private static long scan(Workload workload) {
+        long sum = 0;
+        for (int i = 0; i < workload.size(); i++) {
+            sum += workload.pid(i) + workload.arrivalTime(i) + workload.burstTime(i);
+        }
+        return sum;
+    }
+
+    private static void report(String name, int n, Measurement m) {
+        System.out.printf(Locale.ROOT, "%-26s %10.1f ms %12.1f ns/record %14.0f B allocated (%.2f B/record)%n",
+                name, m.getMeanNanos() / 1e6, m.getMeanNanos() / n,
+                m.getAllocatedBytesPerOp(), m.getAllocatedBytesPerOp() / n);
+    }
+
+    private static void run(IoTask task) {
+        try {
+            task.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface IoTask {
+        Object run() throws IOException;
+    }
+
+}
@@ -0,0 +1,102 @@
+package bench;
+
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.ProcessInput;
+import model.Workload;
+import task.Scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The `WorkloadAllocationBenchmark` class compares the bytes allocated per
+ * process by the `List<ProcessInput>` adapter of `Scheduler` with those of the
+ * columnar `Workload` path.
+ * <p>
+ * For each size it first reports what holding the input costs: building the
+ * list of `ProcessInput` objects against building the `Workload` columns. Then,
+ * for each algorithm, the `list` row schedules the prebuilt list through
+ * `Scheduler.schedule(List)`, which copies it into a `Workload` and returns one
+ * `ProcessStats` per process, and the `workload` row schedules the `Workload`
+ * directly, which allocates only the arrival sort keys and index arrays.
+ * <p>
+ * Usage: {@code java bench.WorkloadAllocationBenchmark [--algorithms A,B]
+ * [--shape S] [--sizes N1,N2] [--quantum Q] [--warmup W] [--iterations I]}
+ */
+public class WorkloadAllocationBenchmark {
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        List<CpuAlgo> algorithms = List.of(CpuAlgo.FCFS, CpuAlgo.SJF_NON_PREEMPTIVE, CpuAlgo.ROUND_ROBIN);
+        WorkloadShape shape = WorkloadShape.UNIFORM;
+        int[] sizes = {10_000, 1_000_000};
+        int quantum = 4;
+        int warmup = 3;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i++]) {
+                case "--algorithms" -> algorithms = Arrays.stream(value.split(",")).map(CpuAlgo::parse).toList();
+                case "--shape" -> shape = WorkloadShape.valueOf(value);
+                case "--sizes" -> sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--quantum" -> quantum = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+            }
+        }
+
+        System.out.printf("%-20s %-10s %10s %12s %14s %10s %6s%n",
+                "algorithm", "path", "size", "ms/op", "B/op", "B/proc", "gc");
+        for (int size : sizes) {
+            Workload workload = shape.generate(size, SEED, true);
+            List<ProcessInput> inputs = toInputs(workload);
+
+            report("input", "list", size, Measurement.of(() -> toInputs(workload), warmup, iterations));
+            report("input", "workload", size, Measurement.of(() -> toColumns(workload), warmup, iterations));
+            for (CpuAlgo algorithm : algorithms) {
+                Scheduler scheduler = Schedulers.create(algorithm, quantum);
+                report(algorithm.name(), "list", size,
+                        Measurement.of(() -> scheduler.schedule(inputs), warmup, iterations));
+                report(algorithm.name(), "workload", size,
+                        Measurement.of(() -> scheduler.schedule(workload), warmup, iterations));
+            }
+        }
+    }
+
+    private static List<ProcessInput> toInputs(Workload workload) {
+        List<ProcessInput> inputs = new ArrayList<>(workload.size());
+        for (int i = 0; i < workload.size(); i++) {
+            inputs.add(new ProcessInput(workload.pid(i), workload.arrivalTime(i), workload.burstTime(i)));
+        }
+        return inputs;
+    }
+
+    private static Workload toColumns(Workload workload) {
+        int n = workload.size();
+        int[] pids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            pids[i] = workload.pid(i);
+            arrivalTimes[i] = workload.arrivalTime(i);
+            burstTimes[i] = workload.burstTime(i);
+        }
+        return new Workload(pids, arrivalTimes, burstTimes);
+    }
+
+    private static void report(String algorithm, String path, int size, Measurement m) {
+        System.out.printf(Locale.ROOT, "%-20s %-10s %10d %12.3f %14.0f %10.2f %6d%n",
+                algorithm, path, size,
+                m.getMeanNanos() / 1e6,
+                m.getAllocatedBytesPerOp(),
+                m.getAllocatedBytesPerOp() / size,
+                m.getGcCount());
+    }
+
+}
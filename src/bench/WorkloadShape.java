@@ -0,0 +1,105 @@
+package bench;
+
+import model.Workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `WorkloadShape` enum generates reproducible synthetic workloads for
+ * benchmarking schedulers.
+ * <p>
+ * Every shape targets a mean burst time of about 10 and, except for
+ * `ALL_AT_ZERO`, a mean inter-arrival time of about 10, so the CPU stays close to
+ * fully loaded and the ready queue neither drains nor grows without bound.
+ */
+public enum WorkloadShape {
+
+    /** Uniform inter-arrival times in [0, 20] and uniform bursts in [1, 20]. */
+    UNIFORM,
+    /** Uniform inter-arrival times with heavy-tailed Pareto (alpha 1.5) bursts. */
+    PARETO,
+    /** Arrivals clustered in bursts of about 50 processes separated by idle gaps. */
+    BURSTY,
+    /** Every process arrives at time 0 with uniform bursts in [1, 20]. */
+    ALL_AT_ZERO;
+
+    private static final int MAX_BURST = 1_000_000;
+
+    /**
+     * Generates a workload of this shape.
+     *
+     * @param n        The number of processes.
+     * @param seed     The random seed; equal seeds give equal workloads.
+     * @param shuffled Whether positions are shuffled instead of sorted by arrival.
+     * @return A new `Workload` whose PIDs are 1..n in arrival order.
+     */
+    public Workload generate(int n, long seed, boolean shuffled) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] pids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+
+        long time = 0;
+        int burstLeft = 0;
+        for (int i = 0; i < n; i++) {
+            switch (this) {
+                case UNIFORM, PARETO -> time += random.nextInt(21);
+                case BURSTY -> {
+                    if (burstLeft == 0) {
+                        // Idle gap of about 500, the work of an average burst of 50 processes
+                        time += random.nextInt(1000);
+                        burstLeft = 1 + random.nextInt(99);
+                    }
+                    burstLeft--;
+                }
+                case ALL_AT_ZERO -> {
+                }
+            }
+            pids[i] = i + 1;
+            arrivalTimes[i] = (int) Math.min(time, Integer.MAX_VALUE);
+            burstTimes[i] = this == PARETO ? paretoBurst(random) : 1 + random.nextInt(20);
+        }
+
+        if (shuffled) {
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                swap(pids, i, j);
+                swap(arrivalTimes, i, j);
+                swap(burstTimes, i, j);
+            }
+        }
+        return new Workload(pids, arrivalTimes, burstTimes);
+    }
+
+    /**
+     * Multiplies every arrival time of a workload, lowering the load by the same
+     * factor; the default shapes keep the CPU close to fully loaded.
+     *
+     * @param workload The workload to spread.
+     * @param factor   The factor applied to every arrival time.
+     * @return A workload sharing the other columns, with scaled arrival times.
+     */
+    public static Workload spread(Workload workload, double factor) {
+        int[] arrivalTimes = new int[workload.size()];
+        for (int i = 0; i < arrivalTimes.length; i++) {
+            arrivalTimes[i] = (int) Math.min(Integer.MAX_VALUE, (long) (workload.arrivalTime(i) * factor));
+        }
+        return workload.withArrivalTimes(arrivalTimes);
+    }
+
+    /**
+     * Draws a Pareto burst with shape 1.5 and scale 10/3, giving a mean of 10.
+     */
+    private static int paretoBurst(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble(); // in (0, 1]
+        double burst = (10.0 / 3.0) / Math.pow(u, 1.0 / 1.5);
+        return (int) Math.min(MAX_BURST, Math.ceil(burst));
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+}
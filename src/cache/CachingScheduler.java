@@ -0,0 +1,83 @@
+package cache;
+
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import util.Fingerprint;
+
+/**
+ * The `CachingScheduler` class implements the `Scheduler` interface in front of
+ * another scheduler and serves repeated schedules from a `ResultCache`.
+ * <p>
+ * A workload is looked up by its `Fingerprint` and size together with the
+ * delegate's `configuration`, so the same trace scheduled with a different
+ * algorithm or time quantum is a different entry. Fingerprinting is a single
+ * linear pass over the input columns, much cheaper than sorting and simulating.
+ * Observed runs always go to the delegate, since an observer needs the live
+ * simulation; their results are not cached.
+ */
+public class CachingScheduler implements Scheduler {
+
+    private final Scheduler delegate;
+    private final ResultCache cache;
+
+    /**
+     * Constructs a `CachingScheduler`.
+     *
+     * @param delegate The scheduler computing results on a miss.
+     * @param cache    The cache, which may be shared with other caching schedulers.
+     */
+    public CachingScheduler(Scheduler delegate, ResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public String configuration() {
+        return delegate.configuration();
+    }
+
+    /**
+     * Writes the cached completion times into the workload, or schedules it with
+     * the delegate and caches the result.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and
+     *                 phases; any observer other than `NONE` bypasses the cache.
+     */
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        if (observer != ScheduleObserver.NONE) {
+            delegate.schedule(workload, observer);
+            return;
+        }
+
+        int n = workload.size();
+        long fingerprint = Fingerprint.of(workload);
+        String configuration = delegate.configuration();
+        int[] completionTimes = cache.get(fingerprint, n, configuration);
+        if (completionTimes != null) {
+            for (int i = 0; i < n; i++) {
+                workload.setCompletionTime(i, completionTimes[i]);
+            }
+            return;
+        }
+
+        delegate.schedule(workload);
+        completionTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            completionTimes[i] = workload.completionTime(i);
+        }
+        cache.put(fingerprint, configuration, completionTimes);
+    }
+
+    public Scheduler getDelegate() {
+        return delegate;
+    }
+
+    public ResultCache getCache() {
+        return cache;
+    }
+
+}
@@ -0,0 +1,281 @@
+package cache;
+
+import trace.BinaryResults;
+import util.Fingerprint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The `ResultCache` class stores the completion times of scheduled workloads,
+ * keyed by the workload's fingerprint and size and by the scheduler's
+ * configuration.
+ * <p>
+ * The memory tier is a least-recently-used map bounded by the estimated bytes of
+ * its entries rather than by their number, so one huge trace cannot crowd the
+ * heap any more than many small ones. An optional disk tier keeps every result in
+ * a directory as a `trace.BinaryResults` file; a memory miss that hits on disk
+ * loads the entry back into memory. Results larger than the whole memory budget
+ * are only kept on disk. A disk file that cannot be read, is not a valid results
+ * file or holds the wrong number of records counts as a miss and is deleted, so
+ * the next `put` for its key writes it afresh. A result that cannot be written
+ * to disk stays in memory only and is counted by `getDiskWriteFailures`, so a
+ * full or read-only cache directory never fails the schedule it caches.
+ * <p>
+ * The cache is safe for concurrent use. Returned arrays are shared and must not
+ * be modified.
+ */
+public class ResultCache {
+
+    // Estimated cost of an entry besides its completion times: map node, key and array header
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final long maxBytes;
+    private final Path directory;
+    private final LinkedHashMap<Key, int[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+    private long diskWriteFailures;
+
+    /**
+     * Constructs a memory-only `ResultCache`.
+     *
+     * @param maxBytes The memory budget in bytes.
+     * @throws IllegalArgumentException If the budget is negative.
+     */
+    public ResultCache(long maxBytes) {
+        this(maxBytes, null);
+    }
+
+    /**
+     * Constructs a `ResultCache` with a disk tier.
+     *
+     * @param maxBytes  The memory budget in bytes.
+     * @param directory The directory holding the disk tier, created if needed, or
+     *                  `null` for a memory-only cache.
+     * @throws IllegalArgumentException If the budget is negative.
+     * @throws UncheckedIOException     If the directory cannot be created.
+     */
+    public ResultCache(long maxBytes, Path directory) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Memory budget must be >= 0: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached completion times for a workload and configuration.
+     *
+     * @param fingerprint   The workload's fingerprint.
+     * @param size          The number of processes in the workload.
+     * @param configuration The scheduler's configuration.
+     * @return The completion times in workload order, or `null` on a miss.
+     */
+    public synchronized int[] get(long fingerprint, int size, String configuration) {
+        Key key = new Key(fingerprint, size, configuration);
+        int[] completionTimes = entries.get(key);
+        if (completionTimes != null) {
+            hits++;
+            return completionTimes;
+        }
+
+        if (directory != null) {
+            Path file = directory.resolve(key.fileName());
+            if (Files.isRegularFile(file)) {
+                completionTimes = readDisk(file, size);
+                if (completionTimes != null) {
+                    diskHits++;
+                    insert(key, completionTimes);
+                    return completionTimes;
+                }
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Stores the completion times for a workload and configuration.
+     *
+     * @param fingerprint     The workload's fingerprint.
+     * @param configuration   The scheduler's configuration.
+     * @param completionTimes The completion times in workload order. The array is
+     *                        kept, not copied, and must not be modified afterwards.
+     */
+    public synchronized void put(long fingerprint, String configuration, int[] completionTimes) {
+        Key key = new Key(fingerprint, completionTimes.length, configuration);
+        insert(key, completionTimes);
+        if (directory != null) {
+            try {
+                BinaryResults.write(completionTimes, directory.resolve(key.fileName()));
+            } catch (IOException e) {
+                // Keep the memory entry; a later put for the key retries the file
+                diskWriteFailures++;
+            }
+        }
+    }
+
+    /**
+     * Reads a disk tier file, deleting it if it is unreadable, invalid or of the
+     * wrong size.
+     *
+     * @return The completion times, or `null` if the file was discarded.
+     */
+    private static int[] readDisk(Path file, int size) {
+        try {
+            int[] completionTimes = BinaryResults.read(file);
+            if (completionTimes.length == size) {
+                return completionTimes;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Fall through and discard the file
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // A later put replaces the file anyway
+        }
+        return null;
+    }
+
+    private void insert(Key key, int[] completionTimes) {
+        long entryBytes = entryBytes(completionTimes);
+        int[] previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= entryBytes(previous);
+        }
+        if (entryBytes > maxBytes) {
+            return;
+        }
+        entries.put(key, completionTimes);
+        bytes += entryBytes;
+
+        // Evict least recently used entries until the budget is met
+        Iterator<Map.Entry<Key, int[]>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= entryBytes(eldest.next().getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long entryBytes(int[] completionTimes) {
+        return ENTRY_OVERHEAD_BYTES + (long) completionTimes.length * Integer.BYTES;
+    }
+
+    /**
+     * Removes every entry from memory. The disk tier and the statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated bytes held by the memory tier.
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the number of lookups answered from memory.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups answered from the disk tier.
+     */
+    public synchronized long getDiskHits() {
+        return diskHits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted from memory to stay within the budget.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of results that could not be written to the disk tier.
+     */
+    public synchronized long getDiskWriteFailures() {
+        return diskWriteFailures;
+    }
+
+    /**
+     * Returns the fraction of lookups answered from either tier.
+     *
+     * @return The hit ratio, or 0 before the first lookup.
+     */
+    public synchronized double hitRatio() {
+        long lookups = hits + diskHits + misses;
+        return lookups == 0 ? 0 : (double) (hits + diskHits) / lookups;
+    }
+
+    /**
+     * The identity of a cached result.
+     */
+    private static final class Key {
+        private final long fingerprint;
+        private final int size;
+        private final String configuration;
+
+        private Key(long fingerprint, int size, String configuration) {
+            this.fingerprint = fingerprint;
+            this.size = size;
+            this.configuration = configuration;
+        }
+
+        private String fileName() {
+            return Long.toHexString(fingerprint) + '-' + Long.toHexString(Fingerprint.of(configuration))
+                    + '-' + size + ".res";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k
+                    && fingerprint == k.fingerprint
+                    && size == k.size
+                    && configuration.equals(k.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, size, configuration);
+        }
+    }
+
+}
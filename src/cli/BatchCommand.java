@@ -0,0 +1,381 @@
+package cli;
+
+import cache.CachingScheduler;
+import cache.ResultCache;
+import implementation.LongTimeScheduler;
+import implementation.MlfqScheduler;
+import implementation.MultiCoreScheduler;
+import implementation.PriorityScheduler;
+import implementation.Schedulers;
+import implementation.SrtfScheduler;
+import model.CpuAlgo;
+import jfr.JfrObserver;
+import model.LongWorkload;
+import model.MultiCoreResult;
+import model.ScheduleStatistics;
+import model.SchedulerMetrics;
+import model.Timeline;
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import trace.BinaryTimeline;
+import trace.BinaryTrace;
+import util.AsciiWriter;
+import util.GanttPrinter;
+import util.TablePrinter;
+import util.WorkloadReader;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The `BatchCommand` class implements the non-interactive command-line mode: it
+ * reads a workload file, schedules it with one algorithm and writes the results
+ * in the requested format through a single buffered writer.
+ * <p>
+ * Usage: {@code --algorithm A [--quantum Q] [--levels L] [--boost S] [--aging I]
+ * [--priorities] [--format table|csv|json|summary] [--head N | --tail N]
+ * [--cores N [--placement P] [--steal]] [--gantt] [--timeline file]
+ * [--metrics] [--jfr] [--cache dir] [--output file] <workload-file|->}. The
+ * workload is either whitespace-separated `PID ArrivalTime BurstTime` text or a
+ * `trace.BinaryTrace` file, which is detected by its magic number; `-` reads
+ * text from standard input. `--head` and `--tail` limit the rows of the table
+ * format. `--cores` simulates a multi-core machine whose per-core queues use the
+ * chosen algorithm (see `implementation.MultiCoreScheduler`). `--levels` and `--boost` configure the
+ * MLFQ level count and boost interval (0 disables boosts). `--priorities` reads
+ * text input as `PID ArrivalTime BurstTime Priority` quadruples, and `--aging`
+ * sets the aging interval of the priority algorithms (0 disables aging). `--gantt` appends a
+ * text Gantt chart and `--timeline` writes the execution slices as a
+ * `trace.BinaryTimeline` file; either one also reports the average response time.
+ * `--metrics` appends dispatch counts, idle time, distributions and phase timings
+ * (see `model.SchedulerMetrics`), and `--jfr` reports the run to the JDK Flight
+ * Recorder (see `jfr.JfrObserver`). `--cache` keeps single-core results in a
+ * directory keyed by the workload's fingerprint and the scheduler configuration,
+ * so repeating a run reads the completion times instead of scheduling again (see
+ * `cache.ResultCache`); observed runs are never served from the cache.
+ * <p>
+ * Text workloads without priorities are read into the compact `Workload` while
+ * their schedule fits in `int` times and run as above; reading switches to `long`
+ * columns only once a time or the completion bound passes that range. A wide
+ * workload, such as a trace in nanoseconds, is scheduled by
+ * `implementation.LongTimeScheduler` on a single core with FCFS, SJF or Round
+ * Robin, without the observing, multi-core and caching options; its table ends
+ * with the averages only, and says so. A schedule that
+ * overflows either time domain is reported instead of wrapping around.
+ * <p>
+ * The mode avoids `Scanner`, `printf` and lambdas so that the JVM starts and
+ * finishes quickly when invoked repeatedly from shell loops.
+ */
+public class BatchCommand {
+
+    // Memory budget of the result cache; within one run only the disk tier matters
+    private static final long CACHE_MEMORY_BYTES = 64L << 20;
+
+    private BatchCommand() {
+    }
+
+    /**
+     * Runs the batch mode.
+     *
+     * @param args The command-line arguments.
+     * @return The process exit code.
+     */
+    public static int run(String[] args) {
+        CpuAlgo algorithm = null;
+        int timeQuantum = 0;
+        int levels = MlfqScheduler.DEFAULT_LEVELS;
+        int boostInterval = -1;
+        int agingInterval = PriorityScheduler.DEFAULT_AGING_INTERVAL;
+        boolean priorities = false;
+        OutputFormat format = OutputFormat.TABLE;
+        TablePrinter.Page page = TablePrinter.Page.all();
+        int cores = 0;
+        MultiCoreScheduler.Placement placement = MultiCoreScheduler.Placement.GLOBAL_QUEUE;
+        boolean workStealing = false;
+        boolean gantt = false;
+        String timelineFile = null;
+        boolean recordMetrics = false;
+        boolean jfr = false;
+        String cacheDirectory = null;
+        String input = null;
+        String output = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--algorithm" -> algorithm = CpuAlgo.parse(value(args, ++i));
+                    case "--quantum" -> timeQuantum = parseInt(value(args, ++i));
+                    case "--levels" -> levels = parseInt(value(args, ++i));
+                    case "--boost" -> boostInterval = parseInt(value(args, ++i));
+                    case "--aging" -> agingInterval = parseInt(value(args, ++i));
+                    case "--priorities" -> priorities = true;
+                    case "--format" -> format = OutputFormat.parse(value(args, ++i));
+                    case "--head" -> page = TablePrinter.Page.head(parseInt(value(args, ++i)));
+                    case "--tail" -> page = TablePrinter.Page.tail(parseInt(value(args, ++i)));
+                    case "--cores" -> cores = parseInt(value(args, ++i));
+                    case "--placement" -> placement = parsePlacement(value(args, ++i));
+                    case "--steal" -> workStealing = true;
+                    case "--gantt" -> gantt = true;
+                    case "--timeline" -> timelineFile = value(args, ++i);
+                    case "--metrics" -> recordMetrics = true;
+                    case "--jfr" -> jfr = true;
+                    case "--cache" -> cacheDirectory = value(args, ++i);
+                    case "--output" -> output = value(args, ++i);
+                    default -> {
+                        if (args[i].startsWith("--") || input != null) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        input = args[i];
+                    }
+                }
+            }
+            if (algorithm == null || input == null) {
+                throw new IllegalArgumentException("Usage: --algorithm A [--quantum Q] "
+                        + "[--levels L] [--boost S] [--aging I] [--priorities] "
+                        + "[--format table|csv|json|summary] [--head N | --tail N] "
+                        + "[--cores N [--placement P] [--steal]] [--gantt] [--timeline file] "
+                        + "[--metrics] [--jfr] [--cache dir] [--output file] <workload-file|->");
+            }
+            if (cacheDirectory != null && cores > 0) {
+                throw new IllegalArgumentException("--cache applies to single-core runs only");
+            }
+
+            // Keep the compact int layout whenever the whole schedule fits in it
+            WorkloadReader.TextWorkload text = priorities ? null : readAdaptive(input);
+            LongWorkload wide = text != null ? text.getWideWorkload() : null;
+            if (wide != null) {
+                if (cores > 0 || gantt || timelineFile != null || recordMetrics || jfr || cacheDirectory != null) {
+                    throw new IllegalArgumentException("Times beyond the int range support single-core runs "
+                            + "without --gantt, --timeline, --metrics, --jfr or --cache only");
+                }
+                LongTimeScheduler longScheduler = new LongTimeScheduler(algorithm, timeQuantum);
+                longScheduler.schedule(wide);
+                try (AsciiWriter out = new AsciiWriter(open(output))) {
+                    writeWide(wide, algorithm, timeQuantum, format, page, out);
+                }
+                return 0;
+            }
+            Workload workload = text != null ? text.getWorkload() : read(input, priorities);
+            Timeline timeline = gantt || timelineFile != null ? new Timeline(1024) : null;
+            SchedulerMetrics metrics = recordMetrics ? new SchedulerMetrics() : null;
+            ScheduleObserver observer = ScheduleObserver.NONE;
+            if (timeline != null) {
+                observer = timeline;
+            }
+            if (metrics != null) {
+                observer = observer == ScheduleObserver.NONE ? metrics : observer.andThen(metrics);
+            }
+            if (jfr) {
+                JfrObserver jfrObserver = new JfrObserver();
+                observer = observer == ScheduleObserver.NONE ? jfrObserver : observer.andThen(jfrObserver);
+            }
+            Scheduler scheduler;
+            MultiCoreResult coreResult = null;
+            if (cores > 0) {
+                MultiCoreScheduler multiCore = new MultiCoreScheduler(
+                        cores, algorithm, timeQuantum, placement, workStealing);
+                coreResult = multiCore.run(workload, observer);
+                scheduler = multiCore;
+            } else {
+                if (algorithm == CpuAlgo.MLFQ) {
+                    scheduler = new MlfqScheduler(levels, timeQuantum,
+                            boostInterval >= 0 ? boostInterval : Schedulers.boostInterval(timeQuantum));
+                } else if (algorithm == CpuAlgo.PRIORITY_NON_PREEMPTIVE || algorithm == CpuAlgo.PRIORITY_PREEMPTIVE) {
+                    scheduler = new PriorityScheduler(algorithm == CpuAlgo.PRIORITY_PREEMPTIVE, agingInterval);
+                } else {
+                    scheduler = Schedulers.create(algorithm, timeQuantum);
+                }
+                if (cacheDirectory != null) {
+                    scheduler = new CachingScheduler(
+                            scheduler, new ResultCache(CACHE_MEMORY_BYTES, Path.of(cacheDirectory)));
+                }
+                scheduler.schedule(workload, observer);
+            }
+            if (metrics != null) {
+                metrics.recordResults(workload);
+            }
+            if (timelineFile != null) {
+                BinaryTimeline.write(timeline, workload, Path.of(timelineFile));
+            }
+
+            try (AsciiWriter out = new AsciiWriter(open(output))) {
+                write(workload, algorithm, timeQuantum, Math.max(cores, 1), format, page, out);
+                if (format != OutputFormat.CSV && format != OutputFormat.JSON) {
+                    writeCounters(scheduler, coreResult, out);
+                    if (timeline != null) {
+                        out.write("Average Response Time: ")
+                                .writeFixed(timeline.averageResponseTime(workload), 2).newLine();
+                    }
+                    if (metrics != null) {
+                        TablePrinter.printMetrics(metrics, out);
+                    }
+                    if (gantt) {
+                        out.write("Gantt Chart:").newLine();
+                        GanttPrinter.print(timeline, workload, out);
+                    }
+                }
+            }
+            return 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            return 2;
+        } catch (ArithmeticException e) {
+            System.err.println("Time overflow: the schedule passes the range of its time domain");
+            return 2;
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static OutputStream open(String output) throws IOException {
+        return output == null
+                ? new FileOutputStream(FileDescriptor.out)
+                : Files.newOutputStream(Path.of(output));
+    }
+
+    /**
+     * Reads a text workload into `int` columns, or `long` ones if its times need
+     * them, or returns `null` for a binary trace, whose times are always `int`s.
+     */
+    private static WorkloadReader.TextWorkload readAdaptive(String input) throws IOException {
+        if (input.equals("-")) {
+            return WorkloadReader.readAdaptiveText(System.in);
+        }
+        Path path = Path.of(input);
+        if (BinaryTrace.isTrace(path)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return WorkloadReader.readAdaptiveText(in);
+        }
+    }
+
+    private static Workload read(String input, boolean priorities) throws IOException {
+        if (input.equals("-")) {
+            return WorkloadReader.readText(System.in, priorities);
+        }
+        Path path = Path.of(input);
+        if (BinaryTrace.isTrace(path)) {
+            if (priorities) {
+                throw new IllegalArgumentException("Binary traces have no priority column");
+            }
+            return BinaryTrace.map(path);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return WorkloadReader.readText(in, priorities);
+        }
+    }
+
+    private static void write(
+            Workload workload,
+            CpuAlgo algorithm,
+            int timeQuantum,
+            int cores,
+            OutputFormat format,
+            TablePrinter.Page page,
+            AsciiWriter out
+    ) throws IOException {
+        switch (format) {
+            case CSV -> ResultWriter.writeCsv(workload, out);
+            case JSON -> ResultWriter.writeJson(workload, algorithm, timeQuantum, cores, out);
+            case SUMMARY -> ResultWriter.writeSummary(workload, cores, out);
+            case TABLE -> {
+                out.write("Scheduling Algorithm: ").write(algorithm.readableName()).newLine();
+                TablePrinter.print(workload, out, page);
+                TablePrinter.printStatistics(ScheduleStatistics.of(workload), cores, out);
+            }
+        }
+    }
+
+    private static void writeWide(
+            LongWorkload workload,
+            CpuAlgo algorithm,
+            int timeQuantum,
+            OutputFormat format,
+            TablePrinter.Page page,
+            AsciiWriter out
+    ) throws IOException {
+        switch (format) {
+            case CSV -> ResultWriter.writeCsv(workload, out);
+            case JSON -> ResultWriter.writeJson(workload, algorithm, timeQuantum, out);
+            case SUMMARY -> ResultWriter.writeSummary(workload, out);
+            case TABLE -> {
+                out.write("Scheduling Algorithm: ").write(algorithm.readableName()).newLine();
+                TablePrinter.print(workload, out, page);
+                // ScheduleStatistics sums int times only
+                out.write("Percentiles, fairness, throughput and utilization are not available "
+                        + "for times beyond the int range").newLine();
+            }
+        }
+    }
+
+    /**
+     * Appends the counters that some schedulers record about their last run.
+     */
+    private static void writeCounters(Scheduler scheduler, MultiCoreResult coreResult, AsciiWriter out)
+            throws IOException {
+        if (scheduler instanceof CachingScheduler caching) {
+            ResultCache cache = caching.getCache();
+            out.write("Result Cache: ").writeLong(cache.getHits() + cache.getDiskHits())
+                    .write(" hits, ").writeLong(cache.getMisses()).write(" misses");
+            if (cache.getDiskWriteFailures() > 0) {
+                out.write(", ").writeLong(cache.getDiskWriteFailures()).write(" disk writes failed");
+            }
+            out.newLine();
+            if (cache.getMisses() == 0) {
+                // Served from the cache: the scheduler did not run
+                return;
+            }
+            scheduler = caching.getDelegate();
+        }
+        if (scheduler instanceof SrtfScheduler srtf) {
+            out.write("Context Switches: ").writeLong(srtf.getContextSwitches()).newLine();
+            out.write("Preemptions: ").writeLong(srtf.getPreemptions()).newLine();
+        }
+        if (scheduler instanceof PriorityScheduler priority) {
+            out.write("Preemptions: ").writeLong(priority.getPreemptions()).newLine();
+        }
+        if (coreResult != null) {
+            out.write("Average Core Utilization: ")
+                    .writeFixed(coreResult.averageUtilization() * 100, 2).write('%').newLine();
+            for (int core = 0; core < coreResult.getCoreCount(); core++) {
+                out.write("Core ").writeInt(core)
+                        .write(": busy ").writeLong(coreResult.busyTime(core))
+                        .write(", utilization ").writeFixed(coreResult.utilization(core) * 100, 2)
+                        .write("%, last completion ").writeInt(coreResult.lastCompletionTime(core))
+                        .newLine();
+            }
+        }
+    }
+
+    private static MultiCoreScheduler.Placement parsePlacement(String text) {
+        for (MultiCoreScheduler.Placement placement : MultiCoreScheduler.Placement.values()) {
+            if (placement.name().equalsIgnoreCase(text)) {
+                return placement;
+            }
+        }
+        throw new IllegalArgumentException("Unknown placement: " + text);
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static int parseInt(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer: " + text);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package cli;
+
+/**
+ * The output formats of the batch command-line mode.
+ */
+public enum OutputFormat {
+
+    TABLE,
+    CSV,
+    JSON,
+    SUMMARY;
+
+    /**
+     * Parses a format from its name, ignoring case.
+     *
+     * @param text The format name.
+     * @return The matching `OutputFormat`.
+     * @throws IllegalArgumentException If no format matches.
+     */
+    public static OutputFormat parse(String text) {
+        for (OutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(text)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format: " + text);
+    }
+
+}
@@ -0,0 +1,207 @@
+package cli;
+
+import model.CpuAlgo;
+import model.LongWorkload;
+import model.ScheduleStatistics;
+import model.Workload;
+import util.AsciiWriter;
+import util.TablePrinter;
+
+import java.io.IOException;
+
+/**
+ * The `ResultWriter` class renders a scheduled `Workload` as CSV, JSON or a
+ * summary through an `AsciiWriter`, reading the workload's columns directly.
+ * The `LongWorkload` overloads write the same columns for `long` times, with a
+ * summary of the averages, makespan, throughput and utilization only.
+ */
+public class ResultWriter {
+
+    private ResultWriter() {
+    }
+
+    /**
+     * Writes one CSV row per process, preceded by a header row.
+     */
+    public static void writeCsv(Workload workload, AsciiWriter out) throws IOException {
+        out.write("pid,arrival_time,burst_time,completion_time,turnaround_time,waiting_time").newLine();
+        for (int i = 0; i < workload.size(); i++) {
+            out.writeInt(workload.pid(i)).write(',')
+                    .writeInt(workload.arrivalTime(i)).write(',')
+                    .writeInt(workload.burstTime(i)).write(',')
+                    .writeInt(workload.completionTime(i)).write(',')
+                    .writeInt(workload.turnaroundTime(i)).write(',')
+                    .writeInt(workload.waitingTime(i)).newLine();
+        }
+    }
+
+    /**
+     * Writes a JSON object holding the algorithm, every process and the summary.
+     *
+     * @param cores The number of cores the workload was scheduled on, for the utilization.
+     */
+    public static void writeJson(
+            Workload workload,
+            CpuAlgo algorithm,
+            int timeQuantum,
+            int cores,
+            AsciiWriter out
+    ) throws IOException {
+        out.write("{\"algorithm\":\"").write(algorithm.name()).write('"');
+        out.write(",\"time_quantum\":").writeInt(timeQuantum);
+        out.write(",\"processes\":[");
+        for (int i = 0; i < workload.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.newLine();
+            out.write("{\"pid\":").writeInt(workload.pid(i))
+                    .write(",\"arrival_time\":").writeInt(workload.arrivalTime(i))
+                    .write(",\"burst_time\":").writeInt(workload.burstTime(i))
+                    .write(",\"completion_time\":").writeInt(workload.completionTime(i))
+                    .write(",\"turnaround_time\":").writeInt(workload.turnaroundTime(i))
+                    .write(",\"waiting_time\":").writeInt(workload.waitingTime(i))
+                    .write('}');
+        }
+        out.newLine().write("],\"summary\":");
+        writeSummaryJson(ScheduleStatistics.of(workload), cores, out);
+        out.write('}').newLine();
+    }
+
+    /**
+     * Writes the process count, average turnaround and waiting times, makespan
+     * and the tail, fairness and utilization figures of `TablePrinter.printStatistics`
+     * as plain text.
+     *
+     * @param cores The number of cores the workload was scheduled on, for the utilization.
+     */
+    public static void writeSummary(Workload workload, int cores, AsciiWriter out) throws IOException {
+        ScheduleStatistics s = ScheduleStatistics.of(workload);
+        out.write("Processes: ").writeInt(workload.size()).newLine();
+        out.write("Average Turnaround Time: ").writeFixed(s.getAverageTurnaroundTime(), 2).newLine();
+        out.write("Average Waiting Time: ").writeFixed(s.getAverageWaitingTime(), 2).newLine();
+        out.write("Makespan: ").writeLong(s.getMakespan()).newLine();
+        TablePrinter.printStatistics(s, cores, out);
+    }
+
+    private static void writeSummaryJson(ScheduleStatistics s, int cores, AsciiWriter out) throws IOException {
+        out.write("{\"processes\":").writeLong(s.getCount())
+                .write(",\"average_turnaround_time\":").writeFixed(s.getAverageTurnaroundTime(), 2)
+                .write(",\"average_waiting_time\":").writeFixed(s.getAverageWaitingTime(), 2)
+                .write(",\"makespan\":").writeLong(s.getMakespan())
+                .write(",\"p50_waiting_time\":").writeLong(s.waitingTimePercentile(50))
+                .write(",\"p99_waiting_time\":").writeLong(s.waitingTimePercentile(99))
+                .write(",\"p999_waiting_time\":").writeLong(s.waitingTimePercentile(99.9))
+                .write(",\"max_waiting_time\":").writeLong(s.getMaxWaitingTime())
+                .write(",\"fairness_index\":").writeFixed(s.getFairnessIndex(), 4)
+                .write(",\"throughput\":").writeFixed(s.getThroughput(), 6)
+                .write(",\"cpu_utilization\":").writeFixed(s.getUtilization(cores), 4)
+                .write('}');
+    }
+
+    /**
+     * Writes one CSV row per process of a `LongWorkload`, preceded by the same
+     * header row as `writeCsv(Workload, AsciiWriter)`.
+     */
+    public static void writeCsv(LongWorkload workload, AsciiWriter out) throws IOException {
+        out.write("pid,arrival_time,burst_time,completion_time,turnaround_time,waiting_time").newLine();
+        for (int i = 0; i < workload.size(); i++) {
+            out.writeInt(workload.pid(i)).write(',')
+                    .writeLong(workload.arrivalTime(i)).write(',')
+                    .writeLong(workload.burstTime(i)).write(',')
+                    .writeLong(workload.completionTime(i)).write(',')
+                    .writeLong(workload.turnaroundTime(i)).write(',')
+                    .writeLong(workload.waitingTime(i)).newLine();
+        }
+    }
+
+    /**
+     * Writes a JSON object holding the algorithm, every process of a
+     * `LongWorkload` and its single-core summary.
+     */
+    public static void writeJson(LongWorkload workload, CpuAlgo algorithm, long timeQuantum, AsciiWriter out)
+            throws IOException {
+        out.write("{\"algorithm\":\"").write(algorithm.name()).write('"');
+        out.write(",\"time_quantum\":").writeLong(timeQuantum);
+        out.write(",\"processes\":[");
+        for (int i = 0; i < workload.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.newLine();
+            out.write("{\"pid\":").writeInt(workload.pid(i))
+                    .write(",\"arrival_time\":").writeLong(workload.arrivalTime(i))
+                    .write(",\"burst_time\":").writeLong(workload.burstTime(i))
+                    .write(",\"completion_time\":").writeLong(workload.completionTime(i))
+                    .write(",\"turnaround_time\":").writeLong(workload.turnaroundTime(i))
+                    .write(",\"waiting_time\":").writeLong(workload.waitingTime(i))
+                    .write('}');
+        }
+        out.newLine().write("],\"summary\":");
+        LongSummary s = new LongSummary(workload);
+        out.write("{\"processes\":").writeInt(workload.size())
+                .write(",\"average_turnaround_time\":").writeFixed(s.averageTurnaroundTime, 2)
+                .write(",\"average_waiting_time\":").writeFixed(s.averageWaitingTime, 2)
+                .write(",\"makespan\":").writeLong(s.makespan)
+                .write(",\"throughput\":").writeFixed(s.throughput(), 6)
+                .write(",\"cpu_utilization\":").writeFixed(s.utilization(), 4)
+                .write("}}").newLine();
+    }
+
+    /**
+     * Writes the process count, average turnaround and waiting times, makespan,
+     * throughput and single-core utilization of a `LongWorkload` as plain text.
+     */
+    public static void writeSummary(LongWorkload workload, AsciiWriter out) throws IOException {
+        LongSummary s = new LongSummary(workload);
+        out.write("Processes: ").writeInt(workload.size()).newLine();
+        out.write("Average Turnaround Time: ").writeFixed(s.averageTurnaroundTime, 2).newLine();
+        out.write("Average Waiting Time: ").writeFixed(s.averageWaitingTime, 2).newLine();
+        out.write("Makespan: ").writeLong(s.makespan).newLine();
+        out.write("Throughput: ").writeFixed(s.throughput(), 6).newLine();
+        out.write("CPU Utilization: ").writeFixed(s.utilization() * 100, 2).write('%').newLine();
+    }
+
+    /**
+     * The summary figures of a scheduled `LongWorkload`. Sums of `long` times can
+     * pass the `long` range, so they are accumulated as `double`s.
+     */
+    private static class LongSummary {
+
+        private final int count;
+        private final double averageTurnaroundTime;
+        private final double averageWaitingTime;
+        private final double totalBurstTime;
+        private final long makespan;
+
+        LongSummary(LongWorkload workload) {
+            count = workload.size();
+            double sumTurnaround = 0;
+            double sumWaiting = 0;
+            double sumBurst = 0;
+            long firstArrival = Long.MAX_VALUE;
+            long lastCompletion = Long.MIN_VALUE;
+            for (int i = 0; i < count; i++) {
+                sumTurnaround += workload.turnaroundTime(i);
+                sumWaiting += workload.waitingTime(i);
+                sumBurst += workload.burstTime(i);
+                firstArrival = Math.min(firstArrival, workload.arrivalTime(i));
+                lastCompletion = Math.max(lastCompletion, workload.completionTime(i));
+            }
+            averageTurnaroundTime = count == 0 ? 0 : sumTurnaround / count;
+            averageWaitingTime = count == 0 ? 0 : sumWaiting / count;
+            totalBurstTime = sumBurst;
+            makespan = count == 0 ? 0 : Math.subtractExact(lastCompletion, firstArrival);
+        }
+
+        double throughput() {
+            return makespan <= 0 ? 0 : count / (double) makespan;
+        }
+
+        double utilization() {
+            return makespan <= 0 ? 0 : totalBurstTime / makespan;
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `ArrivalProcess` class describes how a `WorkloadGenerator` spaces process
+ * arrivals in time.
+ * <p>
+ * A Poisson process has exponentially distributed inter-arrival times at a
+ * constant rate. A two-state Markov-modulated Poisson process (MMPP) alternates
+ * between a calm and a bursty state, each with its own arrival rate and an
+ * exponentially distributed stay, which produces the clustered arrivals of real
+ * traces while keeping a known long-run rate.
+ */
+public class ArrivalProcess {
+
+    /**
+     * The kinds of arrival process.
+     */
+    public enum Kind {
+        POISSON,
+        MMPP
+    }
+
+    private final Kind kind;
+    private final double calmRate;
+    private final double burstRate;
+    private final double meanCalmTime;
+    private final double meanBurstTime;
+
+    private ArrivalProcess(Kind kind, double calmRate, double burstRate, double meanCalmTime, double meanBurstTime) {
+        this.kind = kind;
+        this.calmRate = calmRate;
+        this.burstRate = burstRate;
+        this.meanCalmTime = meanCalmTime;
+        this.meanBurstTime = meanBurstTime;
+    }
+
+    /**
+     * Creates a Poisson arrival process.
+     *
+     * @param rate The mean number of arrivals per time unit.
+     * @return A new `ArrivalProcess`.
+     * @throws IllegalArgumentException If the rate is not positive.
+     */
+    public static ArrivalProcess poisson(double rate) {
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("Arrival rate must be > 0: " + rate);
+        }
+        return new ArrivalProcess(Kind.POISSON, rate, rate, Double.POSITIVE_INFINITY, 0);
+    }
+
+    /**
+     * Creates a two-state Markov-modulated Poisson arrival process that starts in
+     * the calm state.
+     *
+     * @param calmRate      The arrival rate in the calm state; 0 makes it silent.
+     * @param burstRate     The arrival rate in the bursty state.
+     * @param meanCalmTime  The mean time spent in the calm state per visit.
+     * @param meanBurstTime The mean time spent in the bursty state per visit.
+     * @return A new `ArrivalProcess`.
+     * @throws IllegalArgumentException If a rate is negative, both rates are 0, or
+     *                                  a mean stay is not positive.
+     */
+    public static ArrivalProcess mmpp(double calmRate, double burstRate, double meanCalmTime, double meanBurstTime) {
+        if (!(calmRate >= 0) || !(burstRate >= 0) || calmRate + burstRate == 0) {
+            throw new IllegalArgumentException("Arrival rates must be >= 0 and not both 0: "
+                    + calmRate + ", " + burstRate);
+        }
+        if (!(meanCalmTime > 0) || !(meanBurstTime > 0)) {
+            throw new IllegalArgumentException("Mean state times must be > 0: "
+                    + meanCalmTime + ", " + meanBurstTime);
+        }
+        return new ArrivalProcess(Kind.MMPP, calmRate, burstRate, meanCalmTime, meanBurstTime);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the long-run mean number of arrivals per time unit.
+     */
+    public double meanRate() {
+        if (kind == Kind.POISSON) {
+            return calmRate;
+        }
+        return (calmRate * meanCalmTime + burstRate * meanBurstTime) / (meanCalmTime + meanBurstTime);
+    }
+
+    /**
+     * Advances a generator's arrival clock to its next arrival.
+     *
+     * @param clock  The generator's clock; `time` and `bursting` are updated.
+     * @param random The generator's source of randomness.
+     */
+    void advance(Clock clock, SplittableRandom random) {
+        while (true) {
+            double rate = clock.bursting ? burstRate : calmRate;
+            double arrival = rate > 0 ? exponential(random, 1 / rate) : Double.POSITIVE_INFINITY;
+            if (kind == Kind.POISSON) {
+                clock.time += arrival;
+                return;
+            }
+
+            // The stay is memoryless, so a fresh draw after every arrival is exact
+            double stay = exponential(random, clock.bursting ? meanBurstTime : meanCalmTime);
+            if (arrival <= stay) {
+                clock.time += arrival;
+                return;
+            }
+            clock.time += stay;
+            clock.bursting = !clock.bursting;
+        }
+    }
+
+    static double exponential(SplittableRandom random, double mean) {
+        // 1 - nextDouble() lies in (0, 1], so the logarithm is finite
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.POISSON
+                ? "poisson(" + calmRate + ")"
+                : "mmpp(" + calmRate + ", " + burstRate + ", " + meanCalmTime + ", " + meanBurstTime + ")";
+    }
+
+    /**
+     * The arrival state of one generator.
+     */
+    static final class Clock {
+        double time;
+        boolean bursting;
+    }
+
+}
@@ -0,0 +1,126 @@
+package generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * The `BurstDistribution` class describes the burst times drawn by a
+ * `WorkloadGenerator`. Every burst time is rounded to a whole time unit and is at
+ * least 1.
+ * <p>
+ * Exponential bursts model a memoryless service demand, Pareto bursts a
+ * heavy-tailed one where a few long jobs carry much of the work, and bimodal
+ * bursts a mix of short interactive and long batch jobs.
+ */
+public class BurstDistribution {
+
+    /**
+     * The kinds of burst distribution.
+     */
+    public enum Kind {
+        EXPONENTIAL,
+        PARETO,
+        BIMODAL
+    }
+
+    private final Kind kind;
+    private final double first;  // Mean, Pareto scale or short burst
+    private final double second; // Pareto shape or long burst
+    private final double longFraction;
+
+    private BurstDistribution(Kind kind, double first, double second, double longFraction) {
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+        this.longFraction = longFraction;
+    }
+
+    /**
+     * Creates an exponential burst distribution.
+     *
+     * @param mean The mean burst time.
+     * @return A new `BurstDistribution`.
+     * @throws IllegalArgumentException If the mean is not positive.
+     */
+    public static BurstDistribution exponential(double mean) {
+        if (!(mean > 0)) {
+            throw new IllegalArgumentException("Mean burst time must be > 0: " + mean);
+        }
+        return new BurstDistribution(Kind.EXPONENTIAL, mean, 0, 0);
+    }
+
+    /**
+     * Creates a Pareto burst distribution.
+     *
+     * @param scale The smallest burst time.
+     * @param shape The tail index `alpha`; the mean is finite only above 1.
+     * @return A new `BurstDistribution`.
+     * @throws IllegalArgumentException If the scale or shape is not positive.
+     */
+    public static BurstDistribution pareto(double scale, double shape) {
+        if (!(scale > 0) || !(shape > 0)) {
+            throw new IllegalArgumentException("Pareto scale and shape must be > 0: " + scale + ", " + shape);
+        }
+        return new BurstDistribution(Kind.PARETO, scale, shape, 0);
+    }
+
+    /**
+     * Creates a bimodal burst distribution.
+     *
+     * @param shortBurst   The burst time of short jobs.
+     * @param longBurst    The burst time of long jobs.
+     * @param longFraction The probability that a job is long.
+     * @return A new `BurstDistribution`.
+     * @throws IllegalArgumentException If a burst time is not positive or the
+     *                                  fraction is outside [0, 1].
+     */
+    public static BurstDistribution bimodal(int shortBurst, int longBurst, double longFraction) {
+        if (shortBurst <= 0 || longBurst <= 0) {
+            throw new IllegalArgumentException("Burst times must be > 0: " + shortBurst + ", " + longBurst);
+        }
+        if (!(longFraction >= 0 && longFraction <= 1)) {
+            throw new IllegalArgumentException("Long fraction must be in [0, 1]: " + longFraction);
+        }
+        return new BurstDistribution(Kind.BIMODAL, shortBurst, longBurst, longFraction);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the mean burst time before rounding, or infinity for a Pareto
+     * distribution with shape at most 1.
+     */
+    public double mean() {
+        return switch (kind) {
+            case EXPONENTIAL -> first;
+            case PARETO -> second > 1 ? first * second / (second - 1) : Double.POSITIVE_INFINITY;
+            case BIMODAL -> first * (1 - longFraction) + second * longFraction;
+        };
+    }
+
+    /**
+     * Draws one burst time.
+     *
+     * @param random The source of randomness.
+     * @return A burst time between 1 and `Integer.MAX_VALUE`.
+     */
+    int sample(SplittableRandom random) {
+        double burst = switch (kind) {
+            case EXPONENTIAL -> ArrivalProcess.exponential(random, first);
+            case PARETO -> first / Math.pow(1 - random.nextDouble(), 1 / second);
+            case BIMODAL -> random.nextDouble() < longFraction ? second : first;
+        };
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(burst)));
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case EXPONENTIAL -> "exponential(" + first + ")";
+            case PARETO -> "pareto(" + first + ", " + second + ")";
+            case BIMODAL -> "bimodal(" + (int) first + ", " + (int) second + ", " + longFraction + ")";
+        };
+    }
+
+}
@@ -0,0 +1,196 @@
+package generator;
+
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.ProcessInput;
+import model.ScheduleStatistics;
+import task.StreamingScheduler;
+import trace.BinaryTrace;
+import util.AsciiWriter;
+import util.TablePrinter;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * The `GenerateCommand` class implements the `generate` command-line mode: it
+ * runs a `WorkloadGenerator` and either writes the workload or streams it
+ * straight into a streaming scheduler.
+ * <p>
+ * Usage: {@code generate [--count N] [--seed S]
+ * [--arrivals poisson:RATE | mmpp:CALM,BURST,CALM_TIME,BURST_TIME]
+ * [--bursts exponential:MEAN | pareto:SCALE,SHAPE | bimodal:SHORT,LONG,FRACTION]
+ * [--format text|trace] [--schedule A [--quantum Q]] [--output file]}. The text
+ * format goes to standard output unless `--output` is given; the trace format
+ * (see `trace.BinaryTrace`) requires it. `--schedule` feeds each process to the
+ * algorithm's `task.StreamingScheduler` as it is generated and prints the
+ * schedule statistics, so memory stays bounded by the ready queue however many
+ * processes are generated. With the text format the statistics replace the
+ * workload on the output; with the trace format the trace is still written and
+ * the statistics go to standard output.
+ */
+public class GenerateCommand {
+
+    private GenerateCommand() {
+    }
+
+    /**
+     * Runs the generate mode.
+     *
+     * @param args The arguments following the `generate` keyword.
+     * @return The process exit code.
+     */
+    public static int run(String[] args) {
+        int count = 1000;
+        long seed = 42;
+        ArrivalProcess arrivals = ArrivalProcess.poisson(0.1);
+        BurstDistribution bursts = BurstDistribution.exponential(8);
+        boolean trace = false;
+        CpuAlgo algorithm = null;
+        int timeQuantum = 0;
+        String output = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--count" -> count = Integer.parseInt(value(args, ++i));
+                    case "--seed" -> seed = Long.parseLong(value(args, ++i));
+                    case "--arrivals" -> arrivals = parseArrivals(value(args, ++i));
+                    case "--bursts" -> bursts = parseBursts(value(args, ++i));
+                    case "--format" -> trace = parseFormat(value(args, ++i));
+                    case "--schedule" -> algorithm = CpuAlgo.parse(value(args, ++i));
+                    case "--quantum" -> timeQuantum = Integer.parseInt(value(args, ++i));
+                    case "--output" -> output = value(args, ++i);
+                    default -> throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                }
+            }
+            if (trace && output == null) {
+                throw new IllegalArgumentException("--format trace requires --output");
+            }
+
+            WorkloadGenerator generator = new WorkloadGenerator(arrivals, bursts, count, seed);
+            if (trace && algorithm == null) {
+                generator.writeTrace(Path.of(output));
+                return 0;
+            }
+
+            OutputStream stream = output == null || trace
+                    ? new FileOutputStream(FileDescriptor.out)
+                    : Files.newOutputStream(Path.of(output));
+            try (AsciiWriter out = new AsciiWriter(stream)) {
+                if (algorithm == null) {
+                    generator.writeText(out);
+                    return 0;
+                }
+
+                ScheduleStatistics statistics = new ScheduleStatistics();
+                StreamingScheduler scheduler = Schedulers.createStreaming(algorithm, timeQuantum, statistics::accept);
+                if (trace) {
+                    BinaryTrace.write(submitting(generator, scheduler), count, Path.of(output));
+                } else {
+                    while (generator.hasNext()) {
+                        scheduler.submit(generator.next());
+                    }
+                }
+                scheduler.finish();
+
+                out.write("Scheduling Algorithm: ").write(algorithm.readableName()).newLine();
+                out.write("Workload: ").writeInt(count).write(" processes, arrivals ")
+                        .write(arrivals.toString()).write(", bursts ").write(bursts.toString()).newLine();
+                TablePrinter.printStatistics(statistics, 1, out);
+            }
+            return 0;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Invalid generate arguments: " + e.getMessage());
+            return 2;
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Returns an iterator over the generator's processes that also submits each
+     * process to the scheduler as it is returned.
+     */
+    private static Iterator<ProcessInput> submitting(WorkloadGenerator generator, StreamingScheduler scheduler) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return generator.hasNext();
+            }
+
+            @Override
+            public ProcessInput next() {
+                ProcessInput process = generator.next();
+                scheduler.submit(process);
+                return process;
+            }
+        };
+    }
+
+    private static ArrivalProcess parseArrivals(String text) {
+        double[] p = parameters(text);
+        return switch (kind(text)) {
+            case "poisson" -> ArrivalProcess.poisson(arity(p, 1)[0]);
+            case "mmpp" -> ArrivalProcess.mmpp(arity(p, 4)[0], p[1], p[2], p[3]);
+            default -> throw new IllegalArgumentException("Unknown arrival process: " + text);
+        };
+    }
+
+    private static BurstDistribution parseBursts(String text) {
+        double[] p = parameters(text);
+        return switch (kind(text)) {
+            case "exponential" -> BurstDistribution.exponential(arity(p, 1)[0]);
+            case "pareto" -> BurstDistribution.pareto(arity(p, 2)[0], p[1]);
+            case "bimodal" -> BurstDistribution.bimodal((int) arity(p, 3)[0], (int) p[1], p[2]);
+            default -> throw new IllegalArgumentException("Unknown burst distribution: " + text);
+        };
+    }
+
+    private static boolean parseFormat(String text) {
+        return switch (text) {
+            case "text" -> false;
+            case "trace" -> true;
+            default -> throw new IllegalArgumentException("Unknown format: " + text);
+        };
+    }
+
+    private static String kind(String text) {
+        int colon = text.indexOf(':');
+        return colon < 0 ? text : text.substring(0, colon);
+    }
+
+    private static double[] parameters(String text) {
+        int colon = text.indexOf(':');
+        if (colon < 0) {
+            return new double[0];
+        }
+        String[] parts = text.substring(colon + 1).split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static double[] arity(double[] parameters, int expected) {
+        if (parameters.length != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " parameters, got " + parameters.length);
+        }
+        return parameters;
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+}
@@ -0,0 +1,168 @@
+package generator;
+
+import model.ProcessInput;
+import trace.BinaryTrace;
+import util.AsciiWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The `WorkloadGenerator` class lazily generates a reproducible synthetic
+ * workload: processes with PIDs `1..count` in non-decreasing arrival order,
+ * spaced by an `ArrivalProcess` and with burst times drawn from a
+ * `BurstDistribution`.
+ * <p>
+ * The generator holds only its random state and arrival clock, so it can feed a
+ * `task.StreamingScheduler` or a file with any number of processes in constant
+ * memory. Equal seeds give equal workloads. `split` derives an independent
+ * generator from this one's random stream, the way `SplittableRandom.split`
+ * does, so parallel runs can each take a deterministic sub-stream.
+ * <p>
+ * Arrival times are whole time units. A workload whose arrivals pass
+ * `Integer.MAX_VALUE` cannot be represented and stops with an exception.
+ */
+public class WorkloadGenerator implements Iterator<ProcessInput> {
+
+    private final ArrivalProcess arrivals;
+    private final BurstDistribution bursts;
+    private final int count;
+    private final SplittableRandom random;
+    private final ArrivalProcess.Clock clock = new ArrivalProcess.Clock();
+    private int generated;
+
+    /**
+     * Constructs a `WorkloadGenerator`.
+     *
+     * @param arrivals The arrival process.
+     * @param bursts   The burst time distribution.
+     * @param count    The number of processes to generate.
+     * @param seed     The random seed.
+     * @throws IllegalArgumentException If the count is negative.
+     */
+    public WorkloadGenerator(ArrivalProcess arrivals, BurstDistribution bursts, int count, long seed) {
+        this(arrivals, bursts, count, new SplittableRandom(seed));
+    }
+
+    private WorkloadGenerator(ArrivalProcess arrivals, BurstDistribution bursts, int count, SplittableRandom random) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count must be >= 0: " + count);
+        }
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+        this.count = count;
+        this.random = random;
+    }
+
+    /**
+     * Returns a new generator with the same distributions and count over an
+     * independent random stream split from this one. Splitting draws from the
+     * same stream as `next`, so the result depends on this generator's seed and on
+     * every earlier draw, processes generated as well as earlier splits; split
+     * before generating anything for sub-streams that depend only on the seed and
+     * the split order.
+     *
+     * @return A new `WorkloadGenerator` starting at time 0.
+     */
+    public WorkloadGenerator split() {
+        return new WorkloadGenerator(arrivals, bursts, count, random.split());
+    }
+
+    public ArrivalProcess getArrivals() {
+        return arrivals;
+    }
+
+    public BurstDistribution getBursts() {
+        return bursts;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of processes generated so far.
+     */
+    public int getGenerated() {
+        return generated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return generated < count;
+    }
+
+    /**
+     * Generates the next process.
+     *
+     * @return The next process, arriving no earlier than the previous one.
+     * @throws NoSuchElementException If every process has been generated.
+     * @throws IllegalStateException  If the arrival time passes `Integer.MAX_VALUE`.
+     */
+    @Override
+    public ProcessInput next() {
+        if (generated == count) {
+            throw new NoSuchElementException("All " + count + " processes generated");
+        }
+        arrivals.advance(clock, random);
+        if (clock.time >= (double) Integer.MAX_VALUE + 1) {
+            throw new IllegalStateException("Arrival time of process " + (generated + 1)
+                    + " exceeds " + Integer.MAX_VALUE);
+        }
+        int burstTime = bursts.sample(random);
+        generated++;
+        return new ProcessInput(generated, (int) clock.time, burstTime);
+    }
+
+    /**
+     * Returns a sequential stream over the processes not generated yet. The
+     * stream consumes this generator.
+     */
+    public Stream<ProcessInput> stream() {
+        Spliterator<ProcessInput> spliterator = Spliterators.spliterator(this, count - generated,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Writes the remaining processes as whitespace-separated `PID ArrivalTime
+     * BurstTime` lines.
+     *
+     * @param out The writer to append to.
+     * @return The number of processes written.
+     * @throws IOException If the writer fails.
+     */
+    public int writeText(AsciiWriter out) throws IOException {
+        int written = 0;
+        while (hasNext()) {
+            ProcessInput process = next();
+            out.writeInt(process.getPid()).write(' ')
+                    .writeInt(process.getArrivalTime()).write(' ')
+                    .writeInt(process.getBurstTime()).newLine();
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Writes the remaining processes as a `trace.BinaryTrace` file.
+     *
+     * @param file The trace file to create or replace.
+     * @return The number of processes written.
+     * @throws IOException              If the file cannot be written.
+     * @throws IllegalArgumentException If too many processes remain for one trace.
+     */
+    public int writeTrace(Path file) throws IOException {
+        int remaining = count - generated;
+        BinaryTrace.write(this, remaining, file);
+        return remaining;
+    }
+
+}
@@ -0,0 +1,100 @@
+package implementation;
+
+import model.ProcessInput;
+import model.ProcessStats;
+import task.StreamingScheduler;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * The `AbstractStreamingScheduler` class holds the bookkeeping shared by the
+ * streaming schedulers: arrival-order validation, the pending arrivals and the
+ * completion callback.
+ * <p>
+ * A submitted process arriving at time `a` guarantees that no later process
+ * arrives before `a`, so every decision taken strictly before `a` is final.
+ * Subclasses implement `advance(limit)` to simulate every such decision.
+ */
+abstract class AbstractStreamingScheduler implements StreamingScheduler {
+
+    // Processes with equal arrival times may be submitted in any PID order
+    private final PriorityQueue<ProcessStats> arrivals = new PriorityQueue<>(
+            Comparator.comparingInt(ProcessInput::getArrivalTime)
+                    .thenComparingInt(ProcessInput::getPid)
+    );
+    private final Consumer<ProcessStats> completions;
+    private int lastArrival = Integer.MIN_VALUE;
+    private boolean finished;
+
+    protected int currentTime; // Tracks the current time in the scheduling process
+
+    AbstractStreamingScheduler(Consumer<ProcessStats> completions) {
+        this.completions = completions;
+    }
+
+    @Override
+    public final void submit(ProcessInput process) {
+        if (finished) {
+            throw new IllegalStateException("Stream already finished");
+        }
+        if (process.getArrivalTime() < lastArrival) {
+            throw new IllegalArgumentException("Processes must be submitted in arrival order: "
+                    + process.getArrivalTime() + " < " + lastArrival);
+        }
+        lastArrival = process.getArrivalTime();
+        advance(lastArrival);
+        arrivals.add(new ProcessStats(process));
+    }
+
+    @Override
+    public final void finish() {
+        if (!finished) {
+            advance(Long.MAX_VALUE);
+            finished = true;
+        }
+    }
+
+    /**
+     * Simulates every scheduling decision taken strictly before `limit`.
+     *
+     * @param limit The earliest time at which unknown processes may still arrive.
+     */
+    protected abstract void advance(long limit);
+
+    protected boolean hasPendingArrival() {
+        return !arrivals.isEmpty();
+    }
+
+    protected int nextArrivalTime() {
+        return arrivals.element().getArrivalTime();
+    }
+
+    /**
+     * Removes and returns the next pending arrival, in arrival then PID order.
+     */
+    protected ProcessStats pollArrival() {
+        return arrivals.remove();
+    }
+
+    /**
+     * Removes and returns the next pending arrival if it has arrived by `time`.
+     *
+     * @param time The current time.
+     * @return The next arrived process, or `null` if none has arrived by `time`.
+     */
+    protected ProcessStats pollArrivedBy(int time) {
+        ProcessStats next = arrivals.peek();
+        return next != null && next.getArrivalTime() <= time ? arrivals.poll() : null;
+    }
+
+    /**
+     * Records a process's completion time and delivers it to the callback.
+     */
+    protected void complete(ProcessStats process, int completionTime) {
+        process.setCompletionTime(completionTime);
+        completions.accept(process);
+    }
+
+}
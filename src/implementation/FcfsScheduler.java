@@ -1,11 +1,9 @@
 package implementation;
 
-import model.ProcessInput;
-import model.ProcessStats;
+import model.Workload;
+import task.ScheduleObserver;
 import task.Scheduler;
 
-import java.util.*;
-
 /**
  * The `implementation.FcfsScheduler` class implements the `task.Scheduler` interface and provides
  * a First-Come, First-Served (FCFS) scheduling algorithm for processes.
@@ -17,43 +15,59 @@ import java.util.*;
 public class FcfsScheduler implements Scheduler {
 
     /**
-     * Schedules the given list of processes using the FCFS scheduling algorithm.
+     * Schedules the given workload using the FCFS scheduling algorithm.
      *
-     * @param processes A list of `model.ProcessInput` objects representing the processes
-     *                  to be scheduled. Each process contains information such as
-     *                  arrival time, burst time, and PID.
-     * @return A list of `model.ProcessStats` objects containing the scheduling results
-     * for each process, including their completion times.
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and phases.
      */
     @Override
-    public List<ProcessStats> schedule(List<ProcessInput> processes) {
-        // Preserve the original order of processes for output
-        Map<Integer, ProcessStats> statsMap = new LinkedHashMap<>();
-        for (var in : processes) {
-            statsMap.put(in.getPid(), new ProcessStats(in));
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        boolean observing = observer != ScheduleObserver.NONE;
+        if (observing) {
+            observer.onPhaseStart(ScheduleObserver.Phase.SORT);
         }
 
         // Sort the processes by arrival time, then by PID
-        List<ProcessInput> sortedProcesses = new ArrayList<>(processes);
-        sortedProcesses.sort(
-                Comparator.comparingInt(ProcessInput::getArrivalTime)
-                        .thenComparingInt(ProcessInput::getPid)
-        );
+        int[] order = workload.arrivalOrder();
+
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
+        }
 
+        int n = order.length;
         int currentTime = 0; // Tracks the current time in the scheduling process
+        int arrived = 0;     // Number of processes arrived by the current time, when observing
 
         // Iterate through the sorted processes and calculate their completion times
-        for (var process : sortedProcesses) {
+        for (int k = 0; k < n; k++) {
+            int i = order[k];
+            if (observing) {
+                if (k > 0 && workload.arrivalTime(i) > currentTime) {
+                    observer.onIdle(0, currentTime, workload.arrivalTime(i) - currentTime);
+                }
+                int dispatchTime = Math.max(currentTime, workload.arrivalTime(i));
+                while (arrived < n && workload.arrivalTime(order[arrived]) <= dispatchTime) {
+                    arrived++;
+                }
+                observer.onDispatch(0, i, dispatchTime, arrived - k - 1);
+                if (workload.burstTime(i) > 0) {
+                    observer.onSlice(0, i, dispatchTime, workload.burstTime(i));
+                }
+            }
             // Ensure the current time is at least the process's arrival time
-            currentTime = Math.max(currentTime, process.getArrivalTime());
-            // Add the process's burst time to the current time
-            currentTime += process.getBurstTime();
-            // Update the completion time for the process in the stats map
-            statsMap.get(process.getPid()).setCompletionTime(currentTime);
+            currentTime = Math.max(currentTime, workload.arrivalTime(i));
+            // Add the process's burst time to the current time, failing instead of
+            // wrapping around past the int range
+            currentTime = Math.addExact(currentTime, workload.burstTime(i));
+            // Record the completion time for the process
+            workload.setCompletionTime(i, currentTime);
         }
 
-        // Return the scheduling results as a list of model.ProcessStats
-        return new ArrayList<>(statsMap.values());
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+        }
     }
 
-}
\ No newline at end of file
+}
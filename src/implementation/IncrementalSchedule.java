@@ -0,0 +1,276 @@
+package implementation;
+
+import model.CpuAlgo;
+import model.Workload;
+import task.Scheduler;
+import util.LongMinHeap;
+
+/**
+ * The `IncrementalSchedule` class keeps a scheduled workload together with the
+ * state needed to update its completion times after a single process is edited,
+ * for what-if analysis on large workloads.
+ * <p>
+ * For FCFS a process's completion time depends only on its own arrival and burst
+ * and on the completion time of the process dispatched before it. An edit is
+ * therefore replayed from the first affected position in arrival order and stops
+ * at the first later process whose completion time comes out unchanged, which is
+ * at the latest the next idle gap that the edit does not close.
+ * <p>
+ * For non-preemptive SJF the dispatch order inside a busy period depends on
+ * every process that arrives during it, but the schedule after an idle gap does
+ * not depend on anything before it. An edit is replayed from the start of the
+ * busy period preceding the first affected position and stops at the first idle
+ * gap past the edit that the previous schedule also had. The cost is one or two
+ * busy periods; on a saturated workload that is one busy period spanning
+ * everything, and the replay degrades to a full run.
+ * <p>
+ * Moving a process's arrival time shifts the processes between its old and new
+ * positions in arrival order by one, so that part of an edit costs time
+ * proportional to the distance moved. Every other algorithm falls back to
+ * rescheduling the whole workload on each edit.
+ */
+public class IncrementalSchedule {
+
+    private final CpuAlgo algorithm;
+    private final Scheduler fallback;
+    private final int[] pids;
+    private final int[] arrivalTimes;
+    private final int[] burstTimes;
+    private final Workload workload;
+    private final int[] order;         // Positions in arrival order, then PID, then position
+    private final int[] ranks;         // Index in `order` of each position
+    private final boolean[] busyStart; // SJF only: whether the process at a rank starts a busy period
+    private final LongMinHeap ready;
+    private int lastReplayed;
+
+    /**
+     * Constructs an `IncrementalSchedule` over a copy of the given workload's
+     * input columns and schedules it in full.
+     *
+     * @param algorithm   The scheduling algorithm.
+     * @param timeQuantum The time quantum, used only by quantum-based algorithms.
+     * @param source      The processes to be scheduled; the workload itself is not modified.
+     * @throws IllegalArgumentException If a required parameter is invalid.
+     */
+    public IncrementalSchedule(CpuAlgo algorithm, int timeQuantum, Workload source) {
+        this.algorithm = algorithm;
+        boolean incremental = algorithm == CpuAlgo.FCFS || algorithm == CpuAlgo.SJF_NON_PREEMPTIVE;
+        this.fallback = incremental ? null : Schedulers.create(algorithm, timeQuantum);
+
+        int n = source.size();
+        this.pids = new int[n];
+        this.arrivalTimes = new int[n];
+        this.burstTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            pids[i] = source.pid(i);
+            arrivalTimes[i] = source.arrivalTime(i);
+            burstTimes[i] = source.burstTime(i);
+        }
+        if (source.hasPriorities()) {
+            int[] priorities = new int[n];
+            for (int i = 0; i < n; i++) {
+                priorities[i] = source.priority(i);
+            }
+            this.workload = new Workload(pids, arrivalTimes, burstTimes, priorities);
+        } else {
+            this.workload = new Workload(pids, arrivalTimes, burstTimes);
+        }
+
+        if (incremental) {
+            this.order = workload.arrivalOrder();
+            this.ranks = new int[n];
+            for (int k = 0; k < n; k++) {
+                ranks[order[k]] = k;
+            }
+        } else {
+            this.order = null;
+            this.ranks = null;
+        }
+        boolean sjf = algorithm == CpuAlgo.SJF_NON_PREEMPTIVE;
+        this.busyStart = sjf ? new boolean[n] : null;
+        this.ready = sjf ? new LongMinHeap(16) : null;
+        if (incremental) {
+            replay(0, n - 1);
+        } else {
+            reschedule();
+        }
+    }
+
+    public CpuAlgo getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns whether edits are replayed incrementally rather than by rescheduling
+     * the whole workload.
+     */
+    public boolean isIncremental() {
+        return fallback == null;
+    }
+
+    /**
+     * Returns the scheduled workload. Its input columns reflect every edit so far
+     * and must only be changed through this class.
+     */
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    public int completionTime(int i) {
+        return workload.completionTime(i);
+    }
+
+    /**
+     * Returns the number of processes whose completion times the last edit
+     * recomputed.
+     */
+    public int getLastReplayed() {
+        return lastReplayed;
+    }
+
+    /**
+     * Changes a process's burst time and updates the schedule.
+     *
+     * @param i         The position of the process in the workload.
+     * @param burstTime The new burst time.
+     * @throws IllegalArgumentException If the burst time is negative.
+     */
+    public void setBurstTime(int i, int burstTime) {
+        if (burstTime < 0) {
+            throw new IllegalArgumentException("Burst time must be >= 0: " + burstTime);
+        }
+        burstTimes[i] = burstTime;
+        if (fallback != null) {
+            reschedule();
+            return;
+        }
+        replay(ranks[i], ranks[i]);
+    }
+
+    /**
+     * Changes a process's arrival time and updates the schedule.
+     *
+     * @param i           The position of the process in the workload.
+     * @param arrivalTime The new arrival time.
+     * @throws IllegalArgumentException If the arrival time is negative.
+     */
+    public void setArrivalTime(int i, int arrivalTime) {
+        if (arrivalTime < 0) {
+            throw new IllegalArgumentException("Arrival time must be >= 0: " + arrivalTime);
+        }
+        arrivalTimes[i] = arrivalTime;
+        if (fallback != null) {
+            reschedule();
+            return;
+        }
+
+        // Move the process to its new rank, shifting the processes in between
+        int from = ranks[i];
+        int to = from;
+        while (to > 0 && precedes(i, order[to - 1])) {
+            order[to] = order[to - 1];
+            ranks[order[to]] = to;
+            to--;
+        }
+        while (to < order.length - 1 && precedes(order[to + 1], i)) {
+            order[to] = order[to + 1];
+            ranks[order[to]] = to;
+            to++;
+        }
+        order[to] = i;
+        ranks[i] = to;
+        replay(Math.min(from, to), Math.max(from, to));
+    }
+
+    /**
+     * Returns whether position `a` comes before position `b` in arrival order,
+     * breaking ties like `Workload.arrivalOrder`.
+     */
+    private boolean precedes(int a, int b) {
+        if (arrivalTimes[a] != arrivalTimes[b]) {
+            return arrivalTimes[a] < arrivalTimes[b];
+        }
+        if (pids[a] != pids[b]) {
+            return pids[a] < pids[b];
+        }
+        return a < b;
+    }
+
+    private void reschedule() {
+        fallback.schedule(workload);
+        lastReplayed = workload.size();
+    }
+
+    /**
+     * Recomputes the schedule after the processes at ranks `lo..hi` changed. The
+     * completion times of the other processes still hold their previous values.
+     */
+    private void replay(int lo, int hi) {
+        if (order.length == 0) {
+            lastReplayed = 0;
+        } else if (busyStart == null) {
+            lastReplayed = replayFcfs(lo, hi);
+        } else {
+            lastReplayed = replaySjf(lo, hi);
+        }
+    }
+
+    private int replayFcfs(int lo, int hi) {
+        int n = order.length;
+        int currentTime = lo > 0 ? workload.completionTime(order[lo - 1]) : 0;
+        int k = lo;
+        for (; k < n; k++) {
+            int i = order[k];
+            currentTime = Math.addExact(Math.max(currentTime, arrivalTimes[i]), burstTimes[i]);
+            if (k > hi && workload.completionTime(i) == currentTime) {
+                // The process and everything after it are unchanged
+                break;
+            }
+            workload.setCompletionTime(i, currentTime);
+        }
+        return k - lo;
+    }
+
+    private int replaySjf(int lo, int hi) {
+        int n = order.length;
+
+        // Start at the busy period holding the last unchanged rank; everything before
+        // it finished by its start, so the replay begins with an empty ready queue
+        int next = lo > 0 ? lo - 1 : 0;
+        while (next > 0 && !busyStart[next]) {
+            next--;
+        }
+        int currentTime = 0;
+        int replayed = 0;
+
+        while (next < n || !ready.isEmpty()) {
+            if (ready.isEmpty()) {
+                int arrival = arrivalTimes[order[next]];
+                boolean idle = currentTime <= arrival;
+                if (idle && next > hi && busyStart[next]) {
+                    // The previous schedule also started a busy period here
+                    break;
+                }
+                busyStart[next] = idle;
+                ready.push(((long) burstTimes[order[next]] << 32) | next);
+                next++;
+                currentTime = Math.max(currentTime, arrival);
+            }
+
+            // Admit processes that have arrived by the current time
+            while (next < n && arrivalTimes[order[next]] <= currentTime) {
+                busyStart[next] = false;
+                ready.push(((long) burstTimes[order[next]] << 32) | next);
+                next++;
+            }
+
+            // Run the process with the shortest burst time to completion
+            int chosen = order[(int) ready.poll()];
+            currentTime = Math.addExact(currentTime, burstTimes[chosen]);
+            workload.setCompletionTime(chosen, currentTime);
+            replayed++;
+        }
+        return replayed;
+    }
+
+}
@@ -0,0 +1,379 @@
+package implementation;
+
+import model.CpuAlgo;
+import model.LongWorkload;
+import util.IndexSort;
+import util.IntRingQueue;
+import util.LongMinHeap;
+
+import java.util.Arrays;
+
+/**
+ * The `LongTimeScheduler` class schedules a `LongWorkload`, whose times are
+ * `long`s, with the FCFS, SJF non-preemptive or Round Robin algorithm.
+ * <p>
+ * Each algorithm follows its `int` counterpart (`FcfsScheduler`,
+ * `SjfNonPreemptiveScheduler` and `RoundRobinScheduler` in fast-forward mode)
+ * step by step, so a workload that fits in `int` times gets the same completion
+ * times either way. Every addition and multiplication of times is checked, so a
+ * schedule that would pass `Long.MAX_VALUE` fails with an `ArithmeticException`
+ * instead of wrapping around.
+ * <p>
+ * A `long` burst time leaves no room to pack the sorted index into the same SJF
+ * heap key, so the SJF ready heap holds each process's rank by burst time, with
+ * ties in arrival order, instead.
+ */
+public class LongTimeScheduler {
+
+    private final CpuAlgo algorithm;
+    private final long timeQuantum;
+
+    /**
+     * Constructs a `LongTimeScheduler` for the given algorithm.
+     *
+     * @param algorithm   The algorithm: `FCFS`, `SJF_NON_PREEMPTIVE` or `ROUND_ROBIN`.
+     * @param timeQuantum The time quantum, used by Round Robin only.
+     * @throws IllegalArgumentException If the algorithm is not supported, or it is
+     *                                  Round Robin and the time quantum is not positive.
+     */
+    public LongTimeScheduler(CpuAlgo algorithm, long timeQuantum) {
+        if (algorithm != CpuAlgo.FCFS && algorithm != CpuAlgo.SJF_NON_PREEMPTIVE
+                && algorithm != CpuAlgo.ROUND_ROBIN) {
+            throw new IllegalArgumentException(
+                    "Long time scheduling supports FCFS, SJF_NON_PREEMPTIVE and ROUND_ROBIN: " + algorithm);
+        }
+        if (algorithm == CpuAlgo.ROUND_ROBIN && timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be > 0: " + timeQuantum);
+        }
+        this.algorithm = algorithm;
+        this.timeQuantum = timeQuantum;
+    }
+
+    public CpuAlgo getAlgorithm() {
+        return algorithm;
+    }
+
+    public long getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    /**
+     * Schedules the given workload.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @throws ArithmeticException If a time of the schedule does not fit in a `long`.
+     */
+    public void schedule(LongWorkload workload) {
+        // Sort the processes by arrival time, then by PID
+        int[] order = workload.arrivalOrder();
+        switch (algorithm) {
+            case FCFS -> scheduleFcfs(workload, order);
+            case SJF_NON_PREEMPTIVE -> scheduleSjf(workload, order);
+            default -> scheduleRoundRobin(workload, order);
+        }
+    }
+
+    private static void scheduleFcfs(LongWorkload workload, int[] order) {
+        long currentTime = 0;
+        for (int i : order) {
+            // Ensure the current time is at least the process's arrival time
+            currentTime = Math.max(currentTime, workload.arrivalTime(i));
+            currentTime = Math.addExact(currentTime, workload.burstTime(i));
+            workload.setCompletionTime(i, currentTime);
+        }
+    }
+
+    private static void scheduleSjf(LongWorkload workload, int[] order) {
+        int n = order.length;
+
+        // Rank the sorted indices by burst time; the stable sort keeps ties in
+        // arrival order, so the smallest rank is the next process to run
+        long[] bursts = new long[n];
+        for (int k = 0; k < n; k++) {
+            bursts[k] = workload.burstTime(order[k]);
+        }
+        int[] byBurst = IndexSort.order(bursts);
+        int[] rank = new int[n];
+        for (int r = 0; r < n; r++) {
+            rank[byBurst[r]] = r;
+        }
+
+        LongMinHeap ready = new LongMinHeap(n);
+        long currentTime = 0;
+        int next = 0; // Index of the next process to arrive
+
+        while (next < n || !ready.isEmpty()) {
+            if (ready.isEmpty()) {
+                // If no processes are ready, jump to the next arrival time
+                currentTime = Math.max(currentTime, workload.arrivalTime(order[next]));
+            }
+
+            // Admit processes that have arrived by the current time
+            while (next < n && workload.arrivalTime(order[next]) <= currentTime) {
+                ready.push(rank[next]);
+                next++;
+            }
+
+            // Select the process with the shortest burst time
+            int chosen = order[byBurst[(int) ready.poll()]];
+            currentTime = Math.addExact(currentTime, workload.burstTime(chosen));
+            workload.setCompletionTime(chosen, currentTime);
+        }
+    }
+
+    private void scheduleRoundRobin(LongWorkload workload, int[] order) {
+        int n = order.length;
+        long[] remainingBurstTimes = new long[n];
+        for (int i = 0; i < n; i++) {
+            remainingBurstTimes[i] = workload.burstTime(order[i]);
+        }
+
+        IntRingQueue queue = new IntRingQueue(16);
+        long currentTime = 0;
+        int index = 0;
+
+        // Enqueue the first process or jump to the earliest arrival time
+        if (index < n && workload.arrivalTime(order[index]) > currentTime) {
+            currentTime = workload.arrivalTime(order[index]);
+        }
+        while (index < n && workload.arrivalTime(order[index]) <= currentTime) {
+            queue.offer(index++);
+        }
+
+        // Skipping needs non-negative times, so that no difference of two times wraps around
+        boolean skipping = n > 0 && workload.arrivalTime(order[0]) >= 0 && nonNegative(remainingBurstTimes);
+        RoundSkipper skipper = null;
+        int stepsUntilSkip = 0;
+
+        while (!queue.isEmpty()) {
+            if (skipping && --stepsUntilSkip <= 0) {
+                // Look ahead once per round: skip only when the next arrival is several rounds away
+                stepsUntilSkip = queue.size();
+                if (index == n || (workload.arrivalTime(order[index]) - currentTime) / 4 / queue.size()
+                        > timeQuantum) {
+                    if (skipper == null) {
+                        skipper = new RoundSkipper(workload, order, remainingBurstTimes, timeQuantum);
+                    }
+                    long nextArrival = index < n ? workload.arrivalTime(order[index]) : 0;
+                    currentTime = skipper.skip(queue, currentTime, index < n, nextArrival);
+                }
+            }
+
+            int i = queue.poll();
+
+            // Execute the process for the time quantum or until completion
+            long executionTime = Math.min(timeQuantum, remainingBurstTimes[i]);
+            remainingBurstTimes[i] -= executionTime;
+            currentTime = Math.addExact(currentTime, executionTime);
+
+            // Enqueue newly arrived processes
+            while (index < n && workload.arrivalTime(order[index]) <= currentTime) {
+                queue.offer(index++);
+            }
+
+            if (remainingBurstTimes[i] > 0) {
+                queue.offer(i);
+            } else {
+                workload.setCompletionTime(order[i], currentTime);
+            }
+
+            // If the queue is empty but there are processes yet to arrive, jump ahead
+            if (queue.isEmpty() && index < n) {
+                currentTime = Math.max(currentTime, workload.arrivalTime(order[index]));
+                while (index < n && workload.arrivalTime(order[index]) <= currentTime) {
+                    queue.offer(index++);
+                }
+            }
+        }
+    }
+
+    private static boolean nonNegative(long[] burstTimes) {
+        for (long burstTime : burstTimes) {
+            if (burstTime < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The `RoundSkipper` class advances a Round Robin run over the stretch in
+     * which no process joins the ready queue, like `RoundRobinScheduler`'s.
+     * <p>
+     * The turn counts are `long`s here, so when there are more of them than
+     * queued processes the positions are ordered by a stable `IndexSort.order`
+     * on the counts instead of by packed keys. A completion past `Long.MAX_VALUE`
+     * stops the skip at the next arrival, which the regular loop then reaches,
+     * or fails with an `ArithmeticException` if no process is left to arrive.
+     */
+    private static final class RoundSkipper {
+
+        private final LongWorkload workload;
+        private final int[] order;
+        private final long[] remainingBurstTimes;
+        private final long timeQuantum;
+        // Scratch arrays sized to the largest queue skipped so far:
+        // queue entries by position at the start of a skip, -1 once finished
+        private int[] members = new int[0];
+        // Fenwick tree over the positions still queued
+        private int[] tree;
+        // Positions in finishing order, and the counting sort's buckets
+        private int[] finishOrder;
+        private int[] counts;
+
+        private RoundSkipper(LongWorkload workload, int[] order, long[] remainingBurstTimes, long timeQuantum) {
+            this.workload = workload;
+            this.order = order;
+            this.remainingBurstTimes = remainingBurstTimes;
+            this.timeQuantum = timeQuantum;
+        }
+
+        /**
+         * Retires every process that finishes before the slice ending at or after
+         * the next arrival, or before the final slice of the last queued process,
+         * and leaves the queue with the process running that slice at its head.
+         *
+         * @param queue          The non-empty ready queue, rotated and charged in place.
+         * @param currentTime    The current time.
+         * @param hasNextArrival Whether there are processes yet to arrive.
+         * @param nextArrival    The arrival time of the next process, if any, several
+         *                       rounds after the current time.
+         * @return The start time of the slice at the head of the queue.
+         * @throws ArithmeticException If a completion time does not fit in a `long`.
+         */
+        private long skip(IntRingQueue queue, long currentTime, boolean hasNextArrival, long nextArrival) {
+            int size = queue.size();
+            if (members.length < size) {
+                int capacity = Math.max(size, Math.min(members.length * 2, order.length));
+                members = new int[capacity];
+                tree = new int[capacity + 1];
+                finishOrder = new int[capacity];
+                counts = new int[capacity + 2];
+            }
+            long maxTurns = 0;
+            for (int p = 0; p < size; p++) {
+                members[p] = queue.get(p);
+                tree[p + 1] = (p + 1) & -(p + 1);
+                maxTurns = Math.max(maxTurns, turns(members[p]));
+            }
+            if (maxTurns <= size) {
+                // Counting sort by turns, which keeps each count's positions ascending
+                Arrays.fill(counts, 0, (int) maxTurns + 2, 0);
+                for (int p = 0; p < size; p++) {
+                    counts[(int) turns(members[p]) + 1]++;
+                }
+                for (int t = 1; t <= maxTurns; t++) {
+                    counts[t + 1] += counts[t];
+                }
+                for (int p = 0; p < size; p++) {
+                    finishOrder[counts[(int) turns(members[p])]++] = p;
+                }
+            } else {
+                long[] turns = new long[size];
+                for (int p = 0; p < size; p++) {
+                    turns[p] = turns(members[p]);
+                }
+                System.arraycopy(IndexSort.order(turns), 0, finishOrder, 0, size);
+            }
+
+            // The last completion: its time, turn and position, and the queued
+            // positions before it; at first the start of round 1 before position 0
+            long time = currentTime;
+            long lastTurn = 1;
+            int lastPosition = -1;
+            int before = 0;
+            int queued = size;
+            for (int f = 0; ; f++) {
+                int p = finishOrder[f];
+                long turns = turns(members[p]);
+                int ahead = queuedBefore(p);
+
+                // Slices from the last completion through p's final one, all full but that one
+                long slices;
+                long completion;
+                try {
+                    slices = Math.addExact(Math.multiplyExact(queued, turns - lastTurn), ahead + 1 - before);
+                    completion = Math.addExact(Math.addExact(time,
+                            Math.multiplyExact(slices - turns, timeQuantum)), remainingBurstTimes[members[p]]);
+                } catch (ArithmeticException e) {
+                    if (!hasNextArrival) {
+                        throw e;
+                    }
+                    // The next arrival comes first, and bounds the slices run until then
+                    slices = Long.MAX_VALUE;
+                    completion = Long.MAX_VALUE;
+                }
+                boolean arrives = hasNextArrival && nextArrival <= completion;
+                if (arrives || queued == 1) {
+                    long next = arrives ? Math.min(slices, Math.ceilDiv(nextArrival - time, timeQuantum)) : slices;
+                    rotate(queue, size, queued, next - 1, lastTurn, lastPosition, before);
+                    return time + (next - 1) * timeQuantum;
+                }
+
+                workload.setCompletionTime(order[members[p]], completion);
+                remainingBurstTimes[members[p]] = 0;
+                members[p] = -1;
+                for (int k = p + 1; k <= size; k += k & -k) {
+                    tree[k]--;
+                }
+                queued--;
+                time = completion;
+                lastTurn = turns;
+                lastPosition = p;
+                before = ahead;
+            }
+        }
+
+        /**
+         * Charges the queued processes for the `done` full slices run since the
+         * last completion and refills the queue in cyclic order from the process
+         * that runs the next slice.
+         */
+        private void rotate(IntRingQueue queue, int size, int queued, long done, long lastTurn, int lastPosition,
+                            int before) {
+            // The slices went round the queued processes from rank `before`
+            long laps = done / queued;
+            int extra = (int) (done % queued);
+            int head = (before + extra) % queued;
+            queue.clear();
+            int rank = 0;
+            for (int p = 0; p < size; p++) {
+                if (members[p] < 0) {
+                    continue;
+                }
+                // Turns had at the last completion, then the laps and the partial lap
+                long turns = lastTurn - 1 + (p < lastPosition ? 1 : 0) + laps
+                        + ((rank - before + queued) % queued < extra ? 1 : 0);
+                remainingBurstTimes[members[p]] -= turns * timeQuantum;
+                if (rank >= head) {
+                    queue.offer(members[p]);
+                }
+                rank++;
+            }
+            rank = 0;
+            for (int p = 0; p < size && rank < head; p++) {
+                if (members[p] >= 0) {
+                    queue.offer(members[p]);
+                    rank++;
+                }
+            }
+        }
+
+        /**
+         * Returns the turns a queued process needs to finish, at least one.
+         */
+        private long turns(int i) {
+            return Math.max(1, Math.ceilDiv(remainingBurstTimes[i], timeQuantum));
+        }
+
+        private int queuedBefore(int position) {
+            int count = 0;
+            for (int k = position; k > 0; k -= k & -k) {
+                count += tree[k];
+            }
+            return count;
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package implementation;
+
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import util.IntRingQueue;
+
+import java.util.Arrays;
+
+/**
+ * The `MlfqScheduler` class implements the `Scheduler` interface and provides a
+ * Multilevel Feedback Queue (MLFQ) scheduling algorithm.
+ * <p>
+ * New processes enter the highest-priority level (level 0). The scheduler
+ * always runs the head of the highest-priority non-empty level, for at most that
+ * level's quantum. A process that uses up its quantum at a level is demoted one
+ * level (the lowest level behaves like Round Robin). A process arriving while a
+ * lower-priority process runs preempts it; the preempted process keeps the part
+ * of its quantum it has used and rejoins the tail of its level. Every
+ * `boostInterval` time units all processes return to level 0 with a fresh
+ * quantum, so long-running processes cannot starve. As in `RoundRobinScheduler`,
+ * processes arriving at the end of a slice are enqueued before the process whose
+ * slice ended.
+ * <p>
+ * Non-empty levels are tracked in a bitmask, so finding the next level to serve
+ * is a single trailing-zero count, and each level is a primitive
+ * `IntRingQueue`. The simulation is event-driven: time jumps straight to the
+ * next slice end, preempting arrival or boost. A boost moves every ready
+ * process, so its cost grows with the ready queue; with boosts disabled each
+ * slice costs O(1).
+ */
+public class MlfqScheduler implements Scheduler {
+
+    public static final int DEFAULT_LEVELS = 3;
+    /** The default boost interval, as a multiple of the level-0 quantum. */
+    public static final int DEFAULT_BOOST_QUANTA = 50;
+
+    private final int[] quanta;
+    private final int boostInterval;
+
+    /**
+     * Constructs an `MlfqScheduler` whose quantum doubles at each lower level.
+     *
+     * @param levels        The number of priority levels, from 1 to 64.
+     * @param baseQuantum   The quantum of level 0.
+     * @param boostInterval The time between priority boosts, or 0 to disable boosts.
+     * @throws IllegalArgumentException If a parameter is invalid.
+     */
+    public MlfqScheduler(int levels, int baseQuantum, int boostInterval) {
+        this(doublingQuanta(levels, baseQuantum), boostInterval);
+    }
+
+    /**
+     * Constructs an `MlfqScheduler` with an explicit quantum per level.
+     *
+     * @param quanta        The quantum of each level, highest priority first.
+     * @param boostInterval The time between priority boosts, or 0 to disable boosts.
+     * @throws IllegalArgumentException If a parameter is invalid.
+     */
+    public MlfqScheduler(int[] quanta, int boostInterval) {
+        if (quanta.length < 1 || quanta.length > Long.SIZE) {
+            throw new IllegalArgumentException("Level count must be between 1 and 64: " + quanta.length);
+        }
+        for (int quantum : quanta) {
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be > 0: " + quantum);
+            }
+        }
+        if (boostInterval < 0) {
+            throw new IllegalArgumentException("Boost interval must be >= 0: " + boostInterval);
+        }
+        this.quanta = quanta.clone();
+        this.boostInterval = boostInterval;
+    }
+
+    private static int[] doublingQuanta(int levels, int baseQuantum) {
+        if (levels < 1 || levels > Long.SIZE) {
+            throw new IllegalArgumentException("Level count must be between 1 and 64: " + levels);
+        }
+        int[] quanta = new int[levels];
+        for (int level = 0; level < levels; level++) {
+            quanta[level] = (int) Math.min(Integer.MAX_VALUE, (long) baseQuantum << level);
+        }
+        return quanta;
+    }
+
+    @Override
+    public String configuration() {
+        return getClass().getName() + "[quanta=" + Arrays.toString(quanta) + ", boostInterval=" + boostInterval + "]";
+    }
+
+    /**
+     * Schedules the given workload using the MLFQ scheduling algorithm.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and phases.
+     */
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        new Simulation(workload, observer).run();
+    }
+
+    /**
+     * The state of one `schedule` call. Processes are identified by their index
+     * in arrival order.
+     */
+    private class Simulation {
+
+        private final Workload workload;
+        private final ScheduleObserver observer;
+        private final boolean observing;
+        private final int[] order;
+        private final int[] remainingBurstTimes;
+        private final int[] levels;      // Current level of each process
+        private final int[] usedQuantum; // Time used of the current level's quantum
+        private final IntRingQueue[] queues = new IntRingQueue[quanta.length];
+        private long nonEmptyLevels;     // Bit i is set when level i has a process
+        private int next;                // Index of the next process to arrive
+
+        private Simulation(Workload workload, ScheduleObserver observer) {
+            this.workload = workload;
+            this.observer = observer;
+            this.observing = observer != ScheduleObserver.NONE;
+            if (observing) {
+                observer.onPhaseStart(ScheduleObserver.Phase.SORT);
+            }
+            this.order = workload.arrivalOrder();
+            if (observing) {
+                observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            }
+            int n = order.length;
+            this.remainingBurstTimes = new int[n];
+            for (int i = 0; i < n; i++) {
+                remainingBurstTimes[i] = workload.burstTime(order[i]);
+            }
+            this.levels = new int[n];
+            this.usedQuantum = new int[n];
+            for (int level = 0; level < queues.length; level++) {
+                queues[level] = new IntRingQueue(16);
+            }
+        }
+
+        private void run() {
+            int n = order.length;
+            long currentTime = 0;
+            long nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE;
+            if (observing) {
+                observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
+            }
+
+            while (next < n || nonEmptyLevels != 0) {
+                if (nonEmptyLevels == 0) {
+                    // If no processes are ready, jump to the next arrival time
+                    int arrival = workload.arrivalTime(order[next]);
+                    if (observing && next > 0 && arrival > currentTime) {
+                        observer.onIdle(0, (int) currentTime, (int) (arrival - currentTime));
+                    }
+                    currentTime = Math.max(currentTime, arrival);
+                    admitArrivals(currentTime);
+                    if (nextBoost <= currentTime) {
+                        // Boosts while the CPU was idle had nothing to move
+                        nextBoost = (currentTime / boostInterval + 1) * boostInterval;
+                    }
+                }
+
+                // Dispatch the head of the highest-priority non-empty level
+                int level = Long.numberOfTrailingZeros(nonEmptyLevels);
+                int job = queues[level].poll();
+                if (queues[level].isEmpty()) {
+                    nonEmptyLevels &= ~(1L << level);
+                }
+                if (observing) {
+                    observer.onDispatch(0, order[job], (int) currentTime, readyCount());
+                }
+
+                // Run until the slice ends, a higher-priority arrival or a boost
+                long eventTime = currentTime
+                        + Math.min(quanta[level] - usedQuantum[job], remainingBurstTimes[job]);
+                if (level > 0 && next < n && workload.arrivalTime(order[next]) < eventTime) {
+                    eventTime = workload.arrivalTime(order[next]);
+                }
+                eventTime = Math.min(eventTime, nextBoost);
+
+                int ran = (int) (eventTime - currentTime);
+                if (observing && ran > 0) {
+                    observer.onSlice(0, order[job], (int) currentTime, ran);
+                }
+                remainingBurstTimes[job] -= ran;
+                usedQuantum[job] += ran;
+                currentTime = eventTime;
+
+                boolean requeue = true;
+                if (remainingBurstTimes[job] == 0) {
+                    workload.setCompletionTime(order[job], Math.toIntExact(currentTime));
+                    requeue = false;
+                } else if (usedQuantum[job] == quanta[level]) {
+                    // Used the full quantum: demote
+                    levels[job] = Math.min(level + 1, quanta.length - 1);
+                    usedQuantum[job] = 0;
+                }
+
+                // Enqueue newly arrived processes before the preempted one
+                admitArrivals(currentTime);
+                if (requeue) {
+                    enqueue(job, levels[job]);
+                }
+
+                if (currentTime >= nextBoost) {
+                    boost();
+                    nextBoost += boostInterval;
+                }
+            }
+
+            if (observing) {
+                observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+            }
+        }
+
+        private int readyCount() {
+            int count = 0;
+            for (long levels = nonEmptyLevels; levels != 0; levels &= levels - 1) {
+                count += queues[Long.numberOfTrailingZeros(levels)].size();
+            }
+            return count;
+        }
+
+        private void admitArrivals(long currentTime) {
+            int n = order.length;
+            while (next < n && workload.arrivalTime(order[next]) <= currentTime) {
+                levels[next] = 0;
+                enqueue(next++, 0);
+            }
+        }
+
+        private void enqueue(int job, int level) {
+            queues[level].offer(job);
+            nonEmptyLevels |= 1L << level;
+        }
+
+        /**
+         * Moves every process to level 0, level by level in priority order, and
+         * gives each a fresh quantum.
+         */
+        private void boost() {
+            IntRingQueue top = queues[0];
+            for (int i = 0; i < top.size(); i++) {
+                usedQuantum[top.get(i)] = 0;
+            }
+            for (int level = 1; level < queues.length; level++) {
+                IntRingQueue queue = queues[level];
+                while (!queue.isEmpty()) {
+                    int job = queue.poll();
+                    levels[job] = 0;
+                    usedQuantum[job] = 0;
+                    top.offer(job);
+                }
+            }
+            nonEmptyLevels = top.isEmpty() ? 0 : 1;
+        }
+    }
+
+}
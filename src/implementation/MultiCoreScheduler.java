@@ -0,0 +1,423 @@
+package implementation;
+
+import model.CpuAlgo;
+import model.MultiCoreResult;
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import util.IntRingQueue;
+import util.LongMinHeap;
+
+import java.util.Arrays;
+
+/**
+ * The `MultiCoreScheduler` class implements the `Scheduler` interface for a
+ * machine with several identical CPU cores.
+ * <p>
+ * Each core dispatches from a ready queue using one of the single-core
+ * disciplines: FCFS, SJF (non-preemptive) or Round Robin. A `Placement` decides
+ * which queue an arriving process joins: one global queue shared by all cores,
+ * per-core queues filled in round-robin order, or the per-core queue with the
+ * least outstanding work. With work stealing enabled, a core whose own queue is
+ * empty takes the next process from the longest queue of another core.
+ * <p>
+ * The simulation is event-driven: time jumps straight to the next arrival or the
+ * next end of a slice on any core, and slice ends are kept in a min-heap, so the
+ * cost grows with the number of dispatches rather than with simulated time.
+ * At any instant, finished slices are retired first, then new arrivals are
+ * placed, then preempted Round Robin processes are re-enqueued, and finally idle
+ * cores dispatch in core order; with a single core this reproduces the
+ * single-core schedulers exactly.
+ */
+public class MultiCoreScheduler implements Scheduler {
+
+    /**
+     * How arriving processes are assigned to ready queues.
+     */
+    public enum Placement {
+        /** All cores share one ready queue. */
+        GLOBAL_QUEUE,
+        /** Arrivals are dealt to the per-core queues in turn. */
+        ROUND_ROBIN,
+        /** Each arrival joins the core with the least outstanding work. */
+        LEAST_LOADED
+    }
+
+    // Markers in the idle-start column of an observed run
+    private static final int BUSY = Integer.MIN_VALUE;
+    private static final int NEVER_RAN = Integer.MIN_VALUE + 1;
+
+    private final int cores;
+    private final CpuAlgo discipline;
+    private final int timeQuantum;
+    private final Placement placement;
+    private final boolean workStealing;
+
+    /**
+     * Constructs a `MultiCoreScheduler`.
+     *
+     * @param cores        The number of cores.
+     * @param discipline   The per-queue discipline: `FCFS`, `SJF_NON_PREEMPTIVE`
+     *                     or `ROUND_ROBIN`.
+     * @param timeQuantum  The time quantum, used only by `ROUND_ROBIN`.
+     * @param placement    How arriving processes are assigned to queues.
+     * @param workStealing Whether idle cores steal from other cores' queues.
+     * @throws IllegalArgumentException If a parameter is invalid.
+     */
+    public MultiCoreScheduler(
+            int cores,
+            CpuAlgo discipline,
+            int timeQuantum,
+            Placement placement,
+            boolean workStealing
+    ) {
+        if (cores <= 0) {
+            throw new IllegalArgumentException("Core count must be > 0: " + cores);
+        }
+        if (discipline == CpuAlgo.ROUND_ROBIN && timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be > 0: " + timeQuantum);
+        }
+        if (discipline != CpuAlgo.FCFS
+                && discipline != CpuAlgo.SJF_NON_PREEMPTIVE
+                && discipline != CpuAlgo.ROUND_ROBIN) {
+            throw new IllegalArgumentException("Unsupported per-core discipline: " + discipline);
+        }
+        this.cores = cores;
+        this.discipline = discipline;
+        this.timeQuantum = timeQuantum;
+        this.placement = placement;
+        this.workStealing = workStealing;
+    }
+
+    @Override
+    public String configuration() {
+        return getClass().getName() + "[cores=" + cores + ", discipline=" + discipline
+                + ", timeQuantum=" + (discipline == CpuAlgo.ROUND_ROBIN ? timeQuantum : 0)
+                + ", placement=" + placement + ", workStealing=" + workStealing + "]";
+    }
+
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        run(workload, observer);
+    }
+
+    /**
+     * Schedules the given workload and returns the per-core results.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @return The core of each process and each core's busy time.
+     */
+    public MultiCoreResult run(Workload workload) {
+        return run(workload, ScheduleObserver.NONE);
+    }
+
+    /**
+     * Schedules the given workload, reporting every slice with the core it ran
+     * on, and returns the per-core results.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving every execution slice.
+     * @return The core of each process and each core's busy time.
+     */
+    public MultiCoreResult run(Workload workload, ScheduleObserver observer) {
+        return new Simulation(workload, observer).run();
+    }
+
+    /**
+     * The state of one `run` call. Processes are identified by their index in
+     * arrival order.
+     */
+    private class Simulation {
+
+        private final Workload workload;
+        private final ScheduleObserver observer;
+        private final boolean observing;
+        private final int[] order;
+        private final int[] remainingBurstTimes;
+        private final ReadyQueue[] queues; // One per core, or a single shared queue
+        private final int[] running;       // Process on each core, or -1 when idle
+        private final int[] sliceLengths;
+        private final long[] loads;        // Outstanding work assigned to each core
+        private final long[] busyTimes;
+        private final int[] lastCompletionTimes;
+        private final int[] coreIds;       // By workload position
+        private final LongMinHeap sliceEnds; // (end time << 32) | core
+        private final IntRingQueue preempted = new IntRingQueue(cores);
+        private final int[] idleSince;     // When observing: idle start, BUSY or NEVER_RAN
+        private int nextPlacement;
+
+        private Simulation(Workload workload, ScheduleObserver observer) {
+            this.workload = workload;
+            this.observer = observer;
+            this.observing = observer != ScheduleObserver.NONE;
+            if (observing) {
+                observer.onPhaseStart(ScheduleObserver.Phase.SORT);
+            }
+            this.order = workload.arrivalOrder();
+            if (observing) {
+                observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            }
+            int n = order.length;
+            this.remainingBurstTimes = new int[n];
+            for (int i = 0; i < n; i++) {
+                remainingBurstTimes[i] = workload.burstTime(order[i]);
+            }
+            this.queues = new ReadyQueue[placement == Placement.GLOBAL_QUEUE ? 1 : cores];
+            for (int c = 0; c < queues.length; c++) {
+                queues[c] = discipline == CpuAlgo.SJF_NON_PREEMPTIVE
+                        ? new ShortestFirstQueue(remainingBurstTimes)
+                        : new FifoQueue();
+            }
+            this.running = new int[cores];
+            Arrays.fill(running, -1);
+            this.sliceLengths = new int[cores];
+            this.loads = new long[cores];
+            this.busyTimes = new long[cores];
+            this.lastCompletionTimes = new int[cores];
+            this.coreIds = new int[n];
+            this.sliceEnds = new LongMinHeap(cores);
+            this.idleSince = new int[cores];
+            Arrays.fill(idleSince, NEVER_RAN);
+        }
+
+        private MultiCoreResult run() {
+            int n = order.length;
+            int currentTime = 0;
+            int next = 0; // Index of the next process to arrive
+            if (observing) {
+                observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
+            }
+
+            while (next < n || !sliceEnds.isEmpty()) {
+                // Jump to the earlier of the next slice end and the next arrival
+                if (!sliceEnds.isEmpty()
+                        && (next == n || endTime(sliceEnds.peek()) <= workload.arrivalTime(order[next]))) {
+                    currentTime = endTime(sliceEnds.peek());
+                } else {
+                    currentTime = Math.max(currentTime, workload.arrivalTime(order[next]));
+                }
+
+                // Retire every slice ending now
+                while (!sliceEnds.isEmpty() && endTime(sliceEnds.peek()) == currentTime) {
+                    int core = (int) sliceEnds.poll();
+                    int job = running[core];
+                    loads[core] -= sliceLengths[core];
+                    if (remainingBurstTimes[job] == 0) {
+                        workload.setCompletionTime(order[job], currentTime);
+                        coreIds[order[job]] = core;
+                        lastCompletionTimes[core] = currentTime;
+                        running[core] = -1;
+                    } else {
+                        preempted.offer(core);
+                    }
+                }
+
+                // Place new arrivals before re-enqueueing preempted processes
+                while (next < n && workload.arrivalTime(order[next]) <= currentTime) {
+                    place(next++);
+                }
+                while (!preempted.isEmpty()) {
+                    int core = preempted.poll();
+                    queueOf(core).add(running[core]);
+                    running[core] = -1;
+                }
+
+                for (int core = 0; core < cores; core++) {
+                    if (running[core] < 0) {
+                        dispatch(core, currentTime);
+                    }
+                }
+            }
+
+            if (observing) {
+                observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+            }
+
+            long makespan = 0;
+            if (n > 0) {
+                int lastCompletion = Integer.MIN_VALUE;
+                for (int t : lastCompletionTimes) {
+                    lastCompletion = Math.max(lastCompletion, t);
+                }
+                makespan = (long) lastCompletion - workload.arrivalTime(order[0]);
+            }
+            return new MultiCoreResult(coreIds, busyTimes, lastCompletionTimes, makespan);
+        }
+
+        private void place(int job) {
+            int core = switch (placement) {
+                case GLOBAL_QUEUE -> 0;
+                case ROUND_ROBIN -> {
+                    int c = nextPlacement;
+                    nextPlacement = (c + 1) % cores;
+                    yield c;
+                }
+                case LEAST_LOADED -> {
+                    int best = 0;
+                    for (int c = 1; c < cores; c++) {
+                        if (loads[c] < loads[best]) {
+                            best = c;
+                        }
+                    }
+                    yield best;
+                }
+            };
+            queues[core].add(job);
+            loads[core] += remainingBurstTimes[job];
+        }
+
+        private void dispatch(int core, int currentTime) {
+            ReadyQueue queue = queueOf(core);
+            if (queue.isEmpty()) {
+                if (!workStealing || queues.length == 1 || (queue = victim()) == null) {
+                    if (observing && idleSince[core] == BUSY) {
+                        idleSince[core] = currentTime;
+                    }
+                    return;
+                }
+            }
+
+            int job = queue.poll();
+            if (queue != queueOf(core)) {
+                // Move the stolen process's work to the thief
+                int victim = indexOf(queue);
+                loads[victim] -= remainingBurstTimes[job];
+                loads[core] += remainingBurstTimes[job];
+            }
+
+            int slice = discipline == CpuAlgo.ROUND_ROBIN
+                    ? Math.min(timeQuantum, remainingBurstTimes[job])
+                    : remainingBurstTimes[job];
+            if (observing) {
+                if (idleSince[core] > NEVER_RAN && currentTime > idleSince[core]) {
+                    observer.onIdle(core, idleSince[core], currentTime - idleSince[core]);
+                }
+                idleSince[core] = BUSY;
+                observer.onDispatch(core, order[job], currentTime, readyCount());
+                if (slice > 0) {
+                    observer.onSlice(core, order[job], currentTime, slice);
+                }
+            }
+            remainingBurstTimes[job] -= slice;
+            running[core] = job;
+            sliceLengths[core] = slice;
+            busyTimes[core] += slice;
+            sliceEnds.push(((long) Math.addExact(currentTime, slice) << 32) | core);
+        }
+
+        private int readyCount() {
+            int count = 0;
+            for (ReadyQueue q : queues) {
+                count += q.size();
+            }
+            return count;
+        }
+
+        /**
+         * Returns the longest per-core queue, or `null` if every queue is empty.
+         */
+        private ReadyQueue victim() {
+            ReadyQueue longest = null;
+            for (ReadyQueue q : queues) {
+                if (!q.isEmpty() && (longest == null || q.size() > longest.size())) {
+                    longest = q;
+                }
+            }
+            return longest;
+        }
+
+        private ReadyQueue queueOf(int core) {
+            return queues[queues.length == 1 ? 0 : core];
+        }
+
+        private int indexOf(ReadyQueue queue) {
+            for (int c = 0; c < queues.length; c++) {
+                if (queues[c] == queue) {
+                    return c;
+                }
+            }
+            throw new IllegalStateException("Unknown queue");
+        }
+
+        private static int endTime(long sliceEnd) {
+            return (int) (sliceEnd >> 32);
+        }
+    }
+
+    /**
+     * A per-core ready queue of processes identified by arrival index.
+     */
+    private interface ReadyQueue {
+        void add(int job);
+
+        int poll();
+
+        boolean isEmpty();
+
+        int size();
+    }
+
+    /**
+     * A first-in, first-out queue for the FCFS and Round Robin disciplines.
+     */
+    private static class FifoQueue implements ReadyQueue {
+        private final IntRingQueue queue = new IntRingQueue(16);
+
+        @Override
+        public void add(int job) {
+            queue.offer(job);
+        }
+
+        @Override
+        public int poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+    }
+
+    /**
+     * A queue ordered by burst time, then arrival index, for the SJF discipline.
+     * Processes are never preempted under SJF, so a queued process's remaining
+     * time is still its full burst time.
+     */
+    private static class ShortestFirstQueue implements ReadyQueue {
+        private final LongMinHeap heap = new LongMinHeap(16);
+        private final int[] burstTimes;
+
+        private ShortestFirstQueue(int[] burstTimes) {
+            this.burstTimes = burstTimes;
+        }
+
+        @Override
+        public void add(int job) {
+            heap.push(((long) burstTimes[job] << 32) | job);
+        }
+
+        @Override
+        public int poll() {
+            return (int) heap.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return heap.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return heap.size();
+        }
+    }
+
+}
@@ -0,0 +1,290 @@
+package implementation;
+
+import model.CpuAlgo;
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import util.IndexSort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * The `ParallelScheduler` class implements the `Scheduler` interface by splitting
+ * a single-CPU workload at its idle gaps and scheduling the pieces in parallel.
+ * <p>
+ * Every single-CPU scheduler here is work-conserving: the CPU is idle only when
+ * no process is ready, so when a process arrives after the moment all earlier
+ * processes have completed, the schedule from there on does not depend on
+ * anything before it. Time-based rules (MLFQ boosts, priority aging) use
+ * absolute time, so they carry over as well. Such a process starts a busy
+ * period, and busy periods can be scheduled independently with identical
+ * results.
+ * <p>
+ * In arrival order, the time all of the first `k` processes have completed
+ * (ignoring the order among them) is `W(k) = max(W(k - 1), a(k)) + b(k)`. Each
+ * step is the max-plus map `x -> max(x + B, A)`, and composing two such maps
+ * gives another, so `W` is computed with a parallel prefix scan: each block of
+ * processes folds its maps into one, a short sequential pass over the blocks
+ * gives the value entering each block, and each block then recomputes its own
+ * `W` and marks the processes with `a(k) > W(k - 1)`. Arriving exactly at
+ * `W(k - 1)` is not enough: a process with a zero burst time may still be
+ * waiting then, and would be dispatched after the arrival instead of before.
+ * Consecutive busy periods are grouped into segments of at least
+ * `MIN_SEGMENT_SIZE` processes, each segment is copied into its own workload
+ * and scheduled on a fresh scheduler, and the completion times are written back
+ * by position, which keeps the original input order.
+ * <p>
+ * A saturated workload is a single busy period and gains nothing; the split
+ * only pays off when the CPU goes idle often enough to give each worker several
+ * segments. Observed runs are scheduled sequentially, since observers expect
+ * their callbacks in time order.
+ */
+public class ParallelScheduler implements Scheduler {
+
+    /** The smallest number of processes scheduled as one parallel segment. */
+    public static final int MIN_SEGMENT_SIZE = 1 << 14;
+
+    private static final int BLOCKS_PER_THREAD = 4;
+    private static final int SEGMENTS_PER_THREAD = 8;
+
+    private final Supplier<? extends Scheduler> schedulers;
+    private final String configuration;
+    private final int parallelism;
+    private int busyPeriods;
+    private int segments;
+
+    /**
+     * Constructs a `ParallelScheduler` for one of the built-in algorithms.
+     *
+     * @param algorithm   The scheduling algorithm.
+     * @param timeQuantum The time quantum, used only by quantum-based algorithms.
+     * @param parallelism The number of worker threads.
+     * @throws IllegalArgumentException If a required parameter is invalid.
+     */
+    public ParallelScheduler(CpuAlgo algorithm, int timeQuantum, int parallelism) {
+        this(() -> Schedulers.create(algorithm, timeQuantum), parallelism);
+    }
+
+    /**
+     * Constructs a `ParallelScheduler`.
+     *
+     * @param schedulers  Creates the scheduler for each segment. Every scheduler it
+     *                    returns must have the same configuration and model a
+     *                    single work-conserving CPU.
+     * @param parallelism The number of worker threads.
+     * @throws IllegalArgumentException If the parallelism is not positive, or the
+     *                                  schedulers are multi-core.
+     */
+    public ParallelScheduler(Supplier<? extends Scheduler> schedulers, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be > 0: " + parallelism);
+        }
+        Scheduler sample = schedulers.get();
+        if (sample instanceof MultiCoreScheduler) {
+            throw new IllegalArgumentException("Multi-core schedulers cannot be split at idle gaps");
+        }
+        this.schedulers = schedulers;
+        this.configuration = sample.configuration();
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String configuration() {
+        return configuration;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the number of busy periods found by the last parallel run.
+     */
+    public int getBusyPeriods() {
+        return busyPeriods;
+    }
+
+    /**
+     * Returns the number of segments scheduled by the last parallel run, or 1 if
+     * it ran sequentially.
+     */
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * Schedules the given workload, splitting it at idle gaps when unobserved.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and
+     *                 phases; any observer other than `NONE` runs sequentially.
+     */
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        int n = workload.size();
+        busyPeriods = 0;
+        segments = 1;
+        if (observer != ScheduleObserver.NONE || parallelism == 1 || n < 2 * MIN_SEGMENT_SIZE) {
+            schedulers.get().schedule(workload, observer);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // Sort into arrival order, breaking ties like `Workload.arrivalOrder`
+            long[] keys = new long[n];
+            int blocks = Math.min(parallelism * BLOCKS_PER_THREAD, n / MIN_SEGMENT_SIZE);
+            invokeAll(pool, blocks, b -> {
+                for (int i = bound(b, blocks, n); i < bound(b + 1, blocks, n); i++) {
+                    keys[i] = IndexSort.key(workload.arrivalTime(i), workload.pid(i));
+                }
+            });
+            int[] order = IndexSort.parallelOrder(keys, pool);
+
+            int[] starts = busyPeriodStarts(workload, order, pool, blocks);
+            busyPeriods = starts.length;
+
+            // Group consecutive busy periods into segments of a minimum size
+            int target = Math.max(MIN_SEGMENT_SIZE, n / (parallelism * SEGMENTS_PER_THREAD));
+            int[] bounds = new int[starts.length + 1];
+            int count = 1;
+            for (int start : starts) {
+                if (start - bounds[count - 1] >= target && n - start >= MIN_SEGMENT_SIZE) {
+                    bounds[count++] = start;
+                }
+            }
+            bounds[count] = n;
+            segments = count;
+
+            invokeAll(pool, segments, s -> scheduleSegment(workload, order, bounds[s], bounds[s + 1]));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the ranks in arrival order at which busy periods start, ascending.
+     * Rank 0 always starts one.
+     */
+    private static int[] busyPeriodStarts(Workload workload, int[] order, ForkJoinPool pool, int blocks) {
+        int n = order.length;
+
+        // Fold each block's steps into one map x -> max(x + B, A); times are never
+        // negative, so x -> max(x + 0, 0) is the identity to start from
+        long[] shifts = new long[blocks];
+        long[] floors = new long[blocks];
+        invokeAll(pool, blocks, b -> {
+            long shift = 0;
+            long floor = 0;
+            for (int k = bound(b, blocks, n); k < bound(b + 1, blocks, n); k++) {
+                int i = order[k];
+                long burst = workload.burstTime(i);
+                floor = Math.max(floor, workload.arrivalTime(i)) + burst;
+                shift += burst;
+            }
+            shifts[b] = shift;
+            floors[b] = floor;
+        });
+
+        // Apply the maps in order to get the time entering each block
+        long[] entering = new long[blocks];
+        long time = 0;
+        for (int b = 0; b < blocks; b++) {
+            entering[b] = time;
+            time = Math.max(time + shifts[b], floors[b]);
+        }
+
+        // Replay each block from its entering time and collect its busy-period starts
+        int[][] blockStarts = new int[blocks][];
+        invokeAll(pool, blocks, b -> {
+            int[] found = new int[16];
+            int count = 0;
+            long completion = entering[b];
+            for (int k = bound(b, blocks, n); k < bound(b + 1, blocks, n); k++) {
+                int i = order[k];
+                int arrival = workload.arrivalTime(i);
+                if (arrival > completion || k == 0) {
+                    if (count == found.length) {
+                        found = Arrays.copyOf(found, count * 2);
+                    }
+                    found[count++] = k;
+                }
+                completion = Math.max(completion, arrival) + workload.burstTime(i);
+            }
+            blockStarts[b] = Arrays.copyOf(found, count);
+        });
+
+        int total = 0;
+        for (int[] found : blockStarts) {
+            total += found.length;
+        }
+        int[] starts = new int[total];
+        int offset = 0;
+        for (int[] found : blockStarts) {
+            System.arraycopy(found, 0, starts, offset, found.length);
+            offset += found.length;
+        }
+        return starts;
+    }
+
+    /**
+     * Schedules the processes at ranks `lo..hi` on their own and writes their
+     * completion times back into the workload.
+     */
+    private void scheduleSegment(Workload workload, int[] order, int lo, int hi) {
+        int size = hi - lo;
+        int[] pids = new int[size];
+        int[] arrivalTimes = new int[size];
+        int[] burstTimes = new int[size];
+        for (int j = 0; j < size; j++) {
+            int i = order[lo + j];
+            pids[j] = workload.pid(i);
+            arrivalTimes[j] = workload.arrivalTime(i);
+            burstTimes[j] = workload.burstTime(i);
+        }
+        Workload segment;
+        if (workload.hasPriorities()) {
+            int[] priorities = new int[size];
+            for (int j = 0; j < size; j++) {
+                priorities[j] = workload.priority(order[lo + j]);
+            }
+            segment = new Workload(pids, arrivalTimes, burstTimes, priorities);
+        } else {
+            segment = new Workload(pids, arrivalTimes, burstTimes);
+        }
+
+        schedulers.get().schedule(segment);
+        for (int j = 0; j < size; j++) {
+            workload.setCompletionTime(order[lo + j], segment.completionTime(j));
+        }
+    }
+
+    /**
+     * Returns the start of part `part` of `parts` equal parts of `0..n`.
+     */
+    private static int bound(int part, int parts, int n) {
+        return (int) ((long) part * n / parts);
+    }
+
+    /**
+     * Runs `body` for every index `0..count - 1` on the pool and waits for all of them.
+     */
+    private static void invokeAll(ForkJoinPool pool, int count, IntConsumer body) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks.add(pool.submit(() -> body.accept(index)));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+}
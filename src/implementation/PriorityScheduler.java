@@ -0,0 +1,410 @@
+package implementation;
+
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import util.IntRingQueue;
+import util.LongMinHeap;
+
+/**
+ * The `PriorityScheduler` class implements the `Scheduler` interface and provides
+ * preemptive and non-preemptive priority scheduling with aging.
+ * <p>
+ * Each process has a priority from 0 to `MAX_PRIORITY`; lower values run first,
+ * and ties go to the earlier arrival (then the lower PID). In non-preemptive mode
+ * the chosen process runs to completion. In preemptive mode a process arriving
+ * with a better priority than the running one preempts it, and the preempted
+ * process keeps its place ahead of every equal-priority process that arrived
+ * after it.
+ * <p>
+ * Aging counts time in epochs of `agingInterval` time units: at every epoch
+ * boundary each waiting process's effective priority improves by one level, so a
+ * low-priority process cannot starve behind a stream of high-priority arrivals.
+ * A process that entered in epoch `e` with priority `p` therefore has effective
+ * priority `p + e - now` at epoch `now`, and since `now` is shared by all of them
+ * the processes can be ordered once by the static key `p + e`. Aging keeps
+ * running while a process runs and after it is preempted, so a preempted process
+ * resumes at the effective priority it has earned.
+ * <p>
+ * The default ready queue is a bucket queue with one FIFO bucket per priority
+ * level, arranged as a calendar: bucket `k mod levels` holds the processes with
+ * key `k`, and the buckets for keys `now .. now + levels - 1` cover every priority
+ * a new arrival can have. Advancing an epoch moves the bucket of the old epoch
+ * onto an "aged" queue of processes that have reached the top priority, which
+ * stays sorted because buckets move in key order. Every process is moved at most
+ * once, and a two-level bitmap finds the next non-empty bucket in constant time,
+ * so enqueue and dequeue are O(1) amortized. A binary heap over the same keys can be selected as a
+ * baseline; both give identical schedules.
+ */
+public class PriorityScheduler implements Scheduler {
+
+    public static final int MAX_PRIORITY = 4095;
+    public static final int DEFAULT_AGING_INTERVAL = 100;
+
+    /**
+     * The data structures that can hold the ready processes.
+     */
+    public enum ReadyQueue {
+        /** Calendar of per-priority FIFO buckets with O(1) amortized operations. */
+        BUCKET,
+        /** Binary min-heap with O(log n) operations, as a baseline. */
+        HEAP
+    }
+
+    private final boolean preemptive;
+    private final int agingInterval;
+    private final ReadyQueue readyQueue;
+    private long preemptions;
+
+    /**
+     * Constructs a `PriorityScheduler` with a bucket ready queue.
+     *
+     * @param preemptive    Whether a better-priority arrival preempts the running process.
+     * @param agingInterval The time after which a waiting process gains one
+     *                      priority level, or 0 to disable aging.
+     * @throws IllegalArgumentException If the aging interval is negative.
+     */
+    public PriorityScheduler(boolean preemptive, int agingInterval) {
+        this(preemptive, agingInterval, ReadyQueue.BUCKET);
+    }
+
+    /**
+     * Constructs a `PriorityScheduler`.
+     *
+     * @param preemptive    Whether a better-priority arrival preempts the running process.
+     * @param agingInterval The time after which a waiting process gains one
+     *                      priority level, or 0 to disable aging.
+     * @param readyQueue    The data structure holding the ready processes.
+     * @throws IllegalArgumentException If the aging interval is negative.
+     */
+    public PriorityScheduler(boolean preemptive, int agingInterval, ReadyQueue readyQueue) {
+        if (agingInterval < 0) {
+            throw new IllegalArgumentException("Aging interval must be >= 0: " + agingInterval);
+        }
+        this.preemptive = preemptive;
+        this.agingInterval = agingInterval;
+        this.readyQueue = readyQueue;
+    }
+
+    /**
+     * Returns the class name, mode and aging interval; the ready queue does not
+     * change the results.
+     */
+    @Override
+    public String configuration() {
+        return getClass().getName() + "[preemptive=" + preemptive + ", agingInterval=" + agingInterval + "]";
+    }
+
+    /**
+     * Returns the number of times a running process was preempted during the
+     * most recent `schedule` call.
+     */
+    public long getPreemptions() {
+        return preemptions;
+    }
+
+    /**
+     * Schedules the given workload using the priority scheduling algorithm.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and phases.
+     * @throws IllegalArgumentException If a priority is outside `0..MAX_PRIORITY`.
+     */
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        boolean observing = observer != ScheduleObserver.NONE;
+        if (observing) {
+            observer.onPhaseStart(ScheduleObserver.Phase.SORT);
+        }
+
+        // Sort processes by arrival time, then by PID; ready processes are
+        // identified by their index in this order, which breaks priority ties
+        int[] order = workload.arrivalOrder();
+
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
+        }
+
+        int n = order.length;
+        int[] remainingBurstTimes = new int[n];
+        int maxPriority = 0;
+        for (int i = 0; i < n; i++) {
+            remainingBurstTimes[i] = workload.burstTime(order[i]);
+            int priority = workload.priority(i);
+            if (priority < 0 || priority > MAX_PRIORITY) {
+                throw new IllegalArgumentException(
+                        "Priority must be between 0 and " + MAX_PRIORITY + ": " + priority);
+            }
+            maxPriority = Math.max(maxPriority, priority);
+        }
+
+        ReadySet ready = readyQueue == ReadyQueue.BUCKET
+                ? new BucketReadySet(maxPriority + 1)
+                : new HeapReadySet();
+        long currentTime = 0;
+        int next = 0; // Index of the next process to arrive
+        long preempted = 0;
+
+        while (next < n || !ready.isEmpty()) {
+            if (ready.isEmpty()) {
+                // If no processes are ready, jump to the next arrival time
+                int arrival = workload.arrivalTime(order[next]);
+                if (observing && next > 0 && arrival > currentTime) {
+                    observer.onIdle(0, (int) currentTime, (int) (arrival - currentTime));
+                }
+                currentTime = Math.max(currentTime, arrival);
+            }
+
+            // Admit processes that have arrived by the current time, each in the
+            // epoch of its arrival, then age the ready processes up to now
+            while (next < n && workload.arrivalTime(order[next]) <= currentTime) {
+                ready.advance(epoch(workload.arrivalTime(order[next])));
+                ready.add(next, key(workload, order, next));
+                next++;
+            }
+            ready.advance(epoch(currentTime));
+
+            // Dispatch the process with the best effective priority
+            int job = ready.poll();
+            int jobKey = key(workload, order, job);
+            if (observing) {
+                observer.onDispatch(0, order[job], (int) currentTime, ready.size());
+            }
+
+            long end = currentTime + remainingBurstTimes[job];
+            boolean preempt = false;
+            // Admit arrivals during the run until one of them preempts it
+            while (preemptive && !preempt && next < n && workload.arrivalTime(order[next]) < end) {
+                int arrival = workload.arrivalTime(order[next]);
+                ready.advance(epoch(arrival));
+                while (next < n && workload.arrivalTime(order[next]) == arrival) {
+                    int key = key(workload, order, next);
+                    preempt |= key < jobKey;
+                    ready.add(next, key);
+                    next++;
+                }
+                if (preempt) {
+                    end = arrival;
+                }
+            }
+
+            int ran = (int) (end - currentTime);
+            if (observing && ran > 0) {
+                observer.onSlice(0, order[job], (int) currentTime, ran);
+            }
+            remainingBurstTimes[job] -= ran;
+            currentTime = end;
+            if (preempt) {
+                // The preempted process is ahead of every ready process with its key
+                ready.addFirst(job, jobKey);
+                preempted++;
+            } else {
+                workload.setCompletionTime(order[job], Math.toIntExact(currentTime));
+            }
+        }
+
+        this.preemptions = preempted;
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+        }
+    }
+
+    private int epoch(long time) {
+        return agingInterval == 0 ? 0 : (int) (time / agingInterval);
+    }
+
+    /**
+     * Returns the static ordering key of the process at index `job` in arrival
+     * order: its priority plus the epoch in which it arrived.
+     */
+    private int key(Workload workload, int[] order, int job) {
+        int i = order[job];
+        return Math.addExact(workload.priority(i), epoch(workload.arrivalTime(i)));
+    }
+
+    /**
+     * The ready processes, ordered by key and then by index in arrival order.
+     */
+    private interface ReadySet {
+
+        boolean isEmpty();
+
+        int size();
+
+        /**
+         * Adds a process whose key is at least the current epoch and whose index
+         * is greater than that of every ready process with the same key.
+         */
+        void add(int job, int key);
+
+        /**
+         * Adds a process that orders before every ready process.
+         */
+        void addFirst(int job, int key);
+
+        int poll();
+
+        /**
+         * Advances the current epoch; it never moves backwards.
+         */
+        void advance(int epoch);
+    }
+
+    private static final class HeapReadySet implements ReadySet {
+
+        private final LongMinHeap heap = new LongMinHeap(16);
+
+        @Override
+        public boolean isEmpty() {
+            return heap.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return heap.size();
+        }
+
+        @Override
+        public void add(int job, int key) {
+            heap.push(((long) key << 32) | job);
+        }
+
+        @Override
+        public void addFirst(int job, int key) {
+            add(job, key);
+        }
+
+        @Override
+        public int poll() {
+            return (int) heap.poll();
+        }
+
+        @Override
+        public void advance(int epoch) {
+            // Keys are static, so the heap order never changes
+        }
+    }
+
+    private static final class BucketReadySet implements ReadySet {
+
+        private final int levels;
+        private final IntRingQueue[] buckets;  // Bucket `key % levels` holds keys `epoch .. epoch + levels - 1`
+        private final long[] nonEmptyBuckets;  // Bit `b` is set when bucket `b` has a process
+        private long nonEmptyWords;            // Bit `w` is set when `nonEmptyBuckets[w]` is non-zero
+        private final IntRingQueue aged = new IntRingQueue(16); // Keys below the epoch, in order
+        private int epoch;
+        private int size;
+
+        private BucketReadySet(int levels) {
+            this.levels = levels;
+            this.buckets = new IntRingQueue[levels];
+            for (int b = 0; b < levels; b++) {
+                buckets[b] = new IntRingQueue(4);
+            }
+            this.nonEmptyBuckets = new long[(levels + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void add(int job, int key) {
+            int b = key % levels;
+            buckets[b].offer(job);
+            markNonEmpty(b);
+            size++;
+        }
+
+        @Override
+        public void addFirst(int job, int key) {
+            if (key < epoch) {
+                aged.offerFirst(job);
+            } else {
+                int b = key % levels;
+                buckets[b].offerFirst(job);
+                markNonEmpty(b);
+            }
+            size++;
+        }
+
+        @Override
+        public int poll() {
+            if (!aged.isEmpty()) {
+                size--;
+                return aged.poll();
+            }
+
+            // Scan the buckets circularly from the one holding the current epoch
+            int b = nextNonEmpty(epoch % levels);
+            if (b < 0) {
+                b = nextNonEmpty(0);
+            }
+            IntRingQueue bucket = buckets[b];
+            int job = bucket.poll();
+            if (bucket.isEmpty()) {
+                markEmpty(b);
+            }
+            size--;
+            return job;
+        }
+
+        private void markNonEmpty(int b) {
+            nonEmptyBuckets[b >>> 6] |= 1L << b;
+            nonEmptyWords |= 1L << (b >>> 6);
+        }
+
+        private void markEmpty(int b) {
+            int word = b >>> 6;
+            nonEmptyBuckets[word] &= ~(1L << b);
+            if (nonEmptyBuckets[word] == 0) {
+                nonEmptyWords &= ~(1L << word);
+            }
+        }
+
+        /**
+         * Returns the first non-empty bucket at or after `from`, or -1. With at
+         * most 4096 buckets the word summary fits one `long`, so the search takes
+         * two trailing-zero counts.
+         */
+        private int nextNonEmpty(int from) {
+            int word = from >>> 6;
+            long bits = nonEmptyBuckets[word] & (-1L << from);
+            if (bits == 0) {
+                long words = word == Long.SIZE - 1 ? 0 : nonEmptyWords & (-1L << (word + 1));
+                if (words == 0) {
+                    return -1;
+                }
+                word = Long.numberOfTrailingZeros(words);
+                bits = nonEmptyBuckets[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        @Override
+        public void advance(int epoch) {
+            // Move the buckets of every passed epoch onto the aged queue, in key order
+            int passed = (int) Math.min(levels, (long) epoch - this.epoch);
+            for (int k = 0; k < passed; k++) {
+                int b = (this.epoch + k) % levels;
+                IntRingQueue bucket = buckets[b];
+                if (!bucket.isEmpty()) {
+                    while (!bucket.isEmpty()) {
+                        aged.offer(bucket.poll());
+                    }
+                    markEmpty(b);
+                }
+            }
+            this.epoch = Math.max(this.epoch, epoch);
+        }
+    }
+
+}
@@ -1,10 +1,11 @@
 package implementation;
 
-import model.ProcessInput;
-import model.ProcessStats;
+import model.Workload;
+import task.ScheduleObserver;
 import task.Scheduler;
+import util.IntRingQueue;
 
-import java.util.*;
+import java.util.Arrays;
 
 /**
  * The `RoundRobinScheduler` class implements the `Scheduler` interface
@@ -14,76 +15,142 @@ import java.util.*;
  * process in the ready queue. Processes are executed in a cyclic order, and
  * if a process is not completed within its time quantum, it is re-enqueued
  * for the next cycle.
+ * <p>
+ * In fast-forward mode the scheduler skips ahead to the next arrival at once
+ * whenever that arrival is several rounds away. Until a process joins,
+ * the queue's cyclic order only loses processes, so they finish in order of the
+ * turns they still need, then of their queue position, and every slice between
+ * two completions is a full quantum. A `RoundSkipper` keeps the queued processes
+ * in that order and retires them one completion at a time in `O(log n)`, so the
+ * run time grows with the number of arrivals and completions instead of with
+ * `total burst / timeQuantum`, while the completion times stay identical to the
+ * quantum-by-quantum loop. A workload with a negative burst time always runs
+ * quantum by quantum.
+ * <p>
+ * The ready queue holds primitive indices in an `IntRingQueue`, so re-enqueueing
+ * a process never boxes and a run allocates nothing once the queue has grown to
+ * the largest number of ready processes.
+ * <p>
+ * An observed run reports every slice, so it always runs quantum by quantum.
  */
 public class RoundRobinScheduler implements Scheduler {
 
     private final int timeQuantum;
+    private final boolean fastForward;
 
     /**
-     * Constructs a `RoundRobinScheduler` with the specified time quantum.
+     * Constructs a `RoundRobinScheduler` with the specified time quantum and
+     * fast-forward mode enabled.
      *
      * @param timeQuantum The fixed time quantum for the Round Robin scheduling algorithm.
+     * @throws IllegalArgumentException If the time quantum is not positive.
      */
     public RoundRobinScheduler(int timeQuantum) {
-        this.timeQuantum = timeQuantum;
+        this(timeQuantum, true);
     }
 
     /**
-     * Schedules the given list of processes using the Round Robin scheduling algorithm.
+     * Constructs a `RoundRobinScheduler` with the specified time quantum.
      *
-     * @param processes A list of `ProcessInput` objects representing the processes
-     *                  to be scheduled. Each process contains information such as
-     *                  arrival time, burst time, and PID.
-     * @return A list of `ProcessStats` objects containing the scheduling results
-     * for each process, including their completion times.
+     * @param timeQuantum The fixed time quantum for the Round Robin scheduling algorithm.
+     * @param fastForward Whether whole rounds without arrivals or completions are
+     *                    skipped in a single step.
+     * @throws IllegalArgumentException If the time quantum is not positive.
+     */
+    public RoundRobinScheduler(int timeQuantum, boolean fastForward) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be > 0: " + timeQuantum);
+        }
+        this.timeQuantum = timeQuantum;
+        this.fastForward = fastForward;
+    }
+
+    /**
+     * Returns the class name and time quantum; fast-forward mode does not change
+     * the results.
      */
     @Override
-    public List<ProcessStats> schedule(List<ProcessInput> processes) {
+    public String configuration() {
+        return getClass().getName() + "[timeQuantum=" + timeQuantum + "]";
+    }
 
-        // Map to store the scheduling statistics for each process
-        Map<Integer, ProcessStats> statsMap = new LinkedHashMap<>();
-        for (ProcessInput in : processes) {
-            statsMap.put(in.getPid(), new ProcessStats(in));
+    /**
+     * Schedules the given workload using the Round Robin scheduling algorithm.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and phases.
+     */
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        boolean observing = observer != ScheduleObserver.NONE;
+        if (observing) {
+            observer.onPhaseStart(ScheduleObserver.Phase.SORT);
         }
 
         // Sort processes by arrival time, then by PID
-        List<ProcessInput> sortedProcesses = new ArrayList<>(processes);
-        sortedProcesses.sort(
-                Comparator.comparingInt(ProcessInput::getArrivalTime)
-                        .thenComparingInt(ProcessInput::getPid)
-        );
+        int[] order = workload.arrivalOrder();
 
-        int n = sortedProcesses.size();
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
+        }
+
+        int n = order.length;
         int[] remainingBurstTimes = new int[n];
         for (int i = 0; i < n; i++) {
-            remainingBurstTimes[i] = sortedProcesses.get(i).getBurstTime();
+            remainingBurstTimes[i] = workload.burstTime(order[i]);
         }
 
         // Queue to manage the order of processes for execution
-        Queue<Integer> queue = new ArrayDeque<>();
+        IntRingQueue queue = new IntRingQueue(16);
         int currentTime = 0;
         int index = 0;
 
         // Enqueue the first process or jump to the earliest arrival time
-        if (index < n && sortedProcesses.get(index).getArrivalTime() > currentTime) {
-            currentTime = sortedProcesses.get(index).getArrivalTime();
+        if (index < n && workload.arrivalTime(order[index]) > currentTime) {
+            currentTime = workload.arrivalTime(order[index]);
         }
-        while (index < n && sortedProcesses.get(index).getArrivalTime() <= currentTime) {
+        while (index < n && workload.arrivalTime(order[index]) <= currentTime) {
             queue.offer(index++);
         }
 
+        boolean skipping = fastForward && !observing && nonNegative(remainingBurstTimes);
+        RoundSkipper skipper = null;
+        int stepsUntilSkip = 0;
+
         // Process the queue until all processes are completed
         while (!queue.isEmpty()) {
+            if (skipping && --stepsUntilSkip <= 0) {
+                // Look ahead once per round: skip only when the next arrival is several rounds away
+                stepsUntilSkip = queue.size();
+                if (index == n || (long) workload.arrivalTime(order[index]) - currentTime
+                        > 4L * queue.size() * timeQuantum) {
+                    // Skip to the slice that ends at or after the next arrival, or to the last
+                    // process's final slice, and run that slice below
+                    if (skipper == null) {
+                        skipper = new RoundSkipper(workload, order, remainingBurstTimes, timeQuantum);
+                    }
+                    int nextArrival = index < n ? workload.arrivalTime(order[index]) : 0;
+                    currentTime = skipper.skip(queue, currentTime, index < n, nextArrival);
+                }
+            }
+
             int i = queue.poll();
-            ProcessInput process = sortedProcesses.get(i);
 
             // Execute the process for the time quantum or until completion
             int executionTime = Math.min(timeQuantum, remainingBurstTimes[i]);
+            if (observing) {
+                observer.onDispatch(0, order[i], currentTime, queue.size());
+                if (executionTime > 0) {
+                    observer.onSlice(0, order[i], currentTime, executionTime);
+                }
+            }
             remainingBurstTimes[i] -= executionTime;
-            currentTime += executionTime;
+            currentTime = Math.addExact(currentTime, executionTime);
 
             // Enqueue newly arrived processes
-            while (index < n && sortedProcesses.get(index).getArrivalTime() <= currentTime) {
+            while (index < n && workload.arrivalTime(order[index]) <= currentTime) {
                 queue.offer(index++);
             }
 
@@ -92,21 +159,220 @@ public class RoundRobinScheduler implements Scheduler {
                 queue.offer(i);
             } else {
                 // If the process is finished, set its completion time
-                statsMap.get(process.getPid()).setCompletionTime(currentTime);
+                workload.setCompletionTime(order[i], currentTime);
             }
 
             // If the queue is empty but there are processes yet to arrive
             if (queue.isEmpty() && index < n) {
                 // Jump to the next process arrival time
-                currentTime = Math.max(currentTime, sortedProcesses.get(index).getArrivalTime());
-                while (index < n && sortedProcesses.get(index).getArrivalTime() <= currentTime) {
+                int arrival = workload.arrivalTime(order[index]);
+                if (observing && arrival > currentTime) {
+                    observer.onIdle(0, currentTime, arrival - currentTime);
+                }
+                currentTime = Math.max(currentTime, arrival);
+                while (index < n && workload.arrivalTime(order[index]) <= currentTime) {
                     queue.offer(index++);
                 }
             }
         }
 
-        // Return the scheduling results as a list of ProcessStats
-        return new ArrayList<>(statsMap.values());
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+        }
+    }
+
+    private static boolean nonNegative(int[] burstTimes) {
+        for (int burstTime : burstTimes) {
+            if (burstTime < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The `RoundSkipper` class advances a Round Robin run over the stretch in
+     * which no process joins the ready queue.
+     * <p>
+     * A queued process with `r` time left needs `c = max(1, ceil(r / timeQuantum))`
+     * more turns, and without arrivals the processes finish in ascending
+     * `(c, queue position)` order: by round, then in round order. `skip` sorts the
+     * positions into that order, with a counting sort when there are no more turn
+     * counts than processes, and counts the processes still queued before each
+     * position in a Fenwick tree. After the previous completion every
+     * remaining process still needs more than the turns it gets until the next
+     * one, so all slices in between are full quanta, and the next completion time
+     * follows from the counts in `O(log n)`.
+     * <p>
+     * `skip` stops just before the slice that ends at or after the next arrival,
+     * or before the final slice of the last queued process. It then charges every
+     * remaining process for the turns it has had and rotates the queue so that
+     * the regular loop runs that slice and admits the arrivals as usual.
+     */
+    private static final class RoundSkipper {
+
+        private final Workload workload;
+        private final int[] order;
+        private final int[] remainingBurstTimes;
+        private final long timeQuantum;
+        // Scratch arrays sized to the largest queue skipped so far:
+        // queue entries by position at the start of a skip, -1 once finished
+        private int[] members = new int[0];
+        // Fenwick tree over the positions still queued
+        private int[] tree;
+        // Positions in finishing order, and the counting sort's buckets
+        private int[] finishOrder;
+        private int[] counts;
+        // (turns needed << 32) | position, when there are too many turn counts to bucket
+        private long[] keys;
+
+        private RoundSkipper(Workload workload, int[] order, int[] remainingBurstTimes, int timeQuantum) {
+            this.workload = workload;
+            this.order = order;
+            this.remainingBurstTimes = remainingBurstTimes;
+            this.timeQuantum = timeQuantum;
+        }
+
+        /**
+         * Retires every process that finishes before the slice ending at or after
+         * the next arrival, or before the final slice of the last queued process,
+         * and leaves the queue with the process running that slice at its head.
+         *
+         * @param queue          The non-empty ready queue, rotated and charged in place.
+         * @param currentTime    The current time.
+         * @param hasNextArrival Whether there are processes yet to arrive.
+         * @param nextArrival    The arrival time of the next process, if any, several
+         *                       rounds after the current time.
+         * @return The start time of the slice at the head of the queue.
+         * @throws ArithmeticException If a completion time does not fit in an `int`.
+         */
+        private int skip(IntRingQueue queue, int currentTime, boolean hasNextArrival, int nextArrival) {
+            int size = queue.size();
+            if (members.length < size) {
+                int capacity = Math.max(size, Math.min(members.length * 2, order.length));
+                members = new int[capacity];
+                tree = new int[capacity + 1];
+                finishOrder = new int[capacity];
+                counts = new int[capacity + 2];
+                keys = null;
+            }
+            int maxTurns = 0;
+            for (int p = 0; p < size; p++) {
+                members[p] = queue.get(p);
+                tree[p + 1] = (p + 1) & -(p + 1);
+                maxTurns = Math.max(maxTurns, turns(members[p]));
+            }
+            if (maxTurns <= size) {
+                // Counting sort by turns, which keeps each count's positions ascending
+                Arrays.fill(counts, 0, maxTurns + 2, 0);
+                for (int p = 0; p < size; p++) {
+                    counts[turns(members[p]) + 1]++;
+                }
+                for (int t = 1; t <= maxTurns; t++) {
+                    counts[t + 1] += counts[t];
+                }
+                for (int p = 0; p < size; p++) {
+                    finishOrder[counts[turns(members[p])]++] = p;
+                }
+            } else {
+                if (keys == null) {
+                    keys = new long[members.length];
+                }
+                for (int p = 0; p < size; p++) {
+                    keys[p] = (long) turns(members[p]) << 32 | p;
+                }
+                Arrays.sort(keys, 0, size);
+                for (int f = 0; f < size; f++) {
+                    finishOrder[f] = (int) keys[f];
+                }
+            }
+
+            // The last completion: its time, turn and position, and the queued
+            // positions before it; at first the start of round 1 before position 0
+            long time = currentTime;
+            long lastTurn = 1;
+            int lastPosition = -1;
+            int before = 0;
+            int queued = size;
+            for (int f = 0; ; f++) {
+                int p = finishOrder[f];
+                long turns = turns(members[p]);
+                int ahead = queuedBefore(p);
+
+                // Slices from the last completion through p's final one, all full but that one
+                long slices = Math.addExact(Math.multiplyExact(queued, turns - lastTurn), ahead + 1 - before);
+                long completion = time + Math.multiplyExact(slices - 1 - (turns - 1), timeQuantum)
+                        + remainingBurstTimes[members[p]];
+                boolean arrives = hasNextArrival && nextArrival <= completion;
+                if (arrives || queued == 1) {
+                    long next = arrives ? Math.min(slices, Math.ceilDiv(nextArrival - time, timeQuantum)) : slices;
+                    rotate(queue, size, queued, next - 1, lastTurn, lastPosition, before);
+                    return Math.toIntExact(time + (next - 1) * timeQuantum);
+                }
+
+                workload.setCompletionTime(order[members[p]], Math.toIntExact(completion));
+                remainingBurstTimes[members[p]] = 0;
+                members[p] = -1;
+                for (int k = p + 1; k <= size; k += k & -k) {
+                    tree[k]--;
+                }
+                queued--;
+                time = completion;
+                lastTurn = turns;
+                lastPosition = p;
+                before = ahead;
+            }
+        }
+
+        /**
+         * Charges the queued processes for the `done` full slices run since the
+         * last completion and refills the queue in cyclic order from the process
+         * that runs the next slice.
+         */
+        private void rotate(IntRingQueue queue, int size, int queued, long done, long lastTurn, int lastPosition,
+                            int before) {
+            // The slices went round the queued processes from rank `before`
+            long laps = done / queued;
+            int extra = (int) (done % queued);
+            int head = (int) ((before + done) % queued);
+            queue.clear();
+            int rank = 0;
+            for (int p = 0; p < size; p++) {
+                if (members[p] < 0) {
+                    continue;
+                }
+                // Turns had at the last completion, then the laps and the partial lap
+                long turns = lastTurn - 1 + (p < lastPosition ? 1 : 0) + laps
+                        + ((rank - before + queued) % queued < extra ? 1 : 0);
+                remainingBurstTimes[members[p]] -= (int) (turns * timeQuantum);
+                if (rank >= head) {
+                    queue.offer(members[p]);
+                }
+                rank++;
+            }
+            rank = 0;
+            for (int p = 0; p < size && rank < head; p++) {
+                if (members[p] >= 0) {
+                    queue.offer(members[p]);
+                    rank++;
+                }
+            }
+        }
+
+        /**
+         * Returns the turns a queued process needs to finish, at least one.
+         */
+        private int turns(int i) {
+            return (int) Math.max(1, (remainingBurstTimes[i] + timeQuantum - 1) / timeQuantum);
+        }
+
+        private int queuedBefore(int position) {
+            int count = 0;
+            for (int k = position; k > 0; k -= k & -k) {
+                count += tree[k];
+            }
+            return count;
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package implementation;
+
+import model.CpuAlgo;
+import model.ProcessStats;
+import task.Scheduler;
+import task.StreamingScheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * The `Schedulers` class creates `Scheduler` instances from a `CpuAlgo` and its
+ * parameters, so callers that select algorithms at run time share one mapping.
+ */
+public class Schedulers {
+
+    private Schedulers() {
+    }
+
+    /**
+     * Creates a scheduler for the given algorithm.
+     *
+     * @param algorithm   The scheduling algorithm.
+     * @param timeQuantum The time quantum, used only by quantum-based algorithms.
+     *                    For MLFQ it is the level-0 quantum; the other levels and
+     *                    the boost interval use defaults. The priority
+     *                    algorithms use the default aging interval.
+     * @return A new `Scheduler`.
+     * @throws IllegalArgumentException If a required parameter is invalid.
+     */
+    public static Scheduler create(CpuAlgo algorithm, int timeQuantum) {
+        return switch (algorithm) {
+            case FCFS -> new FcfsScheduler();
+            case SJF_NON_PREEMPTIVE -> new SjfNonPreemptiveScheduler();
+            case ROUND_ROBIN -> new RoundRobinScheduler(timeQuantum);
+            case SRTF -> new SrtfScheduler();
+            case MLFQ -> new MlfqScheduler(
+                    MlfqScheduler.DEFAULT_LEVELS,
+                    timeQuantum,
+                    boostInterval(timeQuantum)
+            );
+            case PRIORITY_NON_PREEMPTIVE -> new PriorityScheduler(false, PriorityScheduler.DEFAULT_AGING_INTERVAL);
+            case PRIORITY_PREEMPTIVE -> new PriorityScheduler(true, PriorityScheduler.DEFAULT_AGING_INTERVAL);
+        };
+    }
+
+    /**
+     * Creates a streaming scheduler for the given algorithm.
+     *
+     * @param algorithm   The scheduling algorithm.
+     * @param timeQuantum The time quantum, used only by quantum-based algorithms.
+     * @param completions The callback receiving each process once it completes.
+     * @return A new `StreamingScheduler`.
+     * @throws IllegalArgumentException If a required parameter is invalid, or the
+     *                                  algorithm has no streaming variant.
+     */
+    public static StreamingScheduler createStreaming(
+            CpuAlgo algorithm,
+            int timeQuantum,
+            Consumer<ProcessStats> completions
+    ) {
+        return switch (algorithm) {
+            case FCFS -> new StreamingFcfsScheduler(completions);
+            case SJF_NON_PREEMPTIVE -> new StreamingSjfScheduler(completions);
+            case ROUND_ROBIN -> new StreamingRoundRobinScheduler(timeQuantum, completions);
+            default -> throw new IllegalArgumentException("No streaming variant of " + algorithm);
+        };
+    }
+
+    /**
+     * Returns whether the given algorithm uses a time quantum.
+     *
+     * @param algorithm The scheduling algorithm.
+     * @return `true` if the algorithm's results depend on the time quantum.
+     */
+    public static boolean usesQuantum(CpuAlgo algorithm) {
+        return algorithm == CpuAlgo.ROUND_ROBIN || algorithm == CpuAlgo.MLFQ;
+    }
+
+    /**
+     * Returns the default MLFQ boost interval for the given level-0 quantum.
+     *
+     * @param timeQuantum The level-0 time quantum.
+     * @return The boost interval, capped at `Integer.MAX_VALUE`.
+     */
+    public static int boostInterval(int timeQuantum) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) timeQuantum * MlfqScheduler.DEFAULT_BOOST_QUANTA);
+    }
+
+}
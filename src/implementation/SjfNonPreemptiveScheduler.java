@@ -1,10 +1,9 @@
 package implementation;
 
-import model.ProcessInput;
-import model.ProcessStats;
+import model.Workload;
+import task.ScheduleObserver;
 import task.Scheduler;
-
-import java.util.*;
+import util.LongMinHeap;
 
 /**
  * The `SjfNonPreemptiveScheduler` class implements the `Scheduler` interface
@@ -15,71 +14,77 @@ import java.util.*;
  * processes have the same burst time, they are scheduled based on their
  * arrival time, and if the arrival time is also the same, they are scheduled
  * by their process IDs (PIDs).
+ * <p>
+ * Processes are sorted by arrival time once and fed into a primitive min-heap
+ * as time advances, so a schedule of n processes takes O(n log n) time.
  */
 public class SjfNonPreemptiveScheduler implements Scheduler {
 
     /**
-     * Schedules the given list of processes using the SJF non-preemptive
-     * scheduling algorithm.
+     * Schedules the given workload using the SJF non-preemptive scheduling
+     * algorithm.
      *
-     * @param processes A list of `ProcessInput` objects representing the processes
-     *                  to be scheduled. Each process contains information such as
-     *                  arrival time, burst time, and PID.
-     * @return A list of `ProcessStats` objects containing the scheduling results
-     * for each process, including their completion times.
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and phases.
      */
     @Override
-    public List<ProcessStats> schedule(List<ProcessInput> processes) {
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        boolean observing = observer != ScheduleObserver.NONE;
+        if (observing) {
+            observer.onPhaseStart(ScheduleObserver.Phase.SORT);
+        }
+
+        // Sort the processes by arrival time, then by PID, exactly once
+        int[] order = workload.arrivalOrder();
 
-        // Map to store the scheduling statistics for each process
-        Map<Integer, ProcessStats> statsMap = new LinkedHashMap<>();
-        for (var in : processes) {
-            statsMap.put(in.getPid(), new ProcessStats(in));
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
         }
 
-        // List of processes that are yet to be scheduled
-        List<ProcessInput> remainingProcesses = new ArrayList<>(processes);
+        // Ready processes keyed by burst time in the high bits and sorted index in
+        // the low bits; the sorted index already encodes the arrival time and PID
+        // tie-breakers, so the smallest key is the next process to run.
+        int n = order.length;
+        LongMinHeap ready = new LongMinHeap(n);
         int currentTime = 0; // Tracks the current time in the scheduling process
-        int completed = 0;  // Tracks the number of completed processes
-        int n = remainingProcesses.size(); // Total number of processes
+        int next = 0;        // Index of the next process to arrive
 
-        // Continue scheduling until all processes are completed
-        while (completed < n) {
-            // Collect processes that have arrived by the current time
-            List<ProcessInput> arrivedProcesses = new ArrayList<>();
-            for (var process : remainingProcesses) {
-                if (process.getArrivalTime() <= currentTime) {
-                    arrivedProcesses.add(process);
+        // Continue scheduling until every process has been dispatched
+        while (next < n || !ready.isEmpty()) {
+            if (ready.isEmpty()) {
+                // If no processes are ready, jump to the next arrival time
+                int arrival = workload.arrivalTime(order[next]);
+                if (observing && next > 0 && arrival > currentTime) {
+                    observer.onIdle(0, currentTime, arrival - currentTime);
                 }
+                currentTime = Math.max(currentTime, arrival);
             }
 
-            if (arrivedProcesses.isEmpty()) {
-                // If no processes have arrived, jump to the next arrival time
-                int nextArrival = remainingProcesses.stream()
-                        .mapToInt(ProcessInput::getArrivalTime)
-                        .min()
-                        .orElse(currentTime);
-                currentTime = Math.max(currentTime, nextArrival);
-                continue;
+            // Admit processes that have arrived by the current time
+            while (next < n && workload.arrivalTime(order[next]) <= currentTime) {
+                ready.push(((long) workload.burstTime(order[next]) << 32) | next);
+                next++;
             }
 
-            // Sort the arrived processes by burst time, then arrival time, then PID
-            arrivedProcesses.sort(
-                    Comparator.comparingInt(ProcessInput::getBurstTime)
-                            .thenComparingInt(ProcessInput::getArrivalTime)
-                            .thenComparingInt(ProcessInput::getPid)
-            );
-
             // Select the process with the shortest burst time
-            ProcessInput chosenProcess = arrivedProcesses.getFirst();
-            // Update the current time by adding the chosen process's burst time
-            currentTime += chosenProcess.getBurstTime();
+            int chosen = order[(int) ready.poll()];
+            if (observing) {
+                observer.onDispatch(0, chosen, currentTime, ready.size());
+                if (workload.burstTime(chosen) > 0) {
+                    observer.onSlice(0, chosen, currentTime, workload.burstTime(chosen));
+                }
+            }
+            // Update the current time by adding the chosen process's burst time,
+            // failing instead of wrapping around past the int range
+            currentTime = Math.addExact(currentTime, workload.burstTime(chosen));
             // Set the completion time for the chosen process
-            statsMap.get(chosenProcess.getPid()).setCompletionTime(currentTime);
-            completed++; // Increment the count of completed processes
+            workload.setCompletionTime(chosen, currentTime);
         }
 
-        // Return the scheduling results as a list of ProcessStats
-        return new ArrayList<>(statsMap.values());
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+        }
     }
-}
\ No newline at end of file
+}
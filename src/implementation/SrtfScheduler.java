@@ -0,0 +1,148 @@
+package implementation;
+
+import model.Workload;
+import task.ScheduleObserver;
+import task.Scheduler;
+import util.IndexedMinHeap;
+
+/**
+ * The `SrtfScheduler` class implements the `Scheduler` interface and provides
+ * the preemptive Shortest Remaining Time First (SRTF) scheduling algorithm.
+ * <p>
+ * At every arrival and completion the process with the least remaining burst
+ * time runs; ties are broken by arrival time, then by PID. A newly arrived
+ * process preempts the running one only if its burst time is strictly shorter
+ * than the running process's remaining time.
+ * <p>
+ * The simulation is event-driven: time jumps straight to the next arrival or
+ * completion, and the arrived processes, including the running one, sit in an
+ * indexed min-heap keyed on remaining time. Each event is an O(log n) key update,
+ * so a schedule of n processes takes O(n log n) time.
+ */
+public class SrtfScheduler implements Scheduler {
+
+    private long contextSwitches;
+    private long preemptions;
+
+    /**
+     * Schedules the given workload using the SRTF scheduling algorithm.
+     *
+     * @param workload The processes to be scheduled. Each process's completion
+     *                 time is written back into the workload.
+     * @param observer The observer receiving the run's slices, dispatches and phases.
+     */
+    @Override
+    public void schedule(Workload workload, ScheduleObserver observer) {
+        boolean observing = observer != ScheduleObserver.NONE;
+        if (observing) {
+            observer.onPhaseStart(ScheduleObserver.Phase.SORT);
+        }
+
+        // Sort the processes by arrival time, then by PID
+        int[] order = workload.arrivalOrder();
+
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SORT);
+            observer.onPhaseStart(ScheduleObserver.Phase.SIMULATE);
+        }
+
+        int n = order.length;
+        int[] remainingBurstTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            remainingBurstTimes[i] = workload.burstTime(order[i]);
+        }
+
+        // Arrived processes keyed by remaining time in the high bits and sorted
+        // index in the low bits, which encodes the arrival time and PID tie-breakers
+        IndexedMinHeap ready = new IndexedMinHeap(n);
+        int currentTime = 0;
+        int next = 0;     // Index of the next process to arrive
+        int running = -1; // Index of the process on the CPU, or -1 when idle
+        int last = -1;    // Index of the process that ran most recently
+        long switches = 0;
+        long preempted = 0;
+
+        while (next < n || !ready.isEmpty()) {
+            if (ready.isEmpty()) {
+                // If no processes are ready, jump to the next arrival time
+                int arrival = workload.arrivalTime(order[next]);
+                if (observing && next > 0 && arrival > currentTime) {
+                    observer.onIdle(0, currentTime, arrival - currentTime);
+                }
+                currentTime = Math.max(currentTime, arrival);
+            }
+
+            // Admit processes that have arrived by the current time
+            while (next < n && workload.arrivalTime(order[next]) <= currentTime) {
+                ready.set(next, key(remainingBurstTimes[next], next));
+                next++;
+            }
+
+            // Dispatch the process with the least remaining time
+            int chosen = ready.peek();
+            if (chosen != running) {
+                if (running >= 0) {
+                    preempted++;
+                }
+                if (last >= 0 && chosen != last) {
+                    switches++;
+                }
+                running = chosen;
+                last = chosen;
+                if (observing) {
+                    observer.onDispatch(0, order[chosen], currentTime, ready.size() - 1);
+                }
+            }
+
+            // Run it until it finishes or the next process arrives
+            long finish = (long) currentTime + remainingBurstTimes[running];
+            if (next < n && workload.arrivalTime(order[next]) < finish) {
+                int arrival = workload.arrivalTime(order[next]);
+                if (observing && arrival > currentTime) {
+                    observer.onSlice(0, order[running], currentTime, arrival - currentTime);
+                }
+                remainingBurstTimes[running] -= arrival - currentTime;
+                currentTime = arrival;
+                ready.set(running, key(remainingBurstTimes[running], running));
+            } else {
+                if (observing && finish > currentTime) {
+                    observer.onSlice(0, order[running], currentTime, (int) (finish - currentTime));
+                }
+                currentTime = Math.toIntExact(finish);
+                remainingBurstTimes[running] = 0;
+                ready.remove(running);
+                workload.setCompletionTime(order[running], currentTime);
+                running = -1;
+            }
+        }
+
+        if (observing) {
+            observer.onPhaseEnd(ScheduleObserver.Phase.SIMULATE);
+        }
+
+        this.contextSwitches = switches;
+        this.preemptions = preempted;
+    }
+
+    /**
+     * Returns the number of times the CPU switched from one process to a
+     * different one during the most recent `schedule` call, counting both
+     * preemptions and dispatches after a completion.
+     */
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * Returns the number of times a running process was preempted by a process
+     * with a shorter remaining time during the most recent `schedule` call.
+     */
+    public long getPreemptions() {
+        return preemptions;
+    }
+
+    private static long key(int remainingBurstTime, int index) {
+        return ((long) remainingBurstTime << 32) | index;
+    }
+
+}
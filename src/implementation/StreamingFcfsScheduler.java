@@ -0,0 +1,34 @@
+package implementation;
+
+import model.ProcessStats;
+
+import java.util.function.Consumer;
+
+/**
+ * The `StreamingFcfsScheduler` class is the streaming counterpart of
+ * `FcfsScheduler`: processes run in order of arrival time, then PID, and each
+ * completion is delivered as soon as no earlier process can still be submitted.
+ */
+public class StreamingFcfsScheduler extends AbstractStreamingScheduler {
+
+    /**
+     * Constructs a `StreamingFcfsScheduler`.
+     *
+     * @param completions The callback receiving each process once it completes.
+     */
+    public StreamingFcfsScheduler(Consumer<ProcessStats> completions) {
+        super(completions);
+    }
+
+    @Override
+    protected void advance(long limit) {
+        // A process may run once no unknown process can arrive before or with it
+        while (hasPendingArrival() && nextArrivalTime() < limit) {
+            ProcessStats process = pollArrival();
+            currentTime = Math.max(currentTime, process.getArrivalTime());
+            currentTime = Math.addExact(currentTime, process.getBurstTime());
+            complete(process, currentTime);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package implementation;
+
+import model.ProcessStats;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * The `StreamingRoundRobinScheduler` class is the streaming counterpart of
+ * `RoundRobinScheduler`: processes take turns for a fixed time quantum, and
+ * processes arriving during a slice are enqueued before the preempted process.
+ */
+public class StreamingRoundRobinScheduler extends AbstractStreamingScheduler {
+
+    private final int timeQuantum;
+    private final Queue<Job> queue = new ArrayDeque<>();
+
+    /**
+     * Constructs a `StreamingRoundRobinScheduler`.
+     *
+     * @param timeQuantum The fixed time quantum for the Round Robin scheduling algorithm.
+     * @param completions The callback receiving each process once it completes.
+     * @throws IllegalArgumentException If the time quantum is not positive.
+     */
+    public StreamingRoundRobinScheduler(int timeQuantum, Consumer<ProcessStats> completions) {
+        super(completions);
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be > 0: " + timeQuantum);
+        }
+        this.timeQuantum = timeQuantum;
+    }
+
+    @Override
+    protected void advance(long limit) {
+        while (true) {
+            if (queue.isEmpty()) {
+                if (!hasPendingArrival()) {
+                    return;
+                }
+                // Jump to the next arrival once all processes arriving then are known
+                int nextTime = Math.max(currentTime, nextArrivalTime());
+                if (nextTime >= limit) {
+                    return;
+                }
+                currentTime = nextTime;
+                enqueueArrivals();
+            }
+
+            // The slice may only end once every arrival up to its end is known
+            Job job = queue.element();
+            int executionTime = Math.min(timeQuantum, job.remainingBurstTime);
+            if ((long) currentTime + executionTime >= limit) {
+                return;
+            }
+
+            queue.remove();
+            job.remainingBurstTime -= executionTime;
+            currentTime = Math.addExact(currentTime, executionTime);
+
+            // Enqueue newly arrived processes before the preempted one
+            enqueueArrivals();
+            if (job.remainingBurstTime > 0) {
+                queue.offer(job);
+            } else {
+                complete(job.process, currentTime);
+            }
+        }
+    }
+
+    private void enqueueArrivals() {
+        ProcessStats arrived;
+        while ((arrived = pollArrivedBy(currentTime)) != null) {
+            queue.offer(new Job(arrived));
+        }
+    }
+
+    /**
+     * A queued process together with its remaining burst time.
+     */
+    private static class Job {
+        private final ProcessStats process;
+        private int remainingBurstTime;
+
+        private Job(ProcessStats process) {
+            this.process = process;
+            this.remainingBurstTime = process.getBurstTime();
+        }
+    }
+
+}
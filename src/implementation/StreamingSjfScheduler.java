@@ -0,0 +1,58 @@
+package implementation;
+
+import model.ProcessInput;
+import model.ProcessStats;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * The `StreamingSjfScheduler` class is the streaming counterpart of
+ * `SjfNonPreemptiveScheduler`: whenever the CPU is free, the arrived process with
+ * the shortest burst time runs to completion, ties broken by arrival time, then PID.
+ */
+public class StreamingSjfScheduler extends AbstractStreamingScheduler {
+
+    private final PriorityQueue<ProcessStats> ready = new PriorityQueue<>(
+            Comparator.comparingInt(ProcessInput::getBurstTime)
+                    .thenComparingInt(ProcessInput::getArrivalTime)
+                    .thenComparingInt(ProcessInput::getPid)
+    );
+
+    /**
+     * Constructs a `StreamingSjfScheduler`.
+     *
+     * @param completions The callback receiving each process once it completes.
+     */
+    public StreamingSjfScheduler(Consumer<ProcessStats> completions) {
+        super(completions);
+    }
+
+    @Override
+    protected void advance(long limit) {
+        while (true) {
+            if (ready.isEmpty()) {
+                if (!hasPendingArrival()) {
+                    return;
+                }
+                // If no processes are ready, jump to the next arrival time
+                currentTime = Math.max(currentTime, nextArrivalTime());
+            }
+            // Processes arriving at the current time may still be submitted
+            if (currentTime >= limit) {
+                return;
+            }
+
+            ProcessStats arrived;
+            while ((arrived = pollArrivedBy(currentTime)) != null) {
+                ready.add(arrived);
+            }
+
+            ProcessStats chosen = ready.poll();
+            currentTime = Math.addExact(currentTime, chosen.getBurstTime());
+            complete(chosen, currentTime);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `DispatchEvent` class is a JDK Flight Recorder event marking one dispatch
+ * of a process onto a core. A large run dispatches millions of times, so the
+ * event is disabled unless a recording enables it explicitly.
+ */
+@Name("cpusched.Dispatch")
+@Label("Dispatch")
+@Category({"CPU Scheduling"})
+@Description("A process given a core, in simulated time")
+@Enabled(false)
+@StackTrace(false)
+class DispatchEvent extends Event {
+
+    @Label("Core")
+    int core;
+
+    @Label("Process")
+    @Description("The position of the process in the workload")
+    int process;
+
+    @Label("Simulated Time")
+    int time;
+
+    @Label("Ready Count")
+    int readyCount;
+
+}
@@ -0,0 +1,53 @@
+package jfr;
+
+import task.ScheduleObserver;
+
+/**
+ * The `JfrObserver` class is a `ScheduleObserver` that reports a scheduling run
+ * to the JDK Flight Recorder.
+ * <p>
+ * Each phase becomes a `cpusched.SchedulePhase` event whose duration is the
+ * phase's wall-clock time, and each dispatch a `cpusched.Dispatch` event, which
+ * is disabled by default. Events are only built while a recording has them
+ * enabled, so attaching this observer to a run without a recording costs one
+ * check per callback. Start a recording with, for example,
+ * {@code -XX:StartFlightRecording:filename=run.jfr}.
+ */
+public class JfrObserver implements ScheduleObserver {
+
+    private final SchedulePhaseEvent[] phases = new SchedulePhaseEvent[Phase.values().length];
+
+    @Override
+    public void onSlice(int core, int process, int start, int length) {
+    }
+
+    @Override
+    public void onDispatch(int core, int process, int time, int readyCount) {
+        DispatchEvent event = new DispatchEvent();
+        if (event.shouldCommit()) {
+            event.core = core;
+            event.process = process;
+            event.time = time;
+            event.readyCount = readyCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onPhaseStart(Phase phase) {
+        SchedulePhaseEvent event = new SchedulePhaseEvent();
+        event.phase = phase.name();
+        event.begin();
+        phases[phase.ordinal()] = event;
+    }
+
+    @Override
+    public void onPhaseEnd(Phase phase) {
+        SchedulePhaseEvent event = phases[phase.ordinal()];
+        if (event != null) {
+            phases[phase.ordinal()] = null;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The `SchedulePhaseEvent` class is a JDK Flight Recorder event spanning one
+ * phase of a scheduling run.
+ */
+@Name("cpusched.SchedulePhase")
+@Label("Schedule Phase")
+@Category({"CPU Scheduling"})
+@Description("A phase of a scheduling run: sort, simulate or collect")
+@StackTrace(false)
+class SchedulePhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+}
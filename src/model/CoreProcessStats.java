@@ -0,0 +1,20 @@
+package model;
+
+/**
+ * The `CoreProcessStats` class extends `ProcessStats` with the simulated CPU
+ * core that completed the process in a multi-core schedule.
+ */
+public class CoreProcessStats extends ProcessStats {
+
+    private final int coreId;
+
+    public CoreProcessStats(int pid, int arrivalTime, int burstTime, int coreId) {
+        super(pid, arrivalTime, burstTime);
+        this.coreId = coreId;
+    }
+
+    public int getCoreId() {
+        return coreId;
+    }
+
+}
@@ -4,15 +4,60 @@ public enum CpuAlgo {
 
     FCFS,
     SJF_NON_PREEMPTIVE,
-    ROUND_ROBIN;
+    ROUND_ROBIN,
+    SRTF,
+    MLFQ,
+    PRIORITY_NON_PREEMPTIVE,
+    PRIORITY_PREEMPTIVE;
 
     public static CpuAlgo fromChoice(int choice) {
         return switch (choice) {
             case 1 -> FCFS;
             case 2 -> SJF_NON_PREEMPTIVE;
             case 3 -> ROUND_ROBIN;
+            case 4 -> SRTF;
+            case 5 -> MLFQ;
+            case 6 -> PRIORITY_NON_PREEMPTIVE;
+            case 7 -> PRIORITY_PREEMPTIVE;
             default -> throw new IllegalArgumentException("Invalid choice: " + choice);
         };
     }
 
+    /**
+     * Parses an algorithm from its enum name (case-insensitive) or its menu choice number.
+     *
+     * @param text The name or choice number.
+     * @return The matching `CpuAlgo`.
+     * @throws IllegalArgumentException If no algorithm matches.
+     */
+    public static CpuAlgo parse(String text) {
+        for (CpuAlgo algorithm : values()) {
+            if (algorithm.name().equalsIgnoreCase(text)) {
+                return algorithm;
+            }
+        }
+        try {
+            return fromChoice(Integer.parseInt(text));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown algorithm: " + text);
+        }
+    }
+
+    /**
+     * Returns a human-readable name of the algorithm.
+     *
+     * @return A string representing the human-readable name of the algorithm.
+     */
+    public String readableName() {
+        return switch (this) {
+            case FCFS -> "First-Come First-Served (FCFS)";
+            case SJF_NON_PREEMPTIVE -> "Shortest Job First (Non-Preemptive)";
+            case ROUND_ROBIN -> "Round Robin";
+            case SRTF -> "Shortest Remaining Time First (Preemptive)";
+            case MLFQ -> "Multilevel Feedback Queue (MLFQ)";
+            case PRIORITY_NON_PREEMPTIVE -> "Priority (Non-Preemptive)";
+            case PRIORITY_PREEMPTIVE -> "Priority (Preemptive)";
+        };
+    }
+
 }
@@ -0,0 +1,162 @@
+package model;
+
+import util.IndexSort;
+
+/**
+ * The `LongWorkload` class stores a set of processes like `Workload`, but with
+ * `long` arrival, burst and completion times, for traces whose times do not fit
+ * in an `int`, such as nanosecond timestamps or very long recordings.
+ * <p>
+ * The time columns take twice the memory of `Workload`'s, so the compact layout
+ * stays the default: `fitsInt` tells whether every time of any schedule of the
+ * workload fits in an `int`, in which case `toWorkload` converts it and the
+ * regular schedulers apply. Otherwise `implementation.LongTimeScheduler`
+ * schedules it directly, with checked `long` arithmetic throughout.
+ */
+public class LongWorkload {
+
+    private final int[] pids;
+    private final long[] arrivalTimes;
+    private final long[] burstTimes;
+    private final long[] completionTimes;
+
+    /**
+     * Constructs a `LongWorkload` over the given columns. The arrays are used
+     * directly, not copied.
+     *
+     * @param pids         The process IDs.
+     * @param arrivalTimes The arrival time of each process.
+     * @param burstTimes   The burst time of each process.
+     * @throws IllegalArgumentException If the columns differ in length.
+     */
+    public LongWorkload(int[] pids, long[] arrivalTimes, long[] burstTimes) {
+        if (arrivalTimes.length != pids.length || burstTimes.length != pids.length) {
+            throw new IllegalArgumentException("Workload columns must have the same length");
+        }
+        this.pids = pids;
+        this.arrivalTimes = arrivalTimes;
+        this.burstTimes = burstTimes;
+        this.completionTimes = new long[pids.length];
+    }
+
+    /**
+     * Widens a `Workload`'s input columns. Priorities are not carried over.
+     *
+     * @param workload The workload to widen.
+     * @return A new `LongWorkload` with the same processes in the same order.
+     */
+    public static LongWorkload of(Workload workload) {
+        int n = workload.size();
+        int[] pids = new int[n];
+        long[] arrivalTimes = new long[n];
+        long[] burstTimes = new long[n];
+        for (int i = 0; i < n; i++) {
+            pids[i] = workload.pid(i);
+            arrivalTimes[i] = workload.arrivalTime(i);
+            burstTimes[i] = workload.burstTime(i);
+        }
+        return new LongWorkload(pids, arrivalTimes, burstTimes);
+    }
+
+    /**
+     * Returns whether every time of any single-CPU schedule of this workload fits
+     * in an `int`: every input fits, and the latest arrival plus the total
+     * positive burst time, which bounds every completion time, is at most
+     * `Integer.MAX_VALUE`.
+     */
+    public boolean fitsInt() {
+        long maxArrival = 0;
+        long totalBurst = 0;
+        for (int i = 0; i < pids.length; i++) {
+            if (arrivalTimes[i] != (int) arrivalTimes[i] || burstTimes[i] != (int) burstTimes[i]) {
+                return false;
+            }
+            maxArrival = Math.max(maxArrival, arrivalTimes[i]);
+            totalBurst += Math.max(burstTimes[i], 0);
+            if (totalBurst > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        return maxArrival + totalBurst <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Narrows the input columns into a compact `Workload`.
+     *
+     * @return A new `Workload` with the same processes in the same order.
+     * @throws IllegalArgumentException If the workload does not fit in `int` times.
+     */
+    public Workload toWorkload() {
+        if (!fitsInt()) {
+            throw new IllegalArgumentException("Workload times do not fit in an int");
+        }
+        int n = size();
+        int[] narrowArrivals = new int[n];
+        int[] narrowBursts = new int[n];
+        for (int i = 0; i < n; i++) {
+            narrowArrivals[i] = (int) arrivalTimes[i];
+            narrowBursts[i] = (int) burstTimes[i];
+        }
+        return new Workload(pids.clone(), narrowArrivals, narrowBursts);
+    }
+
+    public int size() {
+        return pids.length;
+    }
+
+    public int pid(int i) {
+        return pids[i];
+    }
+
+    public long arrivalTime(int i) {
+        return arrivalTimes[i];
+    }
+
+    public long burstTime(int i) {
+        return burstTimes[i];
+    }
+
+    public long completionTime(int i) {
+        return completionTimes[i];
+    }
+
+    public void setCompletionTime(int i, long completionTime) {
+        completionTimes[i] = completionTime;
+    }
+
+    public long turnaroundTime(int i) {
+        return completionTimes[i] - arrivalTimes[i];
+    }
+
+    public long waitingTime(int i) {
+        return completionTimes[i] - arrivalTimes[i] - burstTimes[i];
+    }
+
+    /**
+     * Returns the positions sorted by arrival time, then by PID, with ties in
+     * position order, like `Workload.arrivalOrder`.
+     * <p>
+     * A `long` arrival time leaves no room to pack the PID into the same sort
+     * key, so the positions are sorted by PID first and then, stably, by arrival
+     * time.
+     *
+     * @return The positions in arrival order.
+     */
+    public int[] arrivalOrder() {
+        int n = size();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = pids[i];
+        }
+        int[] byPid = IndexSort.order(keys);
+        for (int j = 0; j < n; j++) {
+            keys[j] = arrivalTimes[byPid[j]];
+        }
+        int[] byArrival = IndexSort.order(keys);
+        for (int k = 0; k < n; k++) {
+            byArrival[k] = byPid[byArrival[k]];
+        }
+        return byArrival;
+    }
+
+}
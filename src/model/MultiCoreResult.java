@@ -0,0 +1,92 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `MultiCoreResult` class holds what a multi-core schedule records beyond
+ * completion times: the core that completed each process, and each core's busy
+ * time and last completion.
+ */
+public class MultiCoreResult {
+
+    private final int[] coreIds;
+    private final long[] busyTimes;
+    private final int[] lastCompletionTimes;
+    private final long makespan;
+
+    /**
+     * Constructs a `MultiCoreResult`. The arrays are used directly, not copied.
+     *
+     * @param coreIds             The core of each process, by workload position.
+     * @param busyTimes           The total time each core spent running processes.
+     * @param lastCompletionTimes The last completion time on each core.
+     * @param makespan            The time from the first arrival to the last completion.
+     */
+    public MultiCoreResult(int[] coreIds, long[] busyTimes, int[] lastCompletionTimes, long makespan) {
+        this.coreIds = coreIds;
+        this.busyTimes = busyTimes;
+        this.lastCompletionTimes = lastCompletionTimes;
+        this.makespan = makespan;
+    }
+
+    public int getCoreCount() {
+        return busyTimes.length;
+    }
+
+    /**
+     * Returns the core that completed the process at the given workload position.
+     */
+    public int coreId(int i) {
+        return coreIds[i];
+    }
+
+    public long busyTime(int core) {
+        return busyTimes[core];
+    }
+
+    public int lastCompletionTime(int core) {
+        return lastCompletionTimes[core];
+    }
+
+    /**
+     * Returns the fraction of the makespan the core spent running processes.
+     */
+    public double utilization(int core) {
+        return makespan == 0 ? 0 : (double) busyTimes[core] / makespan;
+    }
+
+    /**
+     * Returns the mean utilization over all cores.
+     */
+    public double averageUtilization() {
+        long busy = 0;
+        for (long b : busyTimes) {
+            busy += b;
+        }
+        return makespan == 0 ? 0 : (double) busy / makespan / busyTimes.length;
+    }
+
+    public long getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * Converts the scheduled workload into `CoreProcessStats` objects in input order.
+     *
+     * @param workload The workload this result was produced for.
+     * @return A list of `CoreProcessStats` objects, one per process.
+     */
+    public List<CoreProcessStats> toStats(Workload workload) {
+        int n = workload.size();
+        List<CoreProcessStats> stats = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            CoreProcessStats s = new CoreProcessStats(
+                    workload.pid(i), workload.arrivalTime(i), workload.burstTime(i), coreIds[i]);
+            s.setCompletionTime(workload.completionTime(i));
+            stats.add(s);
+        }
+        return stats;
+    }
+
+}
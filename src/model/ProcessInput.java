@@ -2,14 +2,32 @@ package model;
 
 public class ProcessInput {
 
+    /** The priority of processes created without one. Lower values run first. */
+    public static final int DEFAULT_PRIORITY = 0;
+
     private final int pid;
     private final int arrivalTime;
     private final int burstTime;
+    private final int priority;
 
     public ProcessInput(int pid, int arrivalTime, int burstTime) {
+        this(pid, arrivalTime, burstTime, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Constructs a `ProcessInput` with a priority, used by the priority
+     * schedulers.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The arrival time.
+     * @param burstTime   The burst time.
+     * @param priority    The priority; lower values run first.
+     */
+    public ProcessInput(int pid, int arrivalTime, int burstTime, int priority) {
         this.pid = pid;
         this.arrivalTime = arrivalTime;
         this.burstTime = burstTime;
+        this.priority = priority;
     }
 
     public int getPid() {
@@ -24,4 +42,8 @@ public class ProcessInput {
         return burstTime;
     }
 
+    public int getPriority() {
+        return priority;
+    }
+
 }
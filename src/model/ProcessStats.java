@@ -7,7 +7,15 @@ public class ProcessStats extends ProcessInput {
     public int waitingTime;
 
     public ProcessStats(ProcessInput input) {
-        super(input.getPid(), input.getArrivalTime(), input.getBurstTime());
+        super(input.getPid(), input.getArrivalTime(), input.getBurstTime(), input.getPriority());
+    }
+
+    public ProcessStats(int pid, int arrivalTime, int burstTime) {
+        super(pid, arrivalTime, burstTime);
+    }
+
+    public ProcessStats(int pid, int arrivalTime, int burstTime, int priority) {
+        super(pid, arrivalTime, burstTime, priority);
     }
 
     public void setCompletionTime(int completionTime) {
@@ -0,0 +1,211 @@
+package model;
+
+import util.Histogram;
+
+import java.util.List;
+
+/**
+ * The `ScheduleStatistics` class summarizes scheduling results in one pass and
+ * constant memory: exact averages, bounded-error turnaround and waiting time
+ * quantiles, Jain's fairness index, throughput and CPU utilization.
+ * <p>
+ * Quantiles come from log-linear `Histogram` sketches, so each reported quantile
+ * is within 1% of the exact value (by default) while the maximum is exact. Every
+ * other figure is derived from running sums, the earliest arrival and the latest
+ * completion. Instances are mergeable: statistics accumulated separately over
+ * the shards of a sharded or parallel run combine with `add` into the same
+ * result as a single pass over all processes.
+ * <p>
+ * The fairness index is computed over each process's normalized progress, its
+ * burst time divided by its turnaround time: it is 1 when every process is
+ * slowed down equally and falls towards `1 / n` as the slowdown concentrates on
+ * a few processes.
+ */
+public class ScheduleStatistics {
+
+    private long count;
+    private long sumTurnaroundTime;
+    private long sumWaitingTime;
+    private long sumBurstTime;
+    private double sumProgress;
+    private double sumSquaredProgress;
+    private int firstArrival = Integer.MAX_VALUE;
+    private int lastCompletion = Integer.MIN_VALUE;
+    private final Histogram turnaroundTimes;
+    private final Histogram waitingTimes;
+
+    /**
+     * Constructs empty `ScheduleStatistics` whose quantiles are within 1%.
+     */
+    public ScheduleStatistics() {
+        this(Histogram.DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Constructs empty `ScheduleStatistics`.
+     *
+     * @param precisionBits The significant bits kept by the quantile sketches; the
+     *                      relative error is at most `2^-(precisionBits - 1)`.
+     * @throws IllegalArgumentException If the precision is out of range.
+     */
+    public ScheduleStatistics(int precisionBits) {
+        this.turnaroundTimes = new Histogram(precisionBits);
+        this.waitingTimes = new Histogram(precisionBits);
+    }
+
+    /**
+     * Summarizes every process of a scheduled workload.
+     *
+     * @param workload The scheduled workload.
+     * @return The statistics.
+     */
+    public static ScheduleStatistics of(Workload workload) {
+        ScheduleStatistics statistics = new ScheduleStatistics();
+        for (int i = 0; i < workload.size(); i++) {
+            statistics.accept(workload.arrivalTime(i), workload.burstTime(i), workload.completionTime(i));
+        }
+        return statistics;
+    }
+
+    /**
+     * Summarizes a list of scheduling results.
+     *
+     * @param processes The scheduling results.
+     * @return The statistics.
+     */
+    public static ScheduleStatistics of(List<ProcessStats> processes) {
+        ScheduleStatistics statistics = new ScheduleStatistics();
+        for (ProcessStats process : processes) {
+            statistics.accept(process);
+        }
+        return statistics;
+    }
+
+    public void accept(ProcessStats process) {
+        accept(process.getArrivalTime(), process.getBurstTime(), process.getCompletionTime());
+    }
+
+    /**
+     * Adds one scheduled process.
+     *
+     * @param arrivalTime    The process's arrival time.
+     * @param burstTime      The process's burst time.
+     * @param completionTime The process's completion time.
+     */
+    public void accept(int arrivalTime, int burstTime, int completionTime) {
+        int turnaroundTime = completionTime - arrivalTime;
+        int waitingTime = turnaroundTime - burstTime;
+        count++;
+        sumTurnaroundTime += turnaroundTime;
+        sumWaitingTime += waitingTime;
+        sumBurstTime += burstTime;
+        firstArrival = Math.min(firstArrival, arrivalTime);
+        lastCompletion = Math.max(lastCompletion, completionTime);
+        turnaroundTimes.record(Math.max(0, turnaroundTime));
+        waitingTimes.record(Math.max(0, waitingTime));
+
+        // A process that completes on arrival made full progress
+        double progress = turnaroundTime > 0 ? (double) burstTime / turnaroundTime : 1;
+        sumProgress += progress;
+        sumSquaredProgress += progress * progress;
+    }
+
+    /**
+     * Adds every process summarized by another instance to this one.
+     *
+     * @param other The statistics to merge in.
+     * @throws IllegalArgumentException If the quantile precisions differ.
+     */
+    public void add(ScheduleStatistics other) {
+        turnaroundTimes.add(other.turnaroundTimes);
+        waitingTimes.add(other.waitingTimes);
+        count += other.count;
+        sumTurnaroundTime += other.sumTurnaroundTime;
+        sumWaitingTime += other.sumWaitingTime;
+        sumBurstTime += other.sumBurstTime;
+        sumProgress += other.sumProgress;
+        sumSquaredProgress += other.sumSquaredProgress;
+        firstArrival = Math.min(firstArrival, other.firstArrival);
+        lastCompletion = Math.max(lastCompletion, other.lastCompletion);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return count == 0 ? 0 : (double) sumTurnaroundTime / count;
+    }
+
+    public double getAverageWaitingTime() {
+        return count == 0 ? 0 : (double) sumWaitingTime / count;
+    }
+
+    /**
+     * Returns the turnaround time at a percentile, within the sketch's relative error.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The turnaround time, or 0 if no process was added.
+     */
+    public long turnaroundTimePercentile(double percentile) {
+        return turnaroundTimes.percentile(percentile);
+    }
+
+    /**
+     * Returns the waiting time at a percentile, within the sketch's relative error.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The waiting time, or 0 if no process was added.
+     */
+    public long waitingTimePercentile(double percentile) {
+        return waitingTimes.percentile(percentile);
+    }
+
+    public long getMaxTurnaroundTime() {
+        return turnaroundTimes.getMax();
+    }
+
+    public long getMaxWaitingTime() {
+        return waitingTimes.getMax();
+    }
+
+    /**
+     * Returns Jain's fairness index over the processes' normalized progress,
+     * `(sum x)^2 / (n * sum x^2)`.
+     *
+     * @return The index in `(0, 1]`, or 1 if no process was added.
+     */
+    public double getFairnessIndex() {
+        return sumSquaredProgress == 0 ? 1 : sumProgress * sumProgress / (count * sumSquaredProgress);
+    }
+
+    /**
+     * Returns the time from the first arrival to the last completion.
+     */
+    public long getMakespan() {
+        return count == 0 ? 0 : (long) lastCompletion - firstArrival;
+    }
+
+    /**
+     * Returns the number of completed processes per time unit over the makespan.
+     *
+     * @return The throughput, or 0 if the makespan is empty.
+     */
+    public double getThroughput() {
+        long makespan = getMakespan();
+        return makespan <= 0 ? 0 : (double) count / makespan;
+    }
+
+    /**
+     * Returns the fraction of the available CPU time spent running processes
+     * over the makespan.
+     *
+     * @param cores The number of cores the processes were scheduled on.
+     * @return The utilization in `[0, 1]`, or 0 if the makespan is empty.
+     */
+    public double getUtilization(int cores) {
+        long makespan = getMakespan();
+        return makespan <= 0 ? 0 : (double) sumBurstTime / ((double) makespan * Math.max(cores, 1));
+    }
+
+}
@@ -0,0 +1,163 @@
+package model;
+
+import task.ScheduleObserver;
+import util.Histogram;
+
+import java.util.Arrays;
+
+/**
+ * The `SchedulerMetrics` class is a `ScheduleObserver` that aggregates what a
+ * scheduler did during a run: dispatch and context-switch counts, busy and idle
+ * time, the wall-clock time of each phase, and histograms of the ready-queue
+ * length at dispatch and of the slice lengths.
+ * <p>
+ * A context switch is a dispatch that gives a core to a different process than
+ * the one it ran last. `recordResults` adds histograms of the turnaround and
+ * waiting times once the run has finished. One instance may observe several runs;
+ * the counters and histograms then accumulate, and instances can be combined with
+ * `add`.
+ */
+public class SchedulerMetrics implements ScheduleObserver {
+
+    private static final ScheduleObserver.Phase[] PHASES = ScheduleObserver.Phase.values();
+
+    private long dispatches;
+    private long contextSwitches;
+    private long busyTime;
+    private long idleTime;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final long[] phaseStarts = new long[PHASES.length];
+    private int[] lastProcessOfCore = {-1};
+    private final Histogram readyQueueLengths = new Histogram();
+    private final Histogram sliceLengths = new Histogram();
+    private final Histogram turnaroundTimes = new Histogram();
+    private final Histogram waitingTimes = new Histogram();
+
+    @Override
+    public void onSlice(int core, int process, int start, int length) {
+        busyTime += length;
+        sliceLengths.record(length);
+    }
+
+    @Override
+    public void onDispatch(int core, int process, int time, int readyCount) {
+        if (core >= lastProcessOfCore.length) {
+            int oldLength = lastProcessOfCore.length;
+            lastProcessOfCore = Arrays.copyOf(lastProcessOfCore, Math.max(core + 1, oldLength << 1));
+            Arrays.fill(lastProcessOfCore, oldLength, lastProcessOfCore.length, -1);
+        }
+        dispatches++;
+        if (lastProcessOfCore[core] >= 0 && lastProcessOfCore[core] != process) {
+            contextSwitches++;
+        }
+        lastProcessOfCore[core] = process;
+        readyQueueLengths.record(readyCount);
+    }
+
+    @Override
+    public void onIdle(int core, int start, int length) {
+        idleTime += length;
+    }
+
+    @Override
+    public void onPhaseStart(Phase phase) {
+        phaseStarts[phase.ordinal()] = System.nanoTime();
+    }
+
+    @Override
+    public void onPhaseEnd(Phase phase) {
+        phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStarts[phase.ordinal()];
+    }
+
+    /**
+     * Records the turnaround and waiting time of every process in a scheduled
+     * workload, and ends the run so the next dispatch on each core does not count
+     * as a context switch.
+     *
+     * @param workload The scheduled workload.
+     */
+    public void recordResults(Workload workload) {
+        for (int i = 0; i < workload.size(); i++) {
+            turnaroundTimes.record(Math.max(0, workload.turnaroundTime(i)));
+            waitingTimes.record(Math.max(0, workload.waitingTime(i)));
+        }
+        Arrays.fill(lastProcessOfCore, -1);
+    }
+
+    /**
+     * Adds the counters and histograms of another instance to this one.
+     *
+     * @param other The metrics to merge in.
+     */
+    public void add(SchedulerMetrics other) {
+        dispatches += other.dispatches;
+        contextSwitches += other.contextSwitches;
+        busyTime += other.busyTime;
+        idleTime += other.idleTime;
+        for (int p = 0; p < PHASES.length; p++) {
+            phaseNanos[p] += other.phaseNanos[p];
+        }
+        readyQueueLengths.add(other.readyQueueLengths);
+        sliceLengths.add(other.sliceLengths);
+        turnaroundTimes.add(other.turnaroundTimes);
+        waitingTimes.add(other.waitingTimes);
+    }
+
+    public long getDispatches() {
+        return dispatches;
+    }
+
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * Returns the total time cores spent running processes.
+     */
+    public long getBusyTime() {
+        return busyTime;
+    }
+
+    /**
+     * Returns the total time cores spent idle between two slices.
+     */
+    public long getIdleTime() {
+        return idleTime;
+    }
+
+    /**
+     * Returns the accumulated wall-clock time of a phase, in nanoseconds.
+     *
+     * @param phase The phase.
+     * @return The time spent in the phase; 0 if it was never reported.
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the distribution of the number of waiting processes at each dispatch.
+     */
+    public Histogram getReadyQueueLengths() {
+        return readyQueueLengths;
+    }
+
+    public Histogram getSliceLengths() {
+        return sliceLengths;
+    }
+
+    /**
+     * Returns the distribution of turnaround times added by `recordResults`.
+     */
+    public Histogram getTurnaroundTimes() {
+        return turnaroundTimes;
+    }
+
+    /**
+     * Returns the distribution of waiting times added by `recordResults`.
+     */
+    public Histogram getWaitingTimes() {
+        return waitingTimes;
+    }
+
+}
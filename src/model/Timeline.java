@@ -0,0 +1,163 @@
+package model;
+
+import task.ScheduleObserver;
+
+import java.util.Arrays;
+
+/**
+ * The `Timeline` class records the execution slices of a schedule as
+ * run-length encoded entries in parallel primitive columns (core, process,
+ * start time and length).
+ * <p>
+ * A slice that continues the previous slice of the same process on the same core
+ * extends that entry instead of adding a new one, so a process that keeps the CPU
+ * across several scheduler events occupies a single entry. Recording never
+ * allocates per slice; the columns grow by doubling.
+ * <p>
+ * Processes are identified by their position in the scheduled `Workload`, which
+ * also supplies the arrival times needed by `responseTimes`.
+ */
+public class Timeline implements ScheduleObserver {
+
+    private int[] cores;
+    private int[] processes;
+    private int[] starts;
+    private int[] lengths;
+    private int size;
+    private int[] lastEntryOfCore = new int[1]; // Latest entry per core, plus one; 0 if none
+
+    /**
+     * Constructs an empty `Timeline`.
+     *
+     * @param initialCapacity The number of entries the timeline can hold before growing.
+     */
+    public Timeline(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.cores = new int[capacity];
+        this.processes = new int[capacity];
+        this.starts = new int[capacity];
+        this.lengths = new int[capacity];
+    }
+
+    @Override
+    public void onSlice(int core, int process, int start, int length) {
+        if (core >= lastEntryOfCore.length) {
+            lastEntryOfCore = Arrays.copyOf(lastEntryOfCore, Math.max(core + 1, lastEntryOfCore.length << 1));
+        }
+
+        // Extend the core's latest entry if this slice directly continues it
+        int last = lastEntryOfCore[core] - 1;
+        if (last >= 0 && processes[last] == process && starts[last] + lengths[last] == start) {
+            lengths[last] += length;
+            return;
+        }
+
+        if (size == starts.length) {
+            int capacity = size << 1;
+            cores = Arrays.copyOf(cores, capacity);
+            processes = Arrays.copyOf(processes, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        cores[size] = core;
+        processes[size] = process;
+        starts[size] = start;
+        lengths[size] = length;
+        lastEntryOfCore[core] = ++size;
+    }
+
+    /**
+     * Returns the number of run-length encoded entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of cores that ran at least one slice, counting up to
+     * the highest core ID.
+     */
+    public int getCoreCount() {
+        int count = 0;
+        for (int c = 0; c < lastEntryOfCore.length; c++) {
+            if (lastEntryOfCore[c] > 0) {
+                count = c + 1;
+            }
+        }
+        return count;
+    }
+
+    public int core(int i) {
+        return cores[i];
+    }
+
+    public int process(int i) {
+        return processes[i];
+    }
+
+    public int start(int i) {
+        return starts[i];
+    }
+
+    public int length(int i) {
+        return lengths[i];
+    }
+
+    public int end(int i) {
+        return starts[i] + lengths[i];
+    }
+
+    /**
+     * Removes all entries while keeping the allocated capacity.
+     */
+    public void clear() {
+        size = 0;
+        Arrays.fill(lastEntryOfCore, 0);
+    }
+
+    /**
+     * Returns each process's response time: the time from its arrival until it
+     * first ran. A process that never ran (a zero burst time) responds at its
+     * completion time.
+     *
+     * @param workload The scheduled workload this timeline was recorded from.
+     * @return The response time of each process, by workload position.
+     */
+    public int[] responseTimes(Workload workload) {
+        int n = workload.size();
+        int[] firstRun = new int[n];
+        Arrays.fill(firstRun, -1);
+        for (int i = 0; i < size; i++) {
+            int p = processes[i];
+            if (firstRun[p] < 0 || starts[i] < firstRun[p]) {
+                firstRun[p] = starts[i];
+            }
+        }
+
+        int[] responseTimes = new int[n];
+        for (int p = 0; p < n; p++) {
+            int start = firstRun[p] >= 0 ? firstRun[p] : workload.completionTime(p);
+            responseTimes[p] = start - workload.arrivalTime(p);
+        }
+        return responseTimes;
+    }
+
+    /**
+     * Returns the average response time over all processes.
+     *
+     * @param workload The scheduled workload this timeline was recorded from.
+     * @return The average response time, or 0 for an empty workload.
+     */
+    public double averageResponseTime(Workload workload) {
+        int n = workload.size();
+        if (n == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int responseTime : responseTimes(workload)) {
+            total += responseTime;
+        }
+        return (double) total / n;
+    }
+
+}
@@ -0,0 +1,244 @@
+package model;
+
+import util.IndexSort;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `Workload` class stores a set of processes as parallel primitive columns
+ * (PID, arrival time, burst time, optional priority and completion time) instead
+ * of one object per process.
+ * <p>
+ * Schedulers read the input columns and write the completion column in place, so
+ * a run allocates a fixed number of arrays regardless of how many processes the
+ * workload holds. Positions are the input order, which is also the order of the
+ * results returned by `toStats`.
+ * <p>
+ * The input columns are `IntBuffer`s, so they can wrap heap arrays or view a
+ * memory-mapped trace file directly (see `trace.BinaryTrace`) without copying.
+ * A workload built without a priority column reports `ProcessInput.DEFAULT_PRIORITY`
+ * for every process.
+ * <p>
+ * Times are `int`s, which keeps the columns compact. Schedulers accumulate time
+ * with checked arithmetic, so a schedule running past `Integer.MAX_VALUE` fails
+ * with an `ArithmeticException` instead of producing negative times; traces with
+ * a wider time range, such as nanosecond timestamps, use `LongWorkload`.
+ */
+public class Workload {
+
+    private final IntBuffer pids;
+    private final IntBuffer arrivalTimes;
+    private final IntBuffer burstTimes;
+    private final IntBuffer priorities; // null when every process has the default priority
+    private final int[] completionTimes;
+
+    /**
+     * Constructs a `Workload` over the given columns. The arrays are used
+     * directly, not copied.
+     *
+     * @param pids         The process IDs.
+     * @param arrivalTimes The arrival time of each process.
+     * @param burstTimes   The burst time of each process.
+     * @throws IllegalArgumentException If the columns differ in length.
+     */
+    public Workload(int[] pids, int[] arrivalTimes, int[] burstTimes) {
+        this(IntBuffer.wrap(pids), IntBuffer.wrap(arrivalTimes), IntBuffer.wrap(burstTimes));
+    }
+
+    /**
+     * Constructs a `Workload` with a priority column. The arrays are used
+     * directly, not copied.
+     *
+     * @param pids         The process IDs.
+     * @param arrivalTimes The arrival time of each process.
+     * @param burstTimes   The burst time of each process.
+     * @param priorities   The priority of each process; lower values run first.
+     * @throws IllegalArgumentException If the columns differ in length.
+     */
+    public Workload(int[] pids, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        this(IntBuffer.wrap(pids), IntBuffer.wrap(arrivalTimes), IntBuffer.wrap(burstTimes),
+                IntBuffer.wrap(priorities));
+    }
+
+    /**
+     * Constructs a `Workload` over the remaining elements of the given buffers.
+     * The buffers' contents are used directly, not copied, and must not change
+     * while the workload is in use.
+     *
+     * @param pids         The process IDs.
+     * @param arrivalTimes The arrival time of each process.
+     * @param burstTimes   The burst time of each process.
+     * @throws IllegalArgumentException If the columns differ in length.
+     */
+    public Workload(IntBuffer pids, IntBuffer arrivalTimes, IntBuffer burstTimes) {
+        this(pids, arrivalTimes, burstTimes, null);
+    }
+
+    private Workload(IntBuffer pids, IntBuffer arrivalTimes, IntBuffer burstTimes, IntBuffer priorities) {
+        if (arrivalTimes.remaining() != pids.remaining() || burstTimes.remaining() != pids.remaining()
+                || (priorities != null && priorities.remaining() != pids.remaining())) {
+            throw new IllegalArgumentException("Workload columns must have the same length");
+        }
+        this.pids = pids.slice();
+        this.arrivalTimes = arrivalTimes.slice();
+        this.burstTimes = burstTimes.slice();
+        this.priorities = priorities == null ? null : priorities.slice();
+        this.completionTimes = new int[pids.remaining()];
+    }
+
+    /**
+     * Returns a `Workload` that shares this workload's PID, burst and priority
+     * columns, uses the given arrival times, and has its own completion column.
+     * <p>
+     * Several schedulers can run concurrently on workloads derived this way,
+     * since they only ever write to their own completion column.
+     *
+     * @param arrivalTimes The arrival time of each process, in the same positions.
+     * @return A new `Workload` over the shared columns.
+     * @throws IllegalArgumentException If the column length does not match.
+     */
+    public Workload withArrivalTimes(int[] arrivalTimes) {
+        return new Workload(pids, IntBuffer.wrap(arrivalTimes), burstTimes, priorities);
+    }
+
+    /**
+     * Returns a `Workload` that shares this workload's input columns and has its
+     * own completion column.
+     *
+     * @return A new `Workload` over the shared columns.
+     */
+    public Workload copy() {
+        return new Workload(pids, arrivalTimes, burstTimes, priorities);
+    }
+
+    /**
+     * Returns a `Workload` that shares this workload's PID, arrival and burst
+     * columns, uses the given priorities, and has its own completion column.
+     *
+     * @param priorities The priority of each process, in the same positions.
+     * @return A new `Workload` over the shared columns.
+     * @throws IllegalArgumentException If the column length does not match.
+     */
+    public Workload withPriorities(int[] priorities) {
+        return new Workload(pids, arrivalTimes, burstTimes, IntBuffer.wrap(priorities));
+    }
+
+    /**
+     * Creates a `Workload` holding the given processes in list order. The
+     * priority column is only kept if some process has a non-default priority.
+     *
+     * @param processes The processes to copy into columns.
+     * @return A new `Workload`.
+     */
+    public static Workload of(List<? extends ProcessInput> processes) {
+        int n = processes.size();
+        int[] pids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+        boolean prioritized = false;
+        for (int i = 0; i < n; i++) {
+            ProcessInput in = processes.get(i);
+            pids[i] = in.getPid();
+            arrivalTimes[i] = in.getArrivalTime();
+            burstTimes[i] = in.getBurstTime();
+            priorities[i] = in.getPriority();
+            prioritized |= priorities[i] != ProcessInput.DEFAULT_PRIORITY;
+        }
+        return prioritized
+                ? new Workload(pids, arrivalTimes, burstTimes, priorities)
+                : new Workload(pids, arrivalTimes, burstTimes);
+    }
+
+    /**
+     * Creates a scheduled `Workload` from `ProcessStats`, including their
+     * completion times.
+     *
+     * @param stats The scheduling results to copy into columns.
+     * @return A new `Workload`.
+     */
+    public static Workload ofStats(List<ProcessStats> stats) {
+        Workload workload = of(stats);
+        for (int i = 0; i < stats.size(); i++) {
+            workload.completionTimes[i] = stats.get(i).getCompletionTime();
+        }
+        return workload;
+    }
+
+    public int size() {
+        return completionTimes.length;
+    }
+
+    public int pid(int i) {
+        return pids.get(i);
+    }
+
+    public int arrivalTime(int i) {
+        return arrivalTimes.get(i);
+    }
+
+    public int burstTime(int i) {
+        return burstTimes.get(i);
+    }
+
+    public int priority(int i) {
+        return priorities == null ? ProcessInput.DEFAULT_PRIORITY : priorities.get(i);
+    }
+
+    /**
+     * Returns whether the workload has a priority column.
+     */
+    public boolean hasPriorities() {
+        return priorities != null;
+    }
+
+    public int completionTime(int i) {
+        return completionTimes[i];
+    }
+
+    public void setCompletionTime(int i, int completionTime) {
+        completionTimes[i] = completionTime;
+    }
+
+    public int turnaroundTime(int i) {
+        return completionTimes[i] - arrivalTimes.get(i);
+    }
+
+    public int waitingTime(int i) {
+        return turnaroundTime(i) - burstTimes.get(i);
+    }
+
+    /**
+     * Returns the positions of the processes sorted by arrival time, then by PID.
+     * Processes with equal arrival time and PID keep their input order.
+     *
+     * @return The positions in dispatch order for a first-come, first-served queue.
+     */
+    public int[] arrivalOrder() {
+        int n = size();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = IndexSort.key(arrivalTimes.get(i), pids.get(i));
+        }
+        return IndexSort.order(keys);
+    }
+
+    /**
+     * Converts the scheduled workload into `ProcessStats` objects in input order.
+     *
+     * @return A list of `ProcessStats` objects, one per process.
+     */
+    public List<ProcessStats> toStats() {
+        int n = size();
+        List<ProcessStats> stats = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ProcessStats s = new ProcessStats(pids.get(i), arrivalTimes.get(i), burstTimes.get(i), priority(i));
+            s.setCompletionTime(completionTimes[i]);
+            stats.add(s);
+        }
+        return stats;
+    }
+
+}
@@ -0,0 +1,120 @@
+package server;
+
+import implementation.MlfqScheduler;
+import implementation.PriorityScheduler;
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.Workload;
+import task.Scheduler;
+import util.WorkloadReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One parsed `/schedule` request waiting in the server's queue, together with
+ * the future its HTTP handler waits on.
+ * <p>
+ * The query parameters mirror the batch mode's options: `algorithm` (required),
+ * `quantum`, `levels`, `boost`, `aging` and `priorities`. The body is the same
+ * whitespace-separated text as a workload file.
+ */
+class ScheduleRequest {
+
+    private final CpuAlgo algorithm;
+    private final int timeQuantum;
+    private final Scheduler scheduler;
+    private final Workload workload;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private ScheduleRequest(CpuAlgo algorithm, int timeQuantum, Scheduler scheduler, Workload workload) {
+        this.algorithm = algorithm;
+        this.timeQuantum = timeQuantum;
+        this.scheduler = scheduler;
+        this.workload = workload;
+    }
+
+    /**
+     * Parses a request from its query parameters and body.
+     *
+     * @param parameters The decoded query parameters.
+     * @param body       The request body holding the workload text.
+     * @return The parsed request.
+     * @throws IllegalArgumentException If a parameter or the workload is invalid.
+     */
+    static ScheduleRequest parse(Map<String, String> parameters, byte[] body) {
+        String name = parameters.get("algorithm");
+        if (name == null) {
+            throw new IllegalArgumentException("Missing parameter: algorithm");
+        }
+        CpuAlgo algorithm = CpuAlgo.parse(name);
+        int timeQuantum = intParameter(parameters, "quantum", 0);
+        int levels = intParameter(parameters, "levels", MlfqScheduler.DEFAULT_LEVELS);
+        int boostInterval = intParameter(parameters, "boost", -1);
+        int agingInterval = intParameter(parameters, "aging", PriorityScheduler.DEFAULT_AGING_INTERVAL);
+        boolean priorities = Boolean.parseBoolean(parameters.getOrDefault("priorities", "false"));
+
+        Scheduler scheduler;
+        if (algorithm == CpuAlgo.MLFQ) {
+            scheduler = new MlfqScheduler(levels, timeQuantum,
+                    boostInterval >= 0 ? boostInterval : Schedulers.boostInterval(timeQuantum));
+        } else if (algorithm == CpuAlgo.PRIORITY_NON_PREEMPTIVE || algorithm == CpuAlgo.PRIORITY_PREEMPTIVE) {
+            scheduler = new PriorityScheduler(algorithm == CpuAlgo.PRIORITY_PREEMPTIVE, agingInterval);
+        } else {
+            scheduler = Schedulers.create(algorithm, timeQuantum);
+        }
+
+        Workload workload;
+        try {
+            workload = WorkloadReader.readText(new ByteArrayInputStream(body), priorities);
+        } catch (IOException e) {
+            // Reading from a byte array cannot fail
+            throw new UncheckedIOException(e);
+        }
+        return new ScheduleRequest(algorithm, timeQuantum, scheduler, workload);
+    }
+
+    private static int intParameter(Map<String, String> parameters, String name, int defaultValue) {
+        String text = parameters.get(name);
+        if (text == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for " + name + ": " + text);
+        }
+    }
+
+    CpuAlgo getAlgorithm() {
+        return algorithm;
+    }
+
+    int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    Workload getWorkload() {
+        return workload;
+    }
+
+    CompletableFuture<Void> getDone() {
+        return done;
+    }
+
+    /**
+     * Schedules the workload on the calling thread and completes the future.
+     */
+    void run() {
+        try {
+            scheduler.schedule(workload);
+            done.complete(null);
+        } catch (RuntimeException e) {
+            done.completeExceptionally(e);
+        }
+    }
+
+}
@@ -0,0 +1,288 @@
+package server;
+
+import cli.ResultWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import util.AsciiWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The `ScheduleServer` class serves the schedulers over HTTP on the JDK's
+ * built-in `HttpServer`, for clients that submit workloads programmatically.
+ * <p>
+ * Endpoints:
+ * <ul>
+ * <li>{@code POST /schedule?algorithm=A[&quantum=Q][&levels=L][&boost=S][&aging=I][&priorities=true]}
+ * with a workload in the text format of a workload file as the body. The
+ * response is the JSON of the batch mode's `--format json`: every process's
+ * statistics in input order followed by the summary metrics.</li>
+ * <li>{@code GET /metrics}: request counts, throughput and latency percentiles
+ * as JSON (see `ServerMetrics`).</li>
+ * </ul>
+ * <p>
+ * Each exchange is handled on its own virtual thread, which parses the request,
+ * puts it on a bounded queue and blocks until it is scheduled. A fixed set of
+ * worker threads drains the queue, so the CPU-bound work never runs on more
+ * threads than there are workers. Each time a worker wakes it takes every
+ * request already waiting, up to `maxBatchSize`, and schedules them one after
+ * another; this only saves queue hand-offs under load, as every request still
+ * runs its own scheduler. When the queue is full the request is rejected at once
+ * with `503 Service Unavailable` and a `Retry-After` header, so clients back off
+ * instead of piling up latency. Malformed requests get `400`, bodies over
+ * `maxBodyBytes` get `413`.
+ * <p>
+ * The JDK server writes the response headers and body separately, so with
+ * Nagle's algorithm on each response waits for the client's delayed ACK, about
+ * 40 ms. Launchers should set `NO_DELAY_PROPERTY` to `true` before creating the
+ * first server, as `ServeCommand` does, or pass
+ * {@code -Dsun.net.httpserver.nodelay=true}.
+ */
+public class ScheduleServer {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    public static final int DEFAULT_MAX_BODY_BYTES = 16 << 20;
+
+    /** The system property that disables Nagle's algorithm on the JDK server's sockets. */
+    public static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer http;
+    private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+    private final BlockingQueue<ScheduleRequest> queue;
+    private final Thread[] workers;
+    private final int maxBatchSize;
+    private final int maxBodyBytes;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile boolean running;
+
+    /**
+     * Constructs a `ScheduleServer` bound to the given address; it accepts
+     * requests once started.
+     *
+     * @param address       The address to listen on; port 0 picks a free port.
+     * @param workers       The number of threads scheduling requests.
+     * @param queueCapacity The number of requests that may wait for a worker.
+     * @param maxBatchSize  The most requests a worker takes from the queue per wake-up.
+     * @param maxBodyBytes  The largest accepted request body, in bytes.
+     * @throws IllegalArgumentException If a count is not positive.
+     * @throws IOException              If the address cannot be bound.
+     */
+    public ScheduleServer(InetSocketAddress address, int workers, int queueCapacity, int maxBatchSize,
+                          int maxBodyBytes) throws IOException {
+        if (workers <= 0 || queueCapacity <= 0 || maxBatchSize <= 0 || maxBodyBytes <= 0) {
+            throw new IllegalArgumentException("Workers, queue capacity, batch size and body size must be > 0: "
+                    + workers + ", " + queueCapacity + ", " + maxBatchSize + ", " + maxBodyBytes);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBodyBytes = maxBodyBytes;
+        this.workers = new Thread[workers];
+        for (int i = 0; i < workers; i++) {
+            this.workers[i] = new Thread(this::work, "schedule-worker-" + i);
+            this.workers[i].setDaemon(true);
+        }
+        this.http = HttpServer.create(address, 0);
+        http.setExecutor(handlers);
+        http.createContext("/schedule", this::handleSchedule);
+        http.createContext("/metrics", this::handleMetrics);
+    }
+
+    /**
+     * Starts the workers and begins accepting requests.
+     */
+    public void start() {
+        running = true;
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        http.start();
+    }
+
+    /**
+     * Stops accepting requests, fails every request still queued and stops the
+     * workers. The server cannot be restarted.
+     */
+    public void stop() {
+        http.stop(0);
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        List<ScheduleRequest> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (ScheduleRequest request : pending) {
+            request.getDone().completeExceptionally(new IllegalStateException("Server stopped"));
+        }
+        handlers.shutdown();
+        stopped.countDown();
+    }
+
+    /**
+     * Blocks until `stop` has been called.
+     *
+     * @throws InterruptedException If the calling thread is interrupted.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Returns the bound address, including the port picked when binding to port 0.
+     */
+    public InetSocketAddress getAddress() {
+        return http.getAddress();
+    }
+
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void work() {
+        List<ScheduleRequest> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Take whatever else is already waiting, up to a full batch
+            queue.drainTo(batch, maxBatchSize - 1);
+            metrics.recordBatch(batch.size());
+            for (ScheduleRequest request : batch) {
+                request.run();
+            }
+            batch.clear();
+        }
+    }
+
+    private void handleSchedule(HttpExchange exchange) throws IOException {
+        long received = System.nanoTime();
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                fail(exchange, 405, "Use POST");
+                return;
+            }
+            InputStream in = exchange.getRequestBody();
+            byte[] body = in.readNBytes(maxBodyBytes + 1);
+            if (body.length > maxBodyBytes) {
+                fail(exchange, 413, "Body exceeds " + maxBodyBytes + " bytes");
+                return;
+            }
+
+            ScheduleRequest request;
+            try {
+                request = ScheduleRequest.parse(parseQuery(exchange.getRequestURI().getRawQuery()), body);
+            } catch (IllegalArgumentException e) {
+                fail(exchange, 400, e.getMessage());
+                return;
+            }
+            if (!queue.offer(request)) {
+                metrics.recordRejected();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "Queue full");
+                return;
+            }
+
+            try {
+                request.getDone().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(exchange, 503, "Interrupted");
+                return;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                boolean invalid = cause instanceof IllegalArgumentException;
+                fail(exchange, invalid ? 400 : 503, cause.getMessage());
+                return;
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (AsciiWriter out = new AsciiWriter(bytes)) {
+                ResultWriter.writeJson(request.getWorkload(), request.getAlgorithm(), request.getTimeQuantum(), 1, out);
+            }
+            metrics.recordCompleted(request.getWorkload().size(), System.nanoTime() - received);
+            send(exchange, 200, bytes.toByteArray());
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                fail(exchange, 405, "Use GET");
+                return;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (AsciiWriter out = new AsciiWriter(bytes)) {
+                metrics.writeJson(queue.size(), out);
+            }
+            send(exchange, 200, bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Decodes a raw query string into its parameters; later values of a
+     * repeated name replace earlier ones.
+     */
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private void fail(HttpExchange exchange, int status, String message) throws IOException {
+        metrics.recordFailed();
+        sendError(exchange, status, message);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":\"");
+        String text = message == null ? "" : message;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c >= ' ' && c < 0x7F) {
+                json.append(c);
+            }
+        }
+        json.append("\"}\n");
+        send(exchange, status, json.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * The `ServeCommand` class implements the `serve` command-line mode: it runs a
+ * `ScheduleServer` until the process is terminated.
+ * <p>
+ * Usage: {@code serve [--host H] [--port P] [--workers N] [--queue N] [--batch N]
+ * [--max-body BYTES]}. The server listens on the loopback address unless
+ * `--host` is given, with one worker per available processor by default.
+ * Unless the launcher set `ScheduleServer.NO_DELAY_PROPERTY`, the mode turns
+ * Nagle's algorithm off before creating the server.
+ */
+public class ServeCommand {
+
+    private ServeCommand() {
+    }
+
+    /**
+     * Runs the serve mode.
+     *
+     * @param args The arguments following the `serve` keyword.
+     * @return The process exit code.
+     */
+    public static int run(String[] args) {
+        String host = "127.0.0.1";
+        int port = ScheduleServer.DEFAULT_PORT;
+        int workers = Runtime.getRuntime().availableProcessors();
+        int queueCapacity = ScheduleServer.DEFAULT_QUEUE_CAPACITY;
+        int maxBatchSize = ScheduleServer.DEFAULT_MAX_BATCH_SIZE;
+        int maxBodyBytes = ScheduleServer.DEFAULT_MAX_BODY_BYTES;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--host" -> host = value(args, ++i);
+                    case "--port" -> port = parseInt(value(args, ++i));
+                    case "--workers" -> workers = parseInt(value(args, ++i));
+                    case "--queue" -> queueCapacity = parseInt(value(args, ++i));
+                    case "--batch" -> maxBatchSize = parseInt(value(args, ++i));
+                    case "--max-body" -> maxBodyBytes = parseInt(value(args, ++i));
+                    default -> throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                }
+            }
+
+            if (System.getProperty(ScheduleServer.NO_DELAY_PROPERTY) == null) {
+                // Read once, when the first server is created
+                System.setProperty(ScheduleServer.NO_DELAY_PROPERTY, "true");
+            }
+            ScheduleServer server = new ScheduleServer(
+                    new InetSocketAddress(host, port), workers, queueCapacity, maxBatchSize, maxBodyBytes);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            server.start();
+            InetSocketAddress address = server.getAddress();
+            System.err.println("Listening on http://" + address.getHostString() + ":" + address.getPort()
+                    + " with " + workers + " workers");
+            server.awaitStop();
+            return 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid serve arguments: " + e.getMessage());
+            return 2;
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static int parseInt(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer: " + text);
+        }
+    }
+
+}
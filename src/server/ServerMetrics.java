@@ -0,0 +1,131 @@
+package server;
+
+import util.AsciiWriter;
+import util.Histogram;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `ServerMetrics` class counts the requests, batches and scheduled
+ * processes of a `ScheduleServer` and records the latency of every completed
+ * request, from its arrival to the start of its response, in microseconds.
+ * <p>
+ * Counters are `LongAdder`s, so handlers and workers update them without
+ * contending; the latency histogram is guarded by its own lock.
+ */
+public class ServerMetrics {
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder processes = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedRequests = new LongAdder();
+    private final Histogram latencies = new Histogram();
+
+    void recordCompleted(int processCount, long latencyNanos) {
+        completed.increment();
+        processes.add(processCount);
+        synchronized (latencies) {
+            latencies.record(latencyNanos / 1000);
+        }
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordFailed() {
+        failed.increment();
+    }
+
+    void recordBatch(int size) {
+        batches.increment();
+        batchedRequests.add(size);
+    }
+
+    /**
+     * Returns the number of requests answered with a schedule.
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the number of requests turned away because the queue was full.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with an error.
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getProcesses() {
+        return processes.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the total number of requests workers took from the queue.
+     */
+    public long getBatchedRequests() {
+        return batchedRequests.sum();
+    }
+
+    /**
+     * Returns the mean number of requests a worker took from the queue at once.
+     */
+    public double averageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) batchedRequests.sum() / count;
+    }
+
+    /**
+     * Returns a copy of the request latencies recorded so far, in microseconds.
+     */
+    public Histogram latencies() {
+        Histogram copy = new Histogram();
+        synchronized (latencies) {
+            copy.add(latencies);
+        }
+        return copy;
+    }
+
+    /**
+     * Writes the metrics as a JSON object.
+     *
+     * @param queueDepth The number of requests currently waiting in the queue.
+     * @param out        The writer receiving the object.
+     * @throws IOException If writing fails.
+     */
+    public void writeJson(int queueDepth, AsciiWriter out) throws IOException {
+        double seconds = Math.max(System.nanoTime() - startNanos, 1) / 1e9;
+        Histogram l = latencies();
+        out.write("{\"uptime_seconds\":").writeFixed(seconds, 3)
+                .write(",\"completed\":").writeLong(getCompleted())
+                .write(",\"rejected\":").writeLong(getRejected())
+                .write(",\"failed\":").writeLong(getFailed())
+                .write(",\"queue_depth\":").writeInt(queueDepth)
+                .write(",\"batches\":").writeLong(getBatches())
+                .write(",\"average_batch_size\":").writeFixed(averageBatchSize(), 2)
+                .write(",\"requests_per_second\":").writeFixed(getCompleted() / seconds, 2)
+                .write(",\"processes_per_second\":").writeFixed(getProcesses() / seconds, 2)
+                .write(",\"latency_us\":{\"mean\":").writeFixed(l.getMean(), 1)
+                .write(",\"p50\":").writeLong(l.percentile(50))
+                .write(",\"p99\":").writeLong(l.percentile(99))
+                .write(",\"p999\":").writeLong(l.percentile(99.9))
+                .write(",\"max\":").writeLong(l.getMax())
+                .write("}}").newLine();
+    }
+
+}
@@ -0,0 +1,45 @@
+package sweep;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * The `CsvResultSink` class writes each `SweepResult` as one CSV row, preceded
+ * by a header row.
+ */
+public class CsvResultSink implements ResultSink {
+
+    private final PrintStream out;
+    private boolean headerWritten;
+
+    public CsvResultSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(SweepResult result) {
+        if (!headerWritten) {
+            out.println("algorithm,quantum,arrival_scale,processes,avg_tat,avg_wt,"
+                    + "p50_wt,p95_wt,p99_wt,p999_wt,max_wt,fairness,makespan,elapsed_ms");
+            headerWritten = true;
+        }
+        SweepCell cell = result.getCell();
+        out.printf(Locale.ROOT, "%s,%d,%s,%d,%.2f,%.2f,%d,%d,%d,%d,%d,%.4f,%d,%.3f%n",
+                cell.getAlgorithm(),
+                cell.getTimeQuantum(),
+                cell.getArrivalScale(),
+                result.getProcessCount(),
+                result.getAverageTurnaroundTime(),
+                result.getAverageWaitingTime(),
+                result.getP50WaitingTime(),
+                result.getP95WaitingTime(),
+                result.getP99WaitingTime(),
+                result.getP999WaitingTime(),
+                result.getMaxWaitingTime(),
+                result.getFairnessIndex(),
+                result.getMakespan(),
+                result.getElapsedNanos() / 1e6);
+        out.flush();
+    }
+
+}
@@ -0,0 +1,11 @@
+package sweep;
+
+/**
+ * A `ResultSink` receives `SweepResult`s as soon as their cells finish.
+ * <p>
+ * `SweepRunner` never calls `accept` concurrently, so implementations do not
+ * need to be thread-safe.
+ */
+public interface ResultSink {
+    void accept(SweepResult result);
+}
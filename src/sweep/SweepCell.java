@@ -0,0 +1,111 @@
+package sweep;
+
+import implementation.Schedulers;
+import model.CpuAlgo;
+import model.Workload;
+import task.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `SweepCell` class describes one point of a parameter sweep: a scheduling
+ * algorithm, its time quantum, and a scaling factor applied to every arrival time.
+ * <p>
+ * A scaling factor above 1 spreads the arrivals out (a lower arrival rate), and a
+ * factor below 1 compresses them (a higher arrival rate).
+ */
+public class SweepCell {
+
+    private final CpuAlgo algorithm;
+    private final int timeQuantum;
+    private final double arrivalScale;
+
+    /**
+     * Constructs a `SweepCell`.
+     *
+     * @param algorithm    The scheduling algorithm.
+     * @param timeQuantum  The time quantum, used only by quantum-based algorithms.
+     * @param arrivalScale The factor applied to every arrival time.
+     * @throws IllegalArgumentException If the scaling factor is not positive.
+     */
+    public SweepCell(CpuAlgo algorithm, int timeQuantum, double arrivalScale) {
+        if (!(arrivalScale > 0)) {
+            throw new IllegalArgumentException("Arrival scale must be > 0: " + arrivalScale);
+        }
+        this.algorithm = algorithm;
+        this.timeQuantum = timeQuantum;
+        this.arrivalScale = arrivalScale;
+    }
+
+    /**
+     * Expands a grid of algorithms, quanta and arrival scales into cells.
+     * Algorithms that do not use a time quantum get one cell per scale.
+     *
+     * @param algorithms    The algorithms to sweep.
+     * @param quanta        The time quanta to sweep for quantum-based algorithms.
+     * @param arrivalScales The arrival scaling factors to sweep.
+     * @return The cells of the grid.
+     */
+    public static List<SweepCell> grid(List<CpuAlgo> algorithms, int[] quanta, double[] arrivalScales) {
+        List<SweepCell> cells = new ArrayList<>();
+        for (CpuAlgo algorithm : algorithms) {
+            for (double scale : arrivalScales) {
+                if (Schedulers.usesQuantum(algorithm)) {
+                    for (int quantum : quanta) {
+                        cells.add(new SweepCell(algorithm, quantum, scale));
+                    }
+                } else {
+                    cells.add(new SweepCell(algorithm, 0, scale));
+                }
+            }
+        }
+        return cells;
+    }
+
+    public CpuAlgo getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    public double getArrivalScale() {
+        return arrivalScale;
+    }
+
+    /**
+     * Creates the scheduler for this cell.
+     *
+     * @return A new `Scheduler`.
+     */
+    public Scheduler newScheduler() {
+        return Schedulers.create(algorithm, timeQuantum);
+    }
+
+    /**
+     * Derives this cell's workload from the shared base workload. The base
+     * workload's columns are never modified.
+     *
+     * @param base The shared input workload.
+     * @return A workload with scaled arrival times and its own completion column.
+     */
+    public Workload apply(Workload base) {
+        if (arrivalScale == 1.0) {
+            return base.copy();
+        }
+        int n = base.size();
+        int[] arrivalTimes = new int[n];
+        for (int i = 0; i < n; i++) {
+            arrivalTimes[i] = (int) Math.min(Integer.MAX_VALUE, Math.round(base.arrivalTime(i) * arrivalScale));
+        }
+        return base.withArrivalTimes(arrivalTimes);
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + (Schedulers.usesQuantum(algorithm) ? " q=" + timeQuantum : "") + " x" + arrivalScale;
+    }
+
+}
@@ -0,0 +1,94 @@
+package sweep;
+
+import model.CpuAlgo;
+import model.Workload;
+import util.WorkloadReader;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The `SweepCommand` class implements the `sweep` command-line mode: it reads a
+ * workload, expands a grid of algorithms, quanta and arrival scales, runs the
+ * grid with a `SweepRunner` and writes one CSV row per cell to standard output.
+ * <p>
+ * Usage: {@code sweep [--algorithms A,B,...] [--quanta Q1,Q2,...] [--scales S1,S2,...]
+ * [--threads N] [workload-file]}. Algorithms are given by name or menu number,
+ * as in the other modes. The workload is read from standard input when no file
+ * is given.
+ */
+public class SweepCommand {
+
+    private SweepCommand() {
+    }
+
+    /**
+     * Runs the sweep mode.
+     *
+     * @param args The arguments following the `sweep` keyword.
+     * @return The process exit code.
+     */
+    public static int run(String[] args) {
+        List<CpuAlgo> algorithms = List.of(CpuAlgo.values());
+        int[] quanta = {1, 2, 4, 8, 16};
+        double[] scales = {1.0};
+        int threads = Runtime.getRuntime().availableProcessors();
+        String file = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--algorithms" -> {
+                        algorithms = new ArrayList<>();
+                        for (String name : value(args, ++i).split(",")) {
+                            algorithms.add(CpuAlgo.parse(name.trim()));
+                        }
+                    }
+                    case "--quanta" -> quanta = Arrays.stream(value(args, ++i).split(","))
+                            .mapToInt(s -> Integer.parseInt(s.trim()))
+                            .toArray();
+                    case "--scales" -> scales = Arrays.stream(value(args, ++i).split(","))
+                            .mapToDouble(s -> Double.parseDouble(s.trim()))
+                            .toArray();
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                    default -> {
+                        if (args[i].startsWith("--") || file != null) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        file = args[i];
+                    }
+                }
+            }
+
+            Workload workload;
+            try (InputStream in = file == null ? System.in : new FileInputStream(file)) {
+                workload = WorkloadReader.readText(in);
+            }
+
+            List<SweepCell> cells = SweepCell.grid(algorithms, quanta, scales);
+            long start = System.nanoTime();
+            new SweepRunner(threads).run(workload, cells, new CsvResultSink(System.out));
+            System.err.printf("Swept %d cells over %d processes on %d threads in %.1f ms%n",
+                    cells.size(), workload.size(), threads, (System.nanoTime() - start) / 1e6);
+            return 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid sweep arguments: " + e.getMessage());
+            return 2;
+        } catch (IOException e) {
+            System.err.println("Could not read workload: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+}
@@ -0,0 +1,110 @@
+package sweep;
+
+import model.ScheduleStatistics;
+import model.Workload;
+
+/**
+ * The `SweepResult` class holds the aggregated metrics of one scheduled
+ * `SweepCell`: average turnaround and waiting times, waiting time percentiles,
+ * Jain's fairness index and the makespan.
+ * <p>
+ * The metrics come from a single pass of `ScheduleStatistics`, so the
+ * percentiles are within its sketch's 1% relative error; the maximum is exact.
+ */
+public class SweepResult {
+
+    private final SweepCell cell;
+    private final long processCount;
+    private final double averageTurnaroundTime;
+    private final double averageWaitingTime;
+    private final long p50WaitingTime;
+    private final long p95WaitingTime;
+    private final long p99WaitingTime;
+    private final long p999WaitingTime;
+    private final long maxWaitingTime;
+    private final double fairnessIndex;
+    private final long makespan;
+    private final long elapsedNanos;
+
+    private SweepResult(SweepCell cell, ScheduleStatistics statistics, long elapsedNanos) {
+        this.cell = cell;
+        this.processCount = statistics.getCount();
+        this.averageTurnaroundTime = statistics.getAverageTurnaroundTime();
+        this.averageWaitingTime = statistics.getAverageWaitingTime();
+        this.p50WaitingTime = statistics.waitingTimePercentile(50);
+        this.p95WaitingTime = statistics.waitingTimePercentile(95);
+        this.p99WaitingTime = statistics.waitingTimePercentile(99);
+        this.p999WaitingTime = statistics.waitingTimePercentile(99.9);
+        this.maxWaitingTime = statistics.getMaxWaitingTime();
+        this.fairnessIndex = statistics.getFairnessIndex();
+        this.makespan = statistics.getMakespan();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Aggregates the metrics of a scheduled workload.
+     *
+     * @param cell         The cell the workload was scheduled for.
+     * @param workload     The scheduled workload.
+     * @param elapsedNanos The wall-clock time spent scheduling.
+     * @return The aggregated result.
+     */
+    public static SweepResult of(SweepCell cell, Workload workload, long elapsedNanos) {
+        return new SweepResult(cell, ScheduleStatistics.of(workload), elapsedNanos);
+    }
+
+    public SweepCell getCell() {
+        return cell;
+    }
+
+    public long getProcessCount() {
+        return processCount;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return averageTurnaroundTime;
+    }
+
+    public double getAverageWaitingTime() {
+        return averageWaitingTime;
+    }
+
+    public long getP50WaitingTime() {
+        return p50WaitingTime;
+    }
+
+    public long getP95WaitingTime() {
+        return p95WaitingTime;
+    }
+
+    public long getP99WaitingTime() {
+        return p99WaitingTime;
+    }
+
+    public long getP999WaitingTime() {
+        return p999WaitingTime;
+    }
+
+    public long getMaxWaitingTime() {
+        return maxWaitingTime;
+    }
+
+    /**
+     * Returns Jain's fairness index over the processes' normalized progress.
+     */
+    public double getFairnessIndex() {
+        return fairnessIndex;
+    }
+
+    /**
+     * Returns the time from the first arrival to the last completion.
+     */
+    public long getMakespan() {
+        return makespan;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+}
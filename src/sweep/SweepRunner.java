@@ -0,0 +1,80 @@
+package sweep;
+
+import model.Workload;
+import task.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The `SweepRunner` class schedules one shared workload for every cell of a
+ * sweep, running the cells in parallel on a `ForkJoinPool`.
+ * <p>
+ * The input workload is never written to: each cell derives a workload that
+ * shares the input columns and owns only its completion column (and, when
+ * arrivals are scaled, its arrival column). Results are streamed to the sink in
+ * completion order.
+ */
+public class SweepRunner {
+
+    private final int parallelism;
+
+    /**
+     * Constructs a `SweepRunner` using the given number of worker threads.
+     *
+     * @param parallelism The number of cells scheduled concurrently.
+     * @throws IllegalArgumentException If the parallelism is not positive.
+     */
+    public SweepRunner(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be > 0: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs every cell against the workload and passes each result to the sink.
+     *
+     * @param workload The shared input workload.
+     * @param cells    The cells to run.
+     * @param sink     The sink receiving results as cells finish.
+     */
+    public void run(Workload workload, List<SweepCell> cells, ResultSink sink) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(cells.size());
+            for (SweepCell cell : cells) {
+                tasks.add(pool.submit(() -> {
+                    SweepResult result = runCell(workload, cell);
+                    synchronized (sink) {
+                        sink.accept(result);
+                    }
+                }));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Schedules a single cell on the calling thread.
+     *
+     * @param workload The shared input workload.
+     * @param cell     The cell to run.
+     * @return The aggregated result of the cell.
+     */
+    public static SweepResult runCell(Workload workload, SweepCell cell) {
+        Workload cellWorkload = cell.apply(workload);
+        Scheduler scheduler = cell.newScheduler();
+        long start = System.nanoTime();
+        scheduler.schedule(cellWorkload);
+        long elapsed = System.nanoTime() - start;
+        return SweepResult.of(cell, cellWorkload, elapsed);
+    }
+
+}
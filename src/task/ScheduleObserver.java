@@ -0,0 +1,123 @@
+package task;
+
+/**
+ * The `ScheduleObserver` interface receives the execution slices of a schedule
+ * as a scheduler simulates it, together with the scheduler's dispatches, idle
+ * gaps and the wall-clock boundaries of its phases.
+ * <p>
+ * Processes are identified by their position in the `Workload`. Slices are
+ * reported in order of their start time on each core, and a process that keeps
+ * the CPU across several events may be reported as several adjacent slices.
+ * Only `onSlice` must be implemented; the other callbacks default to doing
+ * nothing. Schedulers skip every callback when given `NONE`, so an unobserved
+ * run costs the same as before observers existed.
+ */
+@FunctionalInterface
+public interface ScheduleObserver {
+
+    /** An observer that ignores every callback. */
+    ScheduleObserver NONE = (core, process, start, length) -> {
+    };
+
+    /**
+     * The stages of a scheduling run whose wall-clock time is reported.
+     */
+    enum Phase {
+        /** Sorting the processes into arrival order. */
+        SORT,
+        /** Simulating the schedule. */
+        SIMULATE,
+        /** Converting the scheduled workload into result objects. */
+        COLLECT
+    }
+
+    /**
+     * Called when a process runs uninterrupted on a core.
+     *
+     * @param core    The core the process ran on; always 0 on a single CPU.
+     * @param process The position of the process in the workload.
+     * @param start   The time the slice started.
+     * @param length  The length of the slice, greater than 0.
+     */
+    void onSlice(int core, int process, int start, int length);
+
+    /**
+     * Called when a process is given a core, before its slice runs.
+     *
+     * @param core       The core the process is given.
+     * @param process    The position of the process in the workload.
+     * @param time       The dispatch time.
+     * @param readyCount The number of arrived processes still waiting for a core.
+     */
+    default void onDispatch(int core, int process, int time, int readyCount) {
+    }
+
+    /**
+     * Called when a core had nothing to run between two slices.
+     *
+     * @param core   The idle core.
+     * @param start  The time the core became idle.
+     * @param length The length of the idle gap, greater than 0.
+     */
+    default void onIdle(int core, int start, int length) {
+    }
+
+    /**
+     * Called when a phase of the run starts.
+     *
+     * @param phase The phase.
+     */
+    default void onPhaseStart(Phase phase) {
+    }
+
+    /**
+     * Called when a phase of the run ends.
+     *
+     * @param phase The phase.
+     */
+    default void onPhaseEnd(Phase phase) {
+    }
+
+    /**
+     * Returns an observer that forwards every callback to this observer, then to
+     * the given one.
+     *
+     * @param next The observer to call second.
+     * @return The combined observer.
+     */
+    default ScheduleObserver andThen(ScheduleObserver next) {
+        ScheduleObserver first = this;
+        return new ScheduleObserver() {
+            @Override
+            public void onSlice(int core, int process, int start, int length) {
+                first.onSlice(core, process, start, length);
+                next.onSlice(core, process, start, length);
+            }
+
+            @Override
+            public void onDispatch(int core, int process, int time, int readyCount) {
+                first.onDispatch(core, process, time, readyCount);
+                next.onDispatch(core, process, time, readyCount);
+            }
+
+            @Override
+            public void onIdle(int core, int start, int length) {
+                first.onIdle(core, start, length);
+                next.onIdle(core, start, length);
+            }
+
+            @Override
+            public void onPhaseStart(Phase phase) {
+                first.onPhaseStart(phase);
+                next.onPhaseStart(phase);
+            }
+
+            @Override
+            public void onPhaseEnd(Phase phase) {
+                first.onPhaseEnd(phase);
+                next.onPhaseEnd(phase);
+            }
+        };
+    }
+
+}
@@ -2,9 +2,72 @@ package task;
 
 import model.ProcessInput;
 import model.ProcessStats;
+import model.Workload;
 
 import java.util.List;
 
 public interface Scheduler {
-    List<ProcessStats> schedule(List<ProcessInput> processes);
+
+    /**
+     * Schedules the processes of the given workload and writes each process's
+     * completion time into the workload's completion column.
+     *
+     * @param workload The processes to be scheduled.
+     * @param observer The observer receiving every execution slice, or
+     *                 `ScheduleObserver.NONE`.
+     */
+    void schedule(Workload workload, ScheduleObserver observer);
+
+    /**
+     * Schedules the processes of the given workload without observing it.
+     *
+     * @param workload The processes to be scheduled.
+     */
+    default void schedule(Workload workload) {
+        schedule(workload, ScheduleObserver.NONE);
+    }
+
+    /**
+     * Returns a description of this scheduler's algorithm and of every parameter
+     * that affects its results. Two schedulers with equal configurations produce
+     * identical completion times for any workload, so the configuration can key
+     * cached results.
+     *
+     * @return The configuration; by default the class name, which suits
+     * schedulers without parameters.
+     */
+    default String configuration() {
+        return getClass().getName();
+    }
+
+    /**
+     * Schedules the given list of processes.
+     *
+     * @param processes A list of `ProcessInput` objects representing the processes
+     *                  to be scheduled.
+     * @return A list of `ProcessStats` objects containing the scheduling results
+     * for each process, in input order.
+     */
+    default List<ProcessStats> schedule(List<ProcessInput> processes) {
+        return schedule(processes, ScheduleObserver.NONE);
+    }
+
+    /**
+     * Schedules the given list of processes, reporting the run to an observer.
+     *
+     * @param processes A list of `ProcessInput` objects representing the processes
+     *                  to be scheduled.
+     * @param observer  The observer receiving the run's slices, dispatches and
+     *                  phases, including the final `COLLECT` phase.
+     * @return A list of `ProcessStats` objects containing the scheduling results
+     * for each process, in input order.
+     */
+    default List<ProcessStats> schedule(List<ProcessInput> processes, ScheduleObserver observer) {
+        Workload workload = Workload.of(processes);
+        schedule(workload, observer);
+        observer.onPhaseStart(ScheduleObserver.Phase.COLLECT);
+        List<ProcessStats> stats = workload.toStats();
+        observer.onPhaseEnd(ScheduleObserver.Phase.COLLECT);
+        return stats;
+    }
 }
@@ -0,0 +1,31 @@
+package task;
+
+import model.ProcessInput;
+
+/**
+ * A `StreamingScheduler` schedules an unbounded stream of processes incrementally.
+ * <p>
+ * Processes are submitted in non-decreasing arrival order, and each process's
+ * `ProcessStats` is delivered to the completion callback given at construction
+ * as soon as its completion time can no longer change. Memory is bounded by the
+ * processes that are waiting or running, not by the length of the stream, and
+ * the completion times match those of the batch `Scheduler` for the same
+ * algorithm.
+ */
+public interface StreamingScheduler {
+
+    /**
+     * Submits the next process of the stream.
+     *
+     * @param process The process to schedule.
+     * @throws IllegalArgumentException If the process arrives before a previously
+     *                                  submitted process.
+     * @throws IllegalStateException    If the stream has already been finished.
+     */
+    void submit(ProcessInput process);
+
+    /**
+     * Marks the end of the stream and delivers every remaining completion.
+     */
+    void finish();
+}
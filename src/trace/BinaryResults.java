@@ -0,0 +1,106 @@
+package trace;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The `BinaryResults` class reads and writes the completion times of a
+ * scheduled workload in a compact fixed-width binary format.
+ * <p>
+ * The layout follows `BinaryTrace`: a 16-byte header (magic `CPUR`, format
+ * version and record count), followed by the int32 completion time of every
+ * process in workload order, in little-endian order. The turnaround and waiting
+ * times follow from the workload's own columns, so they are not stored.
+ */
+public class BinaryResults {
+
+    /** The magic number `CPUR` read as a little-endian int. */
+    public static final int MAGIC = 0x52555043;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+
+    private static final long MAX_RECORDS = Integer.MAX_VALUE / Integer.BYTES;
+
+    private BinaryResults() {
+    }
+
+    /**
+     * Reads a results file.
+     *
+     * @param file The results file.
+     * @return The completion time of every process, in workload order.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a valid results file.
+     */
+    public static int[] read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException("Not a binary results file");
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Unsupported results version: " + header.getInt(4));
+            }
+            long count = header.getLong(8);
+            if (count < 0 || count > MAX_RECORDS || channel.size() != HEADER_BYTES + Integer.BYTES * count) {
+                throw new IllegalArgumentException(
+                        "Corrupt results: " + count + " records in " + channel.size() + " bytes");
+            }
+
+            int[] completionTimes = new int[(int) count];
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, count * Integer.BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(completionTimes);
+            return completionTimes;
+        }
+    }
+
+    /**
+     * Writes a results file.
+     * <p>
+     * The results are written to a temporary file in the same directory, forced
+     * to disk and then atomically moved over the target, so a reader sees either
+     * the previous file or the complete new one, never a partial file left by a
+     * crash or a concurrent writer.
+     *
+     * @param completionTimes The completion time of every process, in workload order.
+     * @param file            The file to create or replace.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(int[] completionTimes, Path file) throws IOException {
+        Path target = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            int n = completionTimes.length;
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putLong(n).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                long bytes = (long) n * Integer.BYTES;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES, bytes);
+                IntBuffer column = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                column.put(completionTimes);
+                buffer.force();
+                channel.force(false);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package trace;
+
+import model.Timeline;
+import model.Workload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The `BinaryTimeline` class writes a recorded `Timeline` in a compact
+ * fixed-width binary format.
+ * <p>
+ * The layout follows `BinaryTrace`: a 16-byte header (magic `CPUG`, format
+ * version and entry count), followed by the int32 core ID, PID, start time and
+ * length of every run-length encoded entry, stored column by column in
+ * little-endian order. Entries appear in the order they were recorded, which is
+ * start-time order on each core.
+ */
+public class BinaryTimeline {
+
+    /** The magic number `CPUG` read as a little-endian int. */
+    public static final int MAGIC = 0x47555043;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+
+    private BinaryTimeline() {
+    }
+
+    /**
+     * Writes a timeline to a file.
+     *
+     * @param timeline The recorded slices.
+     * @param workload The scheduled workload, used to look up PIDs.
+     * @param file     The file to create or replace.
+     * @throws IOException              If the file cannot be written.
+     * @throws IllegalArgumentException If the timeline is too large for one file.
+     */
+    public static void write(Timeline timeline, Workload workload, Path file) throws IOException {
+        int n = timeline.size();
+        if (n > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalArgumentException("Too many entries for one timeline: " + n);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(n).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+
+            IntBuffer cores = mapColumn(channel, n, 0);
+            IntBuffer pids = mapColumn(channel, n, 1);
+            IntBuffer starts = mapColumn(channel, n, 2);
+            IntBuffer lengths = mapColumn(channel, n, 3);
+            for (int i = 0; i < n; i++) {
+                cores.put(timeline.core(i));
+                pids.put(workload.pid(timeline.process(i)));
+                starts.put(timeline.start(i));
+                lengths.put(timeline.length(i));
+            }
+        }
+    }
+
+    private static IntBuffer mapColumn(FileChannel channel, int count, int column) throws IOException {
+        long bytes = (long) count * Integer.BYTES;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + column * bytes, bytes);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+}
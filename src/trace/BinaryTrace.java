@@ -0,0 +1,218 @@
+package trace;
+
+import model.ProcessInput;
+import model.Workload;
+import util.IntTokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * The `BinaryTrace` class reads and writes workloads in a compact fixed-width
+ * binary trace format.
+ * <p>
+ * A trace starts with a 16-byte header (magic `CPUT`, format version and record
+ * count), followed by the int32 PID, arrival time and burst time of every
+ * record. The three fields are stored column by column, all in little-endian
+ * order, so that `map` can expose each column of the file directly as a
+ * `Workload` column: loading a trace copies nothing and builds no
+ * `ProcessInput` objects, and pages are only read as a scheduler touches them.
+ */
+public class BinaryTrace {
+
+    /** The magic number `CPUT` read as a little-endian int. */
+    public static final int MAGIC = 0x54555043;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+
+    // Largest record count whose columns each fit in a single mapping
+    private static final long MAX_RECORDS = Integer.MAX_VALUE / Integer.BYTES;
+
+    private BinaryTrace() {
+    }
+
+    /**
+     * Memory-maps a trace file as a read-only `Workload`.
+     *
+     * @param file The trace file.
+     * @return A `Workload` whose input columns view the mapped file.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a valid trace.
+     */
+    public static Workload map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            int count = checkHeader(header.flip(), channel.size());
+
+            // The mappings stay valid after the channel is closed
+            return new Workload(
+                    mapColumn(channel, count, 0),
+                    mapColumn(channel, count, 1),
+                    mapColumn(channel, count, 2)
+            );
+        }
+    }
+
+    /**
+     * Returns whether the file starts with the trace magic number.
+     *
+     * @param file The file to check.
+     * @return `true` if the file looks like a binary trace.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isTrace(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // Keep reading until the magic number is complete or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Writes the input columns of a workload as a trace file.
+     *
+     * @param workload The workload to write.
+     * @param file     The trace file to create or replace.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Workload workload, Path file) throws IOException {
+        int n = workload.size();
+        try (FileChannel channel = create(file, n)) {
+            IntBuffer pids = mapColumnForWrite(channel, n, 0);
+            IntBuffer arrivalTimes = mapColumnForWrite(channel, n, 1);
+            IntBuffer burstTimes = mapColumnForWrite(channel, n, 2);
+            for (int i = 0; i < n; i++) {
+                pids.put(workload.pid(i));
+                arrivalTimes.put(workload.arrivalTime(i));
+                burstTimes.put(workload.burstTime(i));
+            }
+        }
+    }
+
+    /**
+     * Writes processes from an iterator as a trace file without holding them in
+     * memory.
+     *
+     * @param processes The processes to write; exactly `count` are consumed.
+     * @param count     The number of processes to write.
+     * @param file      The trace file to create or replace.
+     * @throws IOException              If the file cannot be written.
+     * @throws IllegalArgumentException If the count is too large for one trace or
+     *                                  the iterator ends early.
+     */
+    public static void write(Iterator<? extends ProcessInput> processes, int count, Path file) throws IOException {
+        if (count < 0 || count > MAX_RECORDS) {
+            throw new IllegalArgumentException("Invalid record count for one trace: " + count);
+        }
+        try (FileChannel channel = create(file, count)) {
+            IntBuffer pids = mapColumnForWrite(channel, count, 0);
+            IntBuffer arrivalTimes = mapColumnForWrite(channel, count, 1);
+            IntBuffer burstTimes = mapColumnForWrite(channel, count, 2);
+            for (int i = 0; i < count; i++) {
+                if (!processes.hasNext()) {
+                    throw new IllegalArgumentException("Expected " + count + " processes, got " + i);
+                }
+                ProcessInput process = processes.next();
+                pids.put(process.getPid());
+                arrivalTimes.put(process.getArrivalTime());
+                burstTimes.put(process.getBurstTime());
+            }
+        }
+    }
+
+    /**
+     * Converts whitespace-separated `PID ArrivalTime BurstTime` text into a trace
+     * file. The text is read twice (once to count the records, once to write them),
+     * so the conversion never holds the whole workload in memory.
+     *
+     * @param text  The text file to convert.
+     * @param trace The trace file to create or replace.
+     * @return The number of records written.
+     * @throws IOException              If a file cannot be read or written.
+     * @throws IllegalArgumentException If the text is not a list of integer triples.
+     */
+    public static int convertText(Path text, Path trace) throws IOException {
+        long values = 0;
+        try (InputStream in = Files.newInputStream(text)) {
+            IntTokenizer tokens = new IntTokenizer(in);
+            while (tokens.hasNext()) {
+                tokens.nextInt();
+                values++;
+            }
+        }
+        if (values % 3 != 0) {
+            throw new IllegalArgumentException("Expected PID ArrivalTime BurstTime triples");
+        }
+        if (values / 3 > MAX_RECORDS) {
+            throw new IllegalArgumentException("Too many records for one trace: " + values / 3);
+        }
+
+        int n = (int) (values / 3);
+        try (InputStream in = Files.newInputStream(text);
+             FileChannel channel = create(trace, n)) {
+            IntTokenizer tokens = new IntTokenizer(in);
+            IntBuffer pids = mapColumnForWrite(channel, n, 0);
+            IntBuffer arrivalTimes = mapColumnForWrite(channel, n, 1);
+            IntBuffer burstTimes = mapColumnForWrite(channel, n, 2);
+            for (int i = 0; i < n; i++) {
+                pids.put(tokens.nextInt());
+                arrivalTimes.put(tokens.nextInt());
+                burstTimes.put(tokens.nextInt());
+            }
+        }
+        return n;
+    }
+
+    private static int checkHeader(ByteBuffer header, long fileSize) {
+        if (header.remaining() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary trace file");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported trace version: " + header.getInt(4));
+        }
+        long count = header.getLong(8);
+        if (count < 0 || count > MAX_RECORDS || fileSize != HEADER_BYTES + 3 * Integer.BYTES * count) {
+            throw new IllegalArgumentException("Corrupt trace: " + count + " records in " + fileSize + " bytes");
+        }
+        return (int) count;
+    }
+
+    private static FileChannel create(Path file, int count) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        return channel;
+    }
+
+    private static IntBuffer mapColumn(FileChannel channel, int count, int column) throws IOException {
+        long bytes = (long) count * Integer.BYTES;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + column * bytes, bytes);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static IntBuffer mapColumnForWrite(FileChannel channel, int count, int column) throws IOException {
+        long bytes = (long) count * Integer.BYTES;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + column * bytes, bytes);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+}
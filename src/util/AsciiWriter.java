@@ -0,0 +1,211 @@
+package util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The `AsciiWriter` class writes ASCII text and decimal numbers into a reusable
+ * byte buffer that is flushed to an `OutputStream` when full.
+ * <p>
+ * Integers are rendered digit by digit straight into the buffer, so writing one
+ * allocates nothing, unlike `String.valueOf` or `printf`. `writeFixed` rounds
+ * from a `double`'s shortest decimal representation, which costs one short
+ * string per value.
+ */
+public class AsciiWriter implements Flushable, Closeable {
+
+    private static final byte[] MIN_LONG = "-9223372036854775808".getBytes();
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    public AsciiWriter(OutputStream out) {
+        this(out, 1 << 16);
+    }
+
+    public AsciiWriter(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(bufferSize, 32)];
+    }
+
+    /**
+     * Returns the number of characters in the decimal representation of a value,
+     * including the minus sign.
+     *
+     * @param value The value to measure.
+     * @return The width of the value when written.
+     */
+    public static int width(long value) {
+        if (value == Long.MIN_VALUE) {
+            return MIN_LONG.length;
+        }
+        int width = 1;
+        if (value < 0) {
+            width++;
+            value = -value;
+        }
+        while (value >= 10) {
+            value /= 10;
+            width++;
+        }
+        return width;
+    }
+
+    public AsciiWriter write(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * Writes a string, which must only contain ASCII characters.
+     */
+    public AsciiWriter write(String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            write(s.charAt(i));
+        }
+        return this;
+    }
+
+    public AsciiWriter writeInt(int value) throws IOException {
+        return writeLong(value);
+    }
+
+    public AsciiWriter writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            ensure(MIN_LONG.length);
+            System.arraycopy(MIN_LONG, 0, buffer, position, MIN_LONG.length);
+            position += MIN_LONG.length;
+            return this;
+        }
+        int width = width(value);
+        ensure(width);
+        if (value < 0) {
+            buffer[position] = '-';
+            value = -value;
+        }
+        // Fill the digits from the right
+        int end = position + width;
+        int i = end;
+        do {
+            buffer[--i] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+        return this;
+    }
+
+    /**
+     * Writes a value rounded to a fixed number of decimals, like `%.Nf`: the
+     * shortest decimal representation of the value, as `Double.toString` gives
+     * it, is rounded half-up, so 1.005 is written as `1.01` with two decimals
+     * even though the nearest `double` lies just below it. Unlike `%.Nf`, a
+     * negative value that rounds to zero is written without a minus sign.
+     *
+     * @param value    The value to write.
+     * @param decimals The number of digits after the decimal point, from 0 to 9.
+     */
+    public AsciiWriter writeFixed(double value, int decimals) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return write(Double.toString(value));
+        }
+
+        // Split the shortest representation into its digits and the position of
+        // the decimal point within them; it may use an exponent, as in 1.0E17
+        String text = Double.toString(Math.abs(value));
+        int exponentAt = text.indexOf('E');
+        String mantissa = exponentAt < 0 ? text : text.substring(0, exponentAt);
+        int exponent = exponentAt < 0 ? 0 : Integer.parseInt(text.substring(exponentAt + 1));
+        int dot = mantissa.indexOf('.');
+        int pointAt = dot + exponent; // Digits before the decimal point
+
+        // Keep the digits up to the last decimal, with one leading zero for a carry
+        // and zeros wherever the representation has no digit
+        int integerDigits = Math.max(pointAt, 1);
+        int kept = integerDigits + decimals;
+        byte[] digits = new byte[kept + 1];
+        for (int k = 0; k <= kept; k++) {
+            digits[k] = (byte) digitAt(mantissa, dot, pointAt - integerDigits + k - 1);
+        }
+
+        // Round half-up on the first dropped digit
+        if (digitAt(mantissa, dot, pointAt - integerDigits + kept) >= 5) {
+            int k = kept;
+            while (digits[k] == 9) {
+                digits[k--] = 0;
+            }
+            digits[k]++;
+        }
+
+        boolean zero = true;
+        for (byte digit : digits) {
+            zero &= digit == 0;
+        }
+        if (value < 0 && !zero) {
+            write('-');
+        }
+        // Skip the carry digit unless the rounding reached it
+        for (int k = digits[0] == 0 ? 1 : 0; k <= kept; k++) {
+            if (k == integerDigits + 1) {
+                write('.');
+            }
+            write((char) ('0' + digits[k]));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the digit at a position of a `Double.toString` mantissa, counting
+     * from the first digit and skipping the dot, or 0 outside the digits.
+     */
+    private static int digitAt(String mantissa, int dot, int index) {
+        if (index < 0) {
+            return 0;
+        }
+        int at = index < dot ? index : index + 1;
+        return at < mantissa.length() ? mantissa.charAt(at) - '0' : 0;
+    }
+
+    /**
+     * Writes `count` copies of a character.
+     */
+    public AsciiWriter repeat(char c, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            write(c);
+        }
+        return this;
+    }
+
+    public AsciiWriter newLine() throws IOException {
+        return write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+}
@@ -0,0 +1,74 @@
+package util;
+
+import model.Workload;
+
+/**
+ * The `Fingerprint` class computes a 64-bit hash of a workload's input columns
+ * (PIDs, arrival times, burst times and priorities) in one streaming pass.
+ * <p>
+ * Each value is mixed into the running state with a multiply and a rotate, and
+ * the final state goes through a full avalanche step, so any change to any value
+ * or to the order of the processes changes the fingerprint with overwhelming
+ * probability. The hash is not cryptographic; it keys caches, not security
+ * decisions.
+ */
+public class Fingerprint {
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+
+    private Fingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of the workload's input columns. The completion
+     * column is ignored.
+     *
+     * @param workload The workload.
+     * @return The 64-bit fingerprint.
+     */
+    public static long of(Workload workload) {
+        int n = workload.size();
+        long hash = PRIME_3 ^ (n * PRIME_1);
+        for (int i = 0; i < n; i++) {
+            hash = mix(hash, workload.pid(i));
+            hash = mix(hash, workload.arrivalTime(i));
+            hash = mix(hash, workload.burstTime(i));
+        }
+        if (workload.hasPriorities()) {
+            for (int i = 0; i < n; i++) {
+                hash = mix(hash, workload.priority(i));
+            }
+        }
+        return avalanche(hash);
+    }
+
+    /**
+     * Returns the 64-bit hash of a string, using the same mixing as `of`.
+     *
+     * @param text The string.
+     * @return The 64-bit hash.
+     */
+    public static long of(String text) {
+        long hash = PRIME_3 ^ (text.length() * PRIME_1);
+        for (int i = 0; i < text.length(); i++) {
+            hash = mix(hash, text.charAt(i));
+        }
+        return avalanche(hash);
+    }
+
+    private static long mix(long hash, int value) {
+        return Long.rotateLeft(hash ^ (value * PRIME_2), 31) * PRIME_1;
+    }
+
+    private static long avalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+}
@@ -0,0 +1,95 @@
+package util;
+
+import model.Timeline;
+import model.Workload;
+
+import java.io.IOException;
+
+/**
+ * The `GanttPrinter` class renders a recorded `Timeline` as a text Gantt chart:
+ * one bar of process cells per core with the slice boundary times underneath.
+ * <p>
+ * Each cell is labelled with the process's PID, and gaps in which a core had
+ * nothing to run are shown as `idle` cells. A chart for more than one core
+ * prefixes each bar with its core ID.
+ * <pre>
+ * | idle | P1 | P2 | P1 |
+ * 0      2    5    8    10
+ * </pre>
+ */
+public class GanttPrinter {
+
+    private static final String IDLE = "idle";
+
+    private GanttPrinter() {
+    }
+
+    /**
+     * Renders the chart of every core in the timeline.
+     *
+     * @param timeline The recorded slices.
+     * @param workload The scheduled workload, used to look up PIDs.
+     * @param out      The writer to render into. It is not flushed.
+     * @throws IOException If writing fails.
+     */
+    public static void print(Timeline timeline, Workload workload, AsciiWriter out) throws IOException {
+        int coreCount = timeline.getCoreCount();
+        if (coreCount == 0) {
+            out.write("No slices to display.").newLine();
+            return;
+        }
+        for (int core = 0; core < coreCount; core++) {
+            if (coreCount > 1) {
+                out.write("Core ").writeInt(core).write(':').newLine();
+            }
+            printBar(timeline, workload, core, out);
+            printTimes(timeline, workload, core, out);
+        }
+    }
+
+    private static void printBar(Timeline timeline, Workload workload, int core, AsciiWriter out)
+            throws IOException {
+        int time = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            if (timeline.core(i) != core) {
+                continue;
+            }
+            if (timeline.start(i) > time) {
+                out.write('|').write(' ').write(IDLE).repeat(' ', cellWidth(IDLE.length(), time) - IDLE.length() - 1);
+            }
+            int pid = workload.pid(timeline.process(i));
+            int labelWidth = 1 + AsciiWriter.width(pid);
+            out.write('|').write(' ').write('P').writeInt(pid)
+                    .repeat(' ', cellWidth(labelWidth, timeline.start(i)) - labelWidth - 1);
+            time = timeline.end(i);
+        }
+        out.write('|').newLine();
+    }
+
+    private static void printTimes(Timeline timeline, Workload workload, int core, AsciiWriter out)
+            throws IOException {
+        int time = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            if (timeline.core(i) != core) {
+                continue;
+            }
+            if (timeline.start(i) > time) {
+                out.writeInt(time).repeat(' ', cellWidth(IDLE.length(), time) + 1 - AsciiWriter.width(time));
+            }
+            int labelWidth = 1 + AsciiWriter.width(workload.pid(timeline.process(i)));
+            int start = timeline.start(i);
+            out.writeInt(start).repeat(' ', cellWidth(labelWidth, start) + 1 - AsciiWriter.width(start));
+            time = timeline.end(i);
+        }
+        out.writeInt(time).newLine();
+    }
+
+    /**
+     * Returns the width of a cell between two bars: the label with a space on
+     * each side, widened if needed so the start time fits underneath.
+     */
+    private static int cellWidth(int labelWidth, int start) {
+        return Math.max(labelWidth + 2, AsciiWriter.width(start));
+    }
+
+}
@@ -0,0 +1,191 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * The `Histogram` class records a distribution of non-negative `long` values in
+ * log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Values below `2^precisionBits` are counted exactly. Larger values share a
+ * bucket with the values that agree with them in their `precisionBits` most
+ * significant bits, so every reported percentile is within a relative error of
+ * `2^-(precisionBits - 1)` of the true value. Recording is a few bit operations
+ * and an array increment, the bucket array grows only as far as the largest
+ * recorded value, and histograms of the same precision can be merged, so each
+ * thread or run can record into its own histogram and be combined afterwards.
+ * The count, minimum, maximum and mean are exact.
+ */
+public class Histogram {
+
+    public static final int DEFAULT_PRECISION_BITS = 8;
+
+    private final int precisionBits;
+    private final int halfBucket; // Number of buckets per power of two above the exact range
+    private long[] counts;
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Constructs an empty `Histogram` with a relative error below 1%.
+     */
+    public Histogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Constructs an empty `Histogram`.
+     *
+     * @param precisionBits The number of significant bits kept per value, from 2 to 20.
+     * @throws IllegalArgumentException If the precision is out of range.
+     */
+    public Histogram(int precisionBits) {
+        if (precisionBits < 2 || precisionBits > 20) {
+            throw new IllegalArgumentException("Precision must be between 2 and 20 bits: " + precisionBits);
+        }
+        this.precisionBits = precisionBits;
+        this.halfBucket = 1 << (precisionBits - 1);
+        this.counts = new long[1 << precisionBits];
+    }
+
+    /**
+     * Records one occurrence of a value.
+     *
+     * @param value The value, at least 0.
+     * @throws IllegalArgumentException If the value is negative.
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records several occurrences of a value.
+     *
+     * @param value The value, at least 0.
+     * @param count The number of occurrences, at least 0.
+     * @throws IllegalArgumentException If the value or count is negative.
+     */
+    public void record(long value, long count) {
+        if (value < 0 || count < 0) {
+            throw new IllegalArgumentException("Value and count must be >= 0: " + value + " x " + count);
+        }
+        if (count == 0) {
+            return;
+        }
+        int index = indexOf(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + (counts.length >> 1)));
+        }
+        counts[index] += count;
+        totalCount += count;
+        sum += value * count;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every value recorded in another histogram to this one.
+     *
+     * @param other The histogram to merge in.
+     * @throws IllegalArgumentException If the precisions differ.
+     */
+    public void add(Histogram other) {
+        if (other.precisionBits != precisionBits) {
+            throw new IllegalArgumentException("Cannot merge histograms of different precision");
+        }
+        if (other.totalCount == 0) {
+            return;
+        }
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if the histogram is empty.
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the exact mean of the recorded values, or 0 if the histogram is empty.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the value at the given percentile: the highest value of the bucket
+     * holding the value of that rank, capped at the maximum.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile, or 0 if the histogram is empty.
+     * @throws IllegalArgumentException If the percentile is out of range.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    private int indexOf(long value) {
+        int shift = 64 - Long.numberOfLeadingZeros(value) - precisionBits;
+        if (shift <= 0) {
+            // Exact range: one bucket per value
+            return (int) value;
+        }
+        // The top precisionBits bits of the value, whose highest bit is always set
+        int top = (int) (value >>> shift);
+        return shift * halfBucket + top;
+    }
+
+    private long highestValueOf(int index) {
+        if (index < 2 * halfBucket) {
+            return index;
+        }
+        int shift = index / halfBucket - 1;
+        long top = index - (long) shift * halfBucket;
+        return ((top + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,241 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * The `IndexSort` class sorts positions by primitive `long` keys without
+ * boxing or `Comparator` calls.
+ * <p>
+ * The sort is a stable bottom-up merge sort, so positions with equal keys keep
+ * their original relative order, matching `List.sort` on the equivalent objects.
+ * `parallelOrder` produces the same order with the block sorts and merges spread
+ * over a `ForkJoinPool`.
+ */
+public class IndexSort {
+
+    private static final int INSERTION_THRESHOLD = 32;
+    /** The smallest block `parallelOrder` sorts on its own. */
+    private static final int PARALLEL_MIN_BLOCK = 1 << 13;
+
+    private IndexSort() {
+    }
+
+    /**
+     * Returns the positions `0..keys.length - 1` ordered by ascending key.
+     *
+     * @param keys The sort key of each position. The array is not modified.
+     * @return The positions in ascending key order, ties in ascending position order.
+     */
+    public static int[] order(long[] keys) {
+        int n = keys.length;
+        long[] k = keys.clone();
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = i;
+        }
+        long[] kBuf = new long[n > INSERTION_THRESHOLD ? n : 0];
+        int[] pBuf = new int[n > INSERTION_THRESHOLD ? n : 0];
+        return sortRange(k, p, kBuf, pBuf, 0, n) ? pBuf : p;
+    }
+
+    /**
+     * Returns the same order as `order`, sorting blocks of the keys and then
+     * merging pairs of sorted runs on the given pool. Each merge is split into
+     * pieces at binary-searched positions, so every level of merging keeps all
+     * workers busy.
+     *
+     * @param keys The sort key of each position. The array is not modified.
+     * @param pool The pool running the block sorts and merges.
+     * @return The positions in ascending key order, ties in ascending position order.
+     */
+    public static int[] parallelOrder(long[] keys, ForkJoinPool pool) {
+        int n = keys.length;
+        int blocks = Integer.highestOneBit(Math.min(pool.getParallelism() * 4, n / PARALLEL_MIN_BLOCK));
+        if (blocks <= 1) {
+            return order(keys);
+        }
+        long[] k = new long[n];
+        int[] p = new int[n];
+        long[] kBuf = new long[n];
+        int[] pBuf = new int[n];
+
+        // Sort each block, leaving the sorted block in the primary buffers
+        invokeAll(pool, blocks, b -> {
+            int lo = bound(b, blocks, n);
+            int hi = bound(b + 1, blocks, n);
+            for (int i = lo; i < hi; i++) {
+                k[i] = keys[i];
+                p[i] = i;
+            }
+            if (sortRange(k, p, kBuf, pBuf, lo, hi)) {
+                System.arraycopy(kBuf, lo, k, lo, hi - lo);
+                System.arraycopy(pBuf, lo, p, lo, hi - lo);
+            }
+        });
+
+        // Merge pairs of runs until one is left, splitting each merge into
+        // enough pieces that every level has one task per block
+        long[] kIn = k;
+        int[] pIn = p;
+        long[] kOut = kBuf;
+        int[] pOut = pBuf;
+        for (int runs = blocks; runs > 1; runs >>= 1) {
+            int blocksPerRun = blocks / runs;
+            int pieces = blocksPerRun * 2;
+            long[] kFrom = kIn;
+            int[] pFrom = pIn;
+            long[] kTo = kOut;
+            int[] pTo = pOut;
+            invokeAll(pool, blocks, t -> {
+                int pair = t / pieces;
+                int lo = bound(pair * pieces, blocks, n);
+                int mid = bound(pair * pieces + blocksPerRun, blocks, n);
+                int hi = bound((pair + 1) * pieces, blocks, n);
+                mergePiece(kFrom, pFrom, kTo, pTo, lo, mid, hi, t % pieces, pieces);
+            });
+            kIn = kTo;
+            pIn = pTo;
+            kOut = kFrom;
+            pOut = pFrom;
+        }
+        return pIn;
+    }
+
+    /**
+     * Packs two `int` values into a `long` whose signed order is the order of
+     * `high`, then of `low`.
+     *
+     * @param high The primary sort value.
+     * @param low  The secondary sort value.
+     * @return The packed key.
+     */
+    public static long key(int high, int low) {
+        return ((long) high << 32) | ((low ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Sorts `lo..hi` of the primary buffers, using the same range of the second
+     * buffers for merging.
+     *
+     * @return Whether the sorted range ended up in the second buffers.
+     */
+    private static boolean sortRange(long[] k, int[] p, long[] kBuf, int[] pBuf, int lo, int hi) {
+        // Sort short runs in place with insertion sort
+        for (int start = lo; start < hi; start += INSERTION_THRESHOLD) {
+            insertionSort(k, p, start, Math.min(start + INSERTION_THRESHOLD, hi));
+        }
+
+        // Merge runs of doubling width, alternating between the two buffers
+        boolean swapped = false;
+        for (int width = INSERTION_THRESHOLD; width < hi - lo; width <<= 1) {
+            for (int start = lo; start < hi; start += width << 1) {
+                int mid = Math.min(start + width, hi);
+                int end = Math.min(start + (width << 1), hi);
+                merge(k, p, kBuf, pBuf, start, mid, end);
+            }
+            long[] kSwap = k;
+            k = kBuf;
+            kBuf = kSwap;
+            int[] pSwap = p;
+            p = pBuf;
+            pBuf = pSwap;
+            swapped = !swapped;
+        }
+        return swapped;
+    }
+
+    private static void insertionSort(long[] k, int[] p, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            long key = k[i];
+            int pos = p[i];
+            int j = i - 1;
+            while (j >= lo && k[j] > key) {
+                k[j + 1] = k[j];
+                p[j + 1] = p[j];
+                j--;
+            }
+            k[j + 1] = key;
+            p[j + 1] = pos;
+        }
+    }
+
+    private static void merge(long[] k, int[] p, long[] kOut, int[] pOut, int lo, int mid, int hi) {
+        int i = lo;
+        int j = mid;
+        for (int out = lo; out < hi; out++) {
+            // Take from the left run on ties to keep the sort stable
+            if (j >= hi || (i < mid && k[i] <= k[j])) {
+                kOut[out] = k[i];
+                pOut[out] = p[i++];
+            } else {
+                kOut[out] = k[j];
+                pOut[out] = p[j++];
+            }
+        }
+    }
+
+    /**
+     * Merges piece `piece` of `pieces` of the sorted runs `lo..mid` and `mid..hi`
+     * into the output buffers. The left run is split evenly; the matching split
+     * in the right run is its first key not less than the left key at the split,
+     * so equal keys still come from the left run first.
+     */
+    private static void mergePiece(long[] k, int[] p, long[] kOut, int[] pOut,
+                                   int lo, int mid, int hi, int piece, int pieces) {
+        int i = lo + bound(piece, pieces, mid - lo);
+        int iEnd = lo + bound(piece + 1, pieces, mid - lo);
+        int j = piece == 0 ? mid : lowerBound(k, mid, hi, k[i]);
+        int jEnd = piece == pieces - 1 ? hi : lowerBound(k, mid, hi, k[iEnd]);
+        for (int out = i + (j - mid); i < iEnd || j < jEnd; out++) {
+            if (j >= jEnd || (i < iEnd && k[i] <= k[j])) {
+                kOut[out] = k[i];
+                pOut[out] = p[i++];
+            } else {
+                kOut[out] = k[j];
+                pOut[out] = p[j++];
+            }
+        }
+    }
+
+    /**
+     * Returns the first index in the sorted range `lo..hi` whose key is not less
+     * than the given key, or `hi` if there is none.
+     */
+    private static int lowerBound(long[] k, int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (k[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the start of part `part` of `parts` equal parts of `0..n`.
+     */
+    private static int bound(int part, int parts, int n) {
+        return (int) ((long) part * n / parts);
+    }
+
+    /**
+     * Runs `body` for every index `0..count - 1` on the pool and waits for all of them.
+     */
+    private static void invokeAll(ForkJoinPool pool, int count, IntConsumer body) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks.add(pool.submit(() -> body.accept(index)));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+}
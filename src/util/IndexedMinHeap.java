@@ -0,0 +1,169 @@
+package util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The `IndexedMinHeap` class is a binary min-heap of integer ids in
+ * `[0, capacity)`, each with a primitive `long` key that can be changed while
+ * the id is in the heap.
+ * <p>
+ * An id-to-position index makes `set` on an id already in the heap an
+ * O(log n) sift instead of a removal and reinsertion.
+ */
+public class IndexedMinHeap {
+
+    private final int[] heap;     // heap slot -> id
+    private final int[] position; // id -> heap slot, or -1 if absent
+    private final long[] keys;    // id -> key
+    private int size;
+
+    /**
+     * Constructs an empty `IndexedMinHeap` for ids in `[0, capacity)`.
+     *
+     * @param capacity The number of distinct ids.
+     */
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return position[id] >= 0;
+    }
+
+    /**
+     * Returns the key of an id in the heap.
+     */
+    public long key(int id) {
+        if (position[id] < 0) {
+            throw new NoSuchElementException("Id not in heap: " + id);
+        }
+        return keys[id];
+    }
+
+    /**
+     * Inserts an id with the given key, or changes its key if already present.
+     *
+     * @param id  The id, in `[0, capacity)`.
+     * @param key The new key.
+     */
+    public void set(int id, long key) {
+        int slot = position[id];
+        if (slot < 0) {
+            keys[id] = key;
+            heap[size] = id;
+            position[id] = size;
+            siftUp(size++);
+        } else {
+            long old = keys[id];
+            keys[id] = key;
+            if (key < old) {
+                siftUp(slot);
+            } else {
+                siftDown(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the id with the smallest key without removing it.
+     *
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the smallest key without removing its id.
+     *
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public long peekKey() {
+        return keys[peek()];
+    }
+
+    /**
+     * Removes and returns the id with the smallest key.
+     *
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public int poll() {
+        int id = peek();
+        remove(id);
+        return id;
+    }
+
+    /**
+     * Removes an id from the heap if present.
+     *
+     * @param id The id to remove.
+     */
+    public void remove(int id) {
+        int slot = position[id];
+        if (slot < 0) {
+            return;
+        }
+        position[id] = -1;
+        int last = heap[--size];
+        if (slot < size) {
+            heap[slot] = last;
+            position[last] = slot;
+            siftUp(slot);
+            siftDown(position[last]);
+        }
+    }
+
+    private void siftUp(int slot) {
+        int id = heap[slot];
+        long key = keys[id];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            int parentId = heap[parent];
+            if (keys[parentId] <= key) {
+                break;
+            }
+            heap[slot] = parentId;
+            position[parentId] = slot;
+            slot = parent;
+        }
+        heap[slot] = id;
+        position[id] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int id = heap[slot];
+        long key = keys[id];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = (slot << 1) + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            int childId = heap[child];
+            if (key <= keys[childId]) {
+                break;
+            }
+            heap[slot] = childId;
+            position[childId] = slot;
+            slot = child;
+        }
+        heap[slot] = id;
+        position[id] = slot;
+    }
+
+}
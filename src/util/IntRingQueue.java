@@ -0,0 +1,118 @@
+package util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The `IntRingQueue` class is a growable first-in, first-out queue of primitive
+ * `int` values backed by a circular array.
+ * <p>
+ * Unlike `ArrayDeque<Integer>`, offering and polling never box values, so a
+ * ready queue that cycles the same indices allocates nothing once its capacity
+ * has been reached.
+ */
+public class IntRingQueue {
+
+    private int[] elements;
+    private int head; // Slot of the first element
+    private int size;
+
+    /**
+     * Constructs an empty `IntRingQueue`.
+     *
+     * @param initialCapacity The number of values the queue can hold before growing.
+     */
+    public IntRingQueue(int initialCapacity) {
+        // A power-of-two capacity lets slots wrap with a mask instead of a modulo
+        this.elements = new int[Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds a value at the tail of the queue.
+     */
+    public void offer(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Adds a value at the head of the queue, ahead of every queued value.
+     */
+    public void offerFirst(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    /**
+     * Returns the value at the head of the queue without removing it.
+     *
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return elements[head];
+    }
+
+    /**
+     * Removes and returns the value at the head of the queue.
+     *
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the value at the given distance from the head without removing it.
+     *
+     * @param index The distance from the head, in `[0, size)`.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * Removes all values while keeping the allocated capacity.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length << 1];
+        // Unwrap the circular contents so the head lands in slot 0
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+}
@@ -0,0 +1,133 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The `IntTokenizer` class reads whitespace-separated decimal integers, as
+ * `int`s or `long`s, from an `InputStream` through a reusable byte buffer.
+ * <p>
+ * Digits are accumulated directly from the bytes, so no `String`, `Scanner` or
+ * regular expression is involved and parsing allocates nothing per token.
+ */
+public class IntTokenizer {
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[1 << 16];
+    private int position;
+    private int limit;
+
+    public IntTokenizer(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Skips whitespace and returns whether another token follows.
+     *
+     * @return `true` if a token is available.
+     * @throws IOException If reading fails.
+     */
+    public boolean hasNext() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return false;
+            }
+            if (buffer[position] > ' ') {
+                return true;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Reads the next token as an `int`.
+     *
+     * @return The parsed value.
+     * @throws IOException              If reading fails.
+     * @throws IllegalArgumentException If there is no token, or it is not a valid `int`.
+     */
+    public int nextInt() throws IOException {
+        if (!hasNext()) {
+            throw new IllegalArgumentException("Unexpected end of input");
+        }
+
+        boolean negative = buffer[position] == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (position < limit || fill()) {
+            byte b = buffer[position];
+            if (b <= ' ') {
+                break;
+            }
+            if (b < '0' || b > '9') {
+                throw new IllegalArgumentException("Invalid integer character: '" + (char) b + "'");
+            }
+            value = value * 10 + (b - '0');
+            if (value > (negative ? 1L + Integer.MAX_VALUE : Integer.MAX_VALUE)) {
+                throw new IllegalArgumentException("Integer out of range");
+            }
+            digits++;
+            position++;
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("Invalid integer: '-'");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * Reads the next token as a `long`.
+     *
+     * @return The parsed value.
+     * @throws IOException              If reading fails.
+     * @throws IllegalArgumentException If there is no token, or it is not a valid `long`.
+     */
+    public long nextLong() throws IOException {
+        if (!hasNext()) {
+            throw new IllegalArgumentException("Unexpected end of input");
+        }
+
+        boolean negative = buffer[position] == '-';
+        if (negative) {
+            position++;
+        }
+        // Accumulate negatively, as `Long.parseLong` does, so `Long.MIN_VALUE` fits
+        long bound = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        int digits = 0;
+        while (position < limit || fill()) {
+            byte b = buffer[position];
+            if (b <= ' ') {
+                break;
+            }
+            if (b < '0' || b > '9') {
+                throw new IllegalArgumentException("Invalid integer character: '" + (char) b + "'");
+            }
+            int digit = b - '0';
+            if (value < bound / 10 || value * 10 < bound + digit) {
+                throw new IllegalArgumentException("Integer out of range");
+            }
+            value = value * 10 - digit;
+            digits++;
+            position++;
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("Invalid integer: '-'");
+        }
+        return negative ? value : -value;
+    }
+
+    private boolean fill() throws IOException {
+        limit = in.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+}
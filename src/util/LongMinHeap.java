@@ -0,0 +1,107 @@
+package util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The `LongMinHeap` class is a growable binary min-heap of primitive `long` keys.
+ * <p>
+ * Schedulers pack their ordering criteria into a single `long` (for example a
+ * burst time in the high 32 bits and a process index in the low 32 bits), so the
+ * heap never boxes values or calls a `Comparator`.
+ */
+public class LongMinHeap {
+
+    private long[] keys;
+    private int size;
+
+    /**
+     * Constructs an empty `LongMinHeap` with the specified initial capacity.
+     *
+     * @param initialCapacity The number of keys the heap can hold before growing.
+     */
+    public LongMinHeap(int initialCapacity) {
+        this.keys = new long[Math.max(initialCapacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds a key to the heap.
+     *
+     * @param key The key to add.
+     */
+    public void push(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+        }
+        // Sift the new key up from the last slot
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            i = parent;
+        }
+        keys[i] = key;
+    }
+
+    /**
+     * Returns the smallest key without removing it.
+     *
+     * @return The smallest key in the heap.
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the smallest key.
+     *
+     * @return The smallest key in the heap.
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        long min = keys[0];
+        long last = keys[--size];
+        // Sift the last key down from the root
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (last <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            i = child;
+        }
+        keys[i] = last;
+        return min;
+    }
+
+    /**
+     * Removes all keys while keeping the allocated capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+}
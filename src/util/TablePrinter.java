@@ -1,85 +1,408 @@
 package util;
 
+import model.LongWorkload;
 import model.ProcessStats;
+import model.ScheduleStatistics;
+import model.SchedulerMetrics;
+import model.Workload;
+import task.ScheduleObserver;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.function.ToIntFunction;
+import java.util.Locale;
 
+/**
+ * The `TablePrinter` class renders scheduling results as a text table followed
+ * by the average turnaround and waiting times.
+ * <p>
+ * Column widths and the averages are computed in a single pass, measuring the
+ * widths arithmetically, and rows are rendered into the reusable buffer of an
+ * `AsciiWriter`. A `Page` limits the rendered rows to the first or last rows, or
+ * to the averages alone, so printing a huge result set stays bounded.
+ * <p>
+ * The averages can be followed by the tail, fairness and utilization figures
+ * of `ScheduleStatistics`, and, when a run was observed by a `SchedulerMetrics`,
+ * by its counters, distributions and phase timings.
+ */
 public class TablePrinter {
 
+    private static final String[] HEADERS = {
+            "PID", "Arrival Time", "Burst Time",
+            "Completion Time", "Turnaround Time", "Waiting Time"
+    };
+
     public static void print(List<ProcessStats> processes) {
+        print(processes, System.out);
+    }
+
+    public static void print(List<ProcessStats> processes, PrintStream out) {
         if (processes.isEmpty()) {
-            System.out.println("No processes to display.");
+            out.println("No processes to display.");
             return;
         }
+        try {
+            AsciiWriter writer = new AsciiWriter(nonClosing(out));
+            print(Workload.ofStats(processes), writer, Page.all());
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Prints the results followed by a summary of the run's metrics.
+     *
+     * @param processes The scheduling results.
+     * @param metrics   The metrics recorded while scheduling.
+     * @param out       The stream to print to.
+     */
+    public static void print(List<ProcessStats> processes, SchedulerMetrics metrics, PrintStream out) {
+        print(processes, out);
+        try {
+            AsciiWriter writer = new AsciiWriter(nonClosing(out));
+            printMetrics(metrics, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        String[] headers = {
-                "PID", "Arrival Time", "Burst Time",
-                "Completion Time", "Turnaround Time", "Waiting Time"
-        };
-        int[] widths = new int[headers.length];
+    /**
+     * Renders the rows selected by the page, the averages over all rows and a
+     * summary of the run's metrics.
+     *
+     * @param workload The scheduled workload.
+     * @param out      The writer to render into. It is not flushed.
+     * @param page     The rows to render.
+     * @param metrics  The metrics recorded while scheduling.
+     * @throws IOException If writing fails.
+     */
+    public static void print(Workload workload, AsciiWriter out, Page page, SchedulerMetrics metrics)
+            throws IOException {
+        print(workload, out, page);
+        printMetrics(metrics, out);
+    }
+
+    /**
+     * Renders the waiting and turnaround time tails, Jain's fairness index, the
+     * throughput and the CPU utilization.
+     *
+     * @param statistics The statistics of the scheduled processes.
+     * @param cores      The number of cores the processes were scheduled on.
+     * @param out        The writer to render into. It is not flushed.
+     * @throws IOException If writing fails.
+     */
+    public static void printStatistics(ScheduleStatistics statistics, int cores, AsciiWriter out)
+            throws IOException {
+        out.write("Waiting Time Percentiles: p50 ").writeLong(statistics.waitingTimePercentile(50))
+                .write(", p90 ").writeLong(statistics.waitingTimePercentile(90))
+                .write(", p99 ").writeLong(statistics.waitingTimePercentile(99))
+                .write(", p99.9 ").writeLong(statistics.waitingTimePercentile(99.9))
+                .write(", max ").writeLong(statistics.getMaxWaitingTime())
+                .newLine();
+        out.write("Turnaround Time Percentiles: p50 ").writeLong(statistics.turnaroundTimePercentile(50))
+                .write(", p90 ").writeLong(statistics.turnaroundTimePercentile(90))
+                .write(", p99 ").writeLong(statistics.turnaroundTimePercentile(99))
+                .write(", p99.9 ").writeLong(statistics.turnaroundTimePercentile(99.9))
+                .write(", max ").writeLong(statistics.getMaxTurnaroundTime())
+                .newLine();
+        out.write("Fairness Index (Jain): ").writeFixed(statistics.getFairnessIndex(), 4).newLine();
+        out.write("Throughput: ").writeFixed(statistics.getThroughput(), 6).write(" processes per time unit")
+                .newLine();
+        out.write("CPU Utilization: ").writeFixed(statistics.getUtilization(cores) * 100, 2).write('%').newLine();
+    }
+
+    /**
+     * Renders the counters, distributions and phase timings of a run.
+     *
+     * @param metrics The metrics recorded while scheduling.
+     * @param out     The writer to render into. It is not flushed.
+     * @throws IOException If writing fails.
+     */
+    public static void printMetrics(SchedulerMetrics metrics, AsciiWriter out) throws IOException {
+        out.write("Dispatches: ").writeLong(metrics.getDispatches()).newLine();
+        out.write("Context Switches: ").writeLong(metrics.getContextSwitches()).newLine();
+        out.write("Busy Time: ").writeLong(metrics.getBusyTime()).newLine();
+        out.write("Idle Time: ").writeLong(metrics.getIdleTime()).newLine();
+        distribution(out, "Ready Queue Length", metrics.getReadyQueueLengths());
+        distribution(out, "Slice Length", metrics.getSliceLengths());
+        distribution(out, "Turnaround Time", metrics.getTurnaroundTimes());
+        distribution(out, "Waiting Time", metrics.getWaitingTimes());
+
+        // Only the phases the scheduler reported
+        boolean anyPhase = false;
+        for (ScheduleObserver.Phase phase : ScheduleObserver.Phase.values()) {
+            long nanos = metrics.getPhaseNanos(phase);
+            if (nanos > 0) {
+                out.write(anyPhase ? ", " : "Phase Times: ").write(phase.name().toLowerCase(Locale.ROOT))
+                        .write(' ').writeFixed(nanos / 1e6, 3).write(" ms");
+                anyPhase = true;
+            }
+        }
+        if (anyPhase) {
+            out.newLine();
+        }
+    }
+
+    private static void distribution(AsciiWriter out, String name, Histogram histogram) throws IOException {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        out.write(name).write(": mean ").writeFixed(histogram.getMean(), 2)
+                .write(", p50 ").writeLong(histogram.percentile(50))
+                .write(", p95 ").writeLong(histogram.percentile(95))
+                .write(", p99 ").writeLong(histogram.percentile(99))
+                .write(", max ").writeLong(histogram.getMax())
+                .newLine();
+    }
+
+    /**
+     * Renders the rows selected by the page and the averages over all rows.
+     *
+     * @param workload The scheduled workload.
+     * @param out      The writer to render into. It is not flushed.
+     * @param page     The rows to render.
+     * @throws IOException If writing fails.
+     */
+    public static void print(Workload workload, AsciiWriter out, Page page) throws IOException {
+        print(workload.size(), new Rows() {
+            @Override
+            public int pid(int i) {
+                return workload.pid(i);
+            }
+
+            @Override
+            public long arrivalTime(int i) {
+                return workload.arrivalTime(i);
+            }
+
+            @Override
+            public long burstTime(int i) {
+                return workload.burstTime(i);
+            }
+
+            @Override
+            public long completionTime(int i) {
+                return workload.completionTime(i);
+            }
+        }, out, page);
+    }
+
+    /**
+     * Renders the rows of a `LongWorkload` selected by the page and the averages
+     * over all rows, like `print(Workload, AsciiWriter, Page)`.
+     *
+     * @param workload The scheduled workload.
+     * @param out      The writer to render into. It is not flushed.
+     * @param page     The rows to render.
+     * @throws IOException If writing fails.
+     */
+    public static void print(LongWorkload workload, AsciiWriter out, Page page) throws IOException {
+        print(workload.size(), new Rows() {
+            @Override
+            public int pid(int i) {
+                return workload.pid(i);
+            }
+
+            @Override
+            public long arrivalTime(int i) {
+                return workload.arrivalTime(i);
+            }
+
+            @Override
+            public long burstTime(int i) {
+                return workload.burstTime(i);
+            }
+
+            @Override
+            public long completionTime(int i) {
+                return workload.completionTime(i);
+            }
+        }, out, page);
+    }
+
+    private static void print(int n, Rows rows, AsciiWriter out, Page page) throws IOException {
+        if (n == 0) {
+            out.write("No processes to display.").newLine();
+            return;
+        }
+
+        int first = page.firstRow(n);
+        int last = page.lastRow(n);  // exclusive
 
         // Initialize widths with header lengths
-        for (int i = 0; i < headers.length; i++) {
-            widths[i] = headers[i].length();
-        }
-
-        // Update widths based on data
-        updateWidths(widths, 0, processes, p -> p.getPid());
-        updateWidths(widths, 1, processes, p -> p.getArrivalTime());
-        updateWidths(widths, 2, processes, p -> p.getBurstTime());
-        updateWidths(widths, 3, processes, p -> p.getCompletionTime());
-        updateWidths(widths, 4, processes, p -> p.getTurnaroundTime());
-        updateWidths(widths, 5, processes, p -> p.getWaitingTime());
-
-        int totalWidth = 0;
-        for (int w : widths) {
-            totalWidth += w + 3; // 3 for padding and separator
-        }
-        String line = "-".repeat(Math.max(totalWidth, 10));
-
-        // Print header
-        System.out.println(line);
-        for (int i = 0; i < headers.length; i++) {
-            System.out.printf("%-" + widths[i] + "s | ", headers[i]);
-        }
-        System.out.println();
-        System.out.println(line);
-
-        // Print rows in provided order
-        double sumTAT = 0;
-        double sumWT = 0;
-        for (ProcessStats p : processes) {
-            System.out.printf("%-" + widths[0] + "d | ", p.getPid());
-            System.out.printf("%-" + widths[1] + "d | ", p.getArrivalTime());
-            System.out.printf("%-" + widths[2] + "d | ", p.getBurstTime());
-            System.out.printf("%-" + widths[3] + "d | ", p.getCompletionTime());
-            System.out.printf("%-" + widths[4] + "d | ", p.getTurnaroundTime());
-            System.out.printf("%-" + widths[5] + "d | ", p.getWaitingTime());
-            System.out.println();
-            sumTAT += p.getTurnaroundTime();
-            sumWT += p.getWaitingTime();
-        }
-
-        System.out.println(line);
-
-        double averageTAT = sumTAT / processes.size();
-        double averageWT = sumWT / processes.size();
-        System.out.printf("Average Turnaround Time: %.2f\n", averageTAT);
-        System.out.printf("Average Waiting Time: %.2f\n", averageWT);
+        int[] widths = new int[HEADERS.length];
+        for (int i = 0; i < HEADERS.length; i++) {
+            widths[i] = HEADERS[i].length();
+        }
+
+        // Measure the rendered rows and sum every row in one pass
+        Sum sumTAT = new Sum();
+        Sum sumWT = new Sum();
+        for (int i = 0; i < n; i++) {
+            long turnaroundTime = rows.completionTime(i) - rows.arrivalTime(i);
+            long waitingTime = turnaroundTime - rows.burstTime(i);
+            sumTAT.add(turnaroundTime);
+            sumWT.add(waitingTime);
+            if (i >= first && i < last) {
+                widths[0] = Math.max(widths[0], AsciiWriter.width(rows.pid(i)));
+                widths[1] = Math.max(widths[1], AsciiWriter.width(rows.arrivalTime(i)));
+                widths[2] = Math.max(widths[2], AsciiWriter.width(rows.burstTime(i)));
+                widths[3] = Math.max(widths[3], AsciiWriter.width(rows.completionTime(i)));
+                widths[4] = Math.max(widths[4], AsciiWriter.width(turnaroundTime));
+                widths[5] = Math.max(widths[5], AsciiWriter.width(waitingTime));
+            }
+        }
+
+        if (first < last) {
+            int totalWidth = 0;
+            for (int w : widths) {
+                totalWidth += w + 3; // 3 for padding and separator
+            }
+            int lineWidth = Math.max(totalWidth, 10);
+
+            // Print header
+            out.repeat('-', lineWidth).newLine();
+            for (int i = 0; i < HEADERS.length; i++) {
+                out.write(HEADERS[i]).repeat(' ', widths[i] - HEADERS[i].length()).write(" | ");
+            }
+            out.newLine();
+            out.repeat('-', lineWidth).newLine();
+
+            if (first > 0) {
+                out.write("... ").writeInt(first).write(" earlier rows omitted").newLine();
+            }
+            // Print rows in provided order
+            for (int i = first; i < last; i++) {
+                cell(out, rows.pid(i), widths[0]);
+                cell(out, rows.arrivalTime(i), widths[1]);
+                cell(out, rows.burstTime(i), widths[2]);
+                long turnaroundTime = rows.completionTime(i) - rows.arrivalTime(i);
+                cell(out, rows.completionTime(i), widths[3]);
+                cell(out, turnaroundTime, widths[4]);
+                cell(out, turnaroundTime - rows.burstTime(i), widths[5]);
+                out.newLine();
+            }
+            if (last < n) {
+                out.write("... ").writeInt(n - last).write(" later rows omitted").newLine();
+            }
+
+            out.repeat('-', lineWidth).newLine();
+        }
+
+        out.write("Average Turnaround Time: ").writeFixed(sumTAT.mean(n), 2).newLine();
+        out.write("Average Waiting Time: ").writeFixed(sumWT.mean(n), 2).newLine();
+    }
+
+    private static void cell(AsciiWriter out, long value, int width) throws IOException {
+        out.writeLong(value).repeat(' ', width - AsciiWriter.width(value)).write(" | ");
+    }
+
+    private static OutputStream nonClosing(PrintStream out) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() {
+                out.flush();
+            }
+        };
+    }
+
+    /**
+     * The stored columns of a result table, read from either workload layout;
+     * the turnaround and waiting times follow from them.
+     */
+    private interface Rows {
+        int pid(int i);
+
+        long arrivalTime(int i);
+
+        long burstTime(int i);
+
+        long completionTime(int i);
     }
 
-    private static void updateWidths(
-            int[] widths,
-            int index,
-            List<ProcessStats> stats,
-            ToIntFunction<ProcessStats> function
-    ) {
-        for (ProcessStats p : stats) {
-            widths[index] = Math.max(
-                    widths[index],
-                    String.valueOf(function.applyAsInt(p)).length()
-            );
+    /**
+     * A sum of `long` times that stays exact while it fits in a `long` and moves
+     * the running total into a `double` whenever the next addition would overflow,
+     * as sums of `long` times can.
+     */
+    private static final class Sum {
+        private long exact;
+        private double overflow;
+
+        private void add(long value) {
+            long sum = exact + value;
+            if (((exact ^ sum) & (value ^ sum)) < 0) {
+                overflow += exact;
+                sum = value;
+            }
+            exact = sum;
+        }
+
+        private double mean(int n) {
+            return (overflow + exact) / n;
+        }
+    }
+
+    /**
+     * The `Page` class selects which rows of a result table are rendered.
+     */
+    public static class Page {
+
+        private final int head;
+        private final int tail;
+
+        private Page(int head, int tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        /** Renders every row. */
+        public static Page all() {
+            return new Page(Integer.MAX_VALUE, 0);
+        }
+
+        /** Renders the first `rows` rows. */
+        public static Page head(int rows) {
+            return new Page(requireNonNegative(rows), 0);
+        }
+
+        /** Renders the last `rows` rows. */
+        public static Page tail(int rows) {
+            return new Page(0, requireNonNegative(rows));
+        }
+
+        /** Renders only the averages. */
+        public static Page summaryOnly() {
+            return new Page(0, 0);
+        }
+
+        private int firstRow(int n) {
+            return head > 0 ? 0 : Math.max(n - tail, 0);
+        }
+
+        private int lastRow(int n) {
+            return head > 0 ? Math.min(head, n) : n;
+        }
+
+        private static int requireNonNegative(int rows) {
+            if (rows < 0) {
+                throw new IllegalArgumentException("Row count must be >= 0: " + rows);
+            }
+            return rows;
         }
     }
 }
@@ -0,0 +1,222 @@
+package util;
+
+import model.LongWorkload;
+import model.Workload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * The `WorkloadReader` class reads a `Workload` from whitespace-separated text
+ * holding one `PID ArrivalTime BurstTime` triple per process, or one
+ * `PID ArrivalTime BurstTime Priority` quadruple when priorities are included.
+ * `readAdaptiveText` switches to a `LongWorkload` when the times pass the `int`
+ * range.
+ */
+public class WorkloadReader {
+
+    private WorkloadReader() {
+    }
+
+    /**
+     * Reads all process triples from the given stream.
+     *
+     * @param in The stream to read. It is not closed.
+     * @return A `Workload` holding the processes in input order.
+     * @throws IOException              If reading fails.
+     * @throws IllegalArgumentException If a token is not an integer or the last
+     *                                  triple is incomplete.
+     */
+    public static Workload readText(InputStream in) throws IOException {
+        return readText(in, false);
+    }
+
+    /**
+     * Reads all process triples, or quadruples with a trailing priority, from the
+     * given stream.
+     *
+     * @param in         The stream to read. It is not closed.
+     * @param priorities Whether every process has a fourth value, its priority.
+     * @return A `Workload` holding the processes in input order.
+     * @throws IOException              If reading fails.
+     * @throws IllegalArgumentException If a token is not an integer or the last
+     *                                  process is incomplete.
+     */
+    public static Workload readText(InputStream in, boolean priorities) throws IOException {
+        IntTokenizer tokens = new IntTokenizer(in);
+        String expected = priorities
+                ? "Expected PID ArrivalTime BurstTime Priority quadruples"
+                : "Expected PID ArrivalTime BurstTime triples";
+        int[] pids = new int[1024];
+        int[] arrivalTimes = new int[1024];
+        int[] burstTimes = new int[1024];
+        int[] priorityColumn = new int[priorities ? 1024 : 0];
+        int n = 0;
+
+        while (tokens.hasNext()) {
+            if (n == pids.length) {
+                pids = Arrays.copyOf(pids, n << 1);
+                arrivalTimes = Arrays.copyOf(arrivalTimes, n << 1);
+                burstTimes = Arrays.copyOf(burstTimes, n << 1);
+                if (priorities) {
+                    priorityColumn = Arrays.copyOf(priorityColumn, n << 1);
+                }
+            }
+            pids[n] = tokens.nextInt();
+            if (!tokens.hasNext()) {
+                throw new IllegalArgumentException(expected);
+            }
+            arrivalTimes[n] = tokens.nextInt();
+            if (!tokens.hasNext()) {
+                throw new IllegalArgumentException(expected);
+            }
+            burstTimes[n] = tokens.nextInt();
+            if (priorities) {
+                if (!tokens.hasNext()) {
+                    throw new IllegalArgumentException(expected);
+                }
+                priorityColumn[n] = tokens.nextInt();
+            }
+            n++;
+        }
+
+        if (priorities) {
+            return new Workload(
+                    Arrays.copyOf(pids, n),
+                    Arrays.copyOf(arrivalTimes, n),
+                    Arrays.copyOf(burstTimes, n),
+                    Arrays.copyOf(priorityColumn, n)
+            );
+        }
+        return new Workload(
+                Arrays.copyOf(pids, n),
+                Arrays.copyOf(arrivalTimes, n),
+                Arrays.copyOf(burstTimes, n)
+        );
+    }
+
+    /**
+     * Reads all process triples from the given stream into the narrowest columns
+     * that hold them.
+     * <p>
+     * The triples are read into `int` columns, as by `readText`, for as long as
+     * every time fits in an `int` and the latest arrival plus the total positive
+     * burst time, which bounds every completion time, stays within
+     * `Integer.MAX_VALUE`, the condition of `LongWorkload.fitsInt`. At the first
+     * triple that breaks it, the time columns read so far are widened to `long`
+     * in one copy and reading continues into them, so a workload that fits never
+     * holds `long` columns at all.
+     *
+     * @param in The stream to read. It is not closed.
+     * @return The processes in input order, in a `Workload` if their schedules fit
+     *         in `int` times, otherwise in a `LongWorkload`.
+     * @throws IOException              If reading fails.
+     * @throws IllegalArgumentException If a PID is not an integer, a time is not
+     *                                  a long, or the last triple is incomplete.
+     */
+    public static TextWorkload readAdaptiveText(InputStream in) throws IOException {
+        IntTokenizer tokens = new IntTokenizer(in);
+        String expected = "Expected PID ArrivalTime BurstTime triples";
+        int[] pids = new int[1024];
+        int[] arrivalTimes = new int[1024];
+        int[] burstTimes = new int[1024];
+        long[] wideArrivalTimes = null;
+        long[] wideBurstTimes = null;
+        long maxArrival = 0;
+        long totalBurst = 0;
+        int n = 0;
+
+        while (tokens.hasNext()) {
+            if (n == pids.length) {
+                pids = Arrays.copyOf(pids, n << 1);
+                if (wideArrivalTimes == null) {
+                    arrivalTimes = Arrays.copyOf(arrivalTimes, n << 1);
+                    burstTimes = Arrays.copyOf(burstTimes, n << 1);
+                } else {
+                    wideArrivalTimes = Arrays.copyOf(wideArrivalTimes, n << 1);
+                    wideBurstTimes = Arrays.copyOf(wideBurstTimes, n << 1);
+                }
+            }
+            pids[n] = tokens.nextInt();
+            if (!tokens.hasNext()) {
+                throw new IllegalArgumentException(expected);
+            }
+            long arrivalTime = tokens.nextLong();
+            if (!tokens.hasNext()) {
+                throw new IllegalArgumentException(expected);
+            }
+            long burstTime = tokens.nextLong();
+
+            if (wideArrivalTimes == null) {
+                maxArrival = Math.max(maxArrival, arrivalTime);
+                totalBurst += Math.max(burstTime, 0);
+                if (arrivalTime == (int) arrivalTime && burstTime == (int) burstTime
+                        && totalBurst <= Integer.MAX_VALUE && maxArrival + totalBurst <= Integer.MAX_VALUE) {
+                    arrivalTimes[n] = (int) arrivalTime;
+                    burstTimes[n] = (int) burstTime;
+                    n++;
+                    continue;
+                }
+                // Some schedule may pass the int range from here on, so widen once
+                wideArrivalTimes = new long[pids.length];
+                wideBurstTimes = new long[pids.length];
+                for (int i = 0; i < n; i++) {
+                    wideArrivalTimes[i] = arrivalTimes[i];
+                    wideBurstTimes[i] = burstTimes[i];
+                }
+                arrivalTimes = null;
+                burstTimes = null;
+            }
+            wideArrivalTimes[n] = arrivalTime;
+            wideBurstTimes[n] = burstTime;
+            n++;
+        }
+
+        if (wideArrivalTimes != null) {
+            return new TextWorkload(null, new LongWorkload(
+                    Arrays.copyOf(pids, n),
+                    Arrays.copyOf(wideArrivalTimes, n),
+                    Arrays.copyOf(wideBurstTimes, n)
+            ));
+        }
+        return new TextWorkload(new Workload(
+                Arrays.copyOf(pids, n),
+                Arrays.copyOf(arrivalTimes, n),
+                Arrays.copyOf(burstTimes, n)
+        ), null);
+    }
+
+    /**
+     * The result of `readAdaptiveText`: either a compact `Workload` or, when its
+     * times need it, a `LongWorkload`.
+     */
+    public static final class TextWorkload {
+        private final Workload workload;
+        private final LongWorkload wideWorkload;
+
+        private TextWorkload(Workload workload, LongWorkload wideWorkload) {
+            this.workload = workload;
+            this.wideWorkload = wideWorkload;
+        }
+
+        public boolean isWide() {
+            return wideWorkload != null;
+        }
+
+        /**
+         * Returns the compact workload, or `null` if the workload is wide.
+         */
+        public Workload getWorkload() {
+            return workload;
+        }
+
+        /**
+         * Returns the wide workload, or `null` if the workload fits in `int` times.
+         */
+        public LongWorkload getWideWorkload() {
+            return wideWorkload;
+        }
+    }
+
+}